@@ -0,0 +1,411 @@
+package com.sooscode.analyzer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 단일 패스 Java 소스 분석기
+ * - 주석 / 문자열 / 문자 / 텍스트 블록 리터럴을 구분하는 렉서로 코드를 한 번만 순회
+ * - 라인 수, 금지 구문, 유니코드 이스케이프, main 개수, main 을 포함한 클래스를 함께 수집
+ * <p>
+ * 금지 구문 검사
+ * - 코드 토큰만 정규화하여 이어붙인 스트림 위에서 Aho-Corasick 로 모든 패턴을 동시에 매칭
+ * - 정규화 : 공백/주석 제거, 단어 토큰 사이에만 공백 1칸, 리터럴은 따옴표 1글자로 치환
+ *   (System . exit → System.exit / new   Thread → new Thread / while ( true ) → while(true))
+ * - 패턴도 같은 규칙으로 정규화되므로 "while (true)" 처럼 써도 됨
+ * - 기존 정규식과 같이 부분 문자열 매칭 (Socket 은 ServerSocket 에도 걸림)
+ * <p>
+ * 유니코드 이스케이프는 javac 가 렉싱 전에 치환하여 주석/문자열 밖으로 코드를 숨길 수 있으므로
+ * 주석/리터럴 안이라도 항상 보고함
+ * <p>
+ * 생성 후에는 불변 → 싱글턴으로 공유 가능 (thread-safe)
+ */
+public final class JavaSourceAnalyzer {
+
+    // 패턴 문자 범위 (ASCII), 범위 밖 문자는 루트로 복귀
+    private static final int ALPHABET = 128;
+
+    // 리터럴 자리에 넣는 문자
+    private static final char LITERAL_PLACEHOLDER = '"';
+
+    private static final int CODE = 0;
+    private static final int LINE_COMMENT = 1;
+    private static final int BLOCK_COMMENT = 2;
+    private static final int STRING = 3;
+    private static final int CHAR = 4;
+    private static final int TEXT_BLOCK = 5;
+
+    // 직전 토큰 종류 (main / class 선언 판별용)
+    private static final int PREV_OTHER = 0;
+    private static final int PREV_DOT = 1;
+    private static final int PREV_VOID = 2;
+    private static final int PREV_MAIN = 3;
+
+    // ASCII 식별자 문자 (렉싱 hot path 에서 Character 조회 생략)
+    private static final boolean[] ASCII_WORD = new boolean[ALPHABET];
+
+    static {
+        for (char c = 0; c < ALPHABET; c++) {
+            ASCII_WORD[c] = Character.isJavaIdentifierPart(c) && !Character.isIdentifierIgnorable(c);
+        }
+    }
+
+    private final List<String> patterns;
+
+    // Aho-Corasick DFA : goTo[state][char] → 다음 상태
+    private final int[][] goTo;
+
+    // 상태별 매칭되는 패턴 번호 (실패 링크를 따라 합친 결과)
+    private final int[][] output;
+
+    public JavaSourceAnalyzer(List<String> patterns) {
+        List<String> normalized = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            String value = normalize(pattern);
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern: '" + pattern + "'");
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= ALPHABET) {
+                    throw new IllegalArgumentException("Pattern must be ASCII: " + pattern);
+                }
+            }
+            normalized.add(value);
+        }
+        this.patterns = List.copyOf(normalized);
+
+        // 1. 트라이 구성
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> outputs = new ArrayList<>();
+        trie.add(newNode());
+        outputs.add(new int[0]);
+
+        for (int p = 0; p < this.patterns.size(); p++) {
+            String pattern = this.patterns.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newNode());
+                    outputs.add(new int[0]);
+                }
+                state = trie.get(state)[c];
+            }
+            outputs.set(state, append(outputs.get(state), p));
+        }
+
+        // 2. BFS 로 실패 링크 계산 + 전이 테이블을 DFA 로 채움
+        int[] fail = new int[trie.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int c = 0; c < ALPHABET; c++) {
+            if (root[c] < 0) {
+                root[c] = 0;
+            } else {
+                fail[root[c]] = 0;
+                queue.add(root[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] node = trie.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = node[c];
+                if (next < 0) {
+                    node[c] = trie.get(fail[state])[c];
+                } else {
+                    fail[next] = trie.get(fail[state])[c];
+                    outputs.set(next, merge(outputs.get(next), outputs.get(fail[next])));
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.goTo = trie.toArray(new int[0][]);
+        this.output = outputs.toArray(new int[0][]);
+    }
+
+    /**
+     * 소스 분석 (null 은 빈 문자열로 취급)
+     */
+    public SourceAnalysis analyze(String code) {
+        if (code == null) code = "";
+        int n = code.length();
+
+        // 라인
+        int line = 0;
+        int lastContentLine = -1;
+
+        // 금지 구문
+        int acState = 0;
+        boolean[] matched = new boolean[patterns.size()];
+        List<String> forbidden = new ArrayList<>(0);
+
+        boolean unicodeEscape = false;
+
+        // 토큰
+        int state = CODE;
+        int wordStart = -1;
+        boolean lastWasWord = false;
+        int prev = PREV_OTHER;
+
+        // main / class 구조
+        int mainCount = 0;
+        String entryClass = null;
+        boolean publicSeen = false;
+        boolean staticSeen = false;
+        String pendingClass = null;
+        boolean expectClassName = false;
+        int depth = 0;
+        Deque<String> classNames = new ArrayDeque<>();
+        Deque<Integer> classDepths = new ArrayDeque<>();
+
+        for (int i = 0; i <= n; i++) {
+            char c = i < n ? code.charAt(i) : '\n';
+
+            // 1. 단어 토큰 종료 처리 (식별자 / 키워드 / 숫자)
+            if (wordStart >= 0 && (i == n || !isWordChar(c))) {
+                int start = wordStart;
+                wordStart = -1;
+
+                if (expectClassName) {
+                    pendingClass = code.substring(start, i);
+                    expectClassName = false;
+                    prev = PREV_OTHER;
+                } else if (is(code, start, i, "public")) {
+                    publicSeen = true;
+                    prev = PREV_OTHER;
+                } else if (is(code, start, i, "static")) {
+                    staticSeen = true;
+                    prev = PREV_OTHER;
+                } else if (is(code, start, i, "void")) {
+                    prev = PREV_VOID;
+                } else if (is(code, start, i, "main")) {
+                    prev = prev == PREV_VOID ? PREV_MAIN : PREV_OTHER;
+                } else if (prev != PREV_DOT && isTypeKeyword(code, start, i)) {
+                    expectClassName = true;
+                    prev = PREV_OTHER;
+                } else {
+                    prev = PREV_OTHER;
+                }
+            }
+            if (i == n) break;
+
+            // 2. 라인 수 (\r\n 은 1줄)
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' || i == 0 || code.charAt(i - 1) != '\r') line++;
+            } else {
+                lastContentLine = line;
+            }
+
+            // 3. 유니코드 이스케이프 (주석/리터럴 포함 어디서든)
+            if (c == '\\' && !unicodeEscape && isUnicodeEscape(code, i)) {
+                unicodeEscape = true;
+            }
+
+            // 4. 상태별 렉싱
+            switch (state) {
+                case LINE_COMMENT -> {
+                    if (c == '\n' || c == '\r') state = CODE;
+                    continue;
+                }
+                case BLOCK_COMMENT -> {
+                    if (c == '*' && i + 1 < n && code.charAt(i + 1) == '/') {
+                        i++;
+                        state = CODE;
+                    }
+                    continue;
+                }
+                case STRING, CHAR -> {
+                    char quote = state == STRING ? '"' : '\'';
+                    if (c == '\\' && i + 1 < n && !isLineBreak(code.charAt(i + 1))) {
+                        i++;
+                    } else if (c == quote || isLineBreak(c)) {
+                        // 줄바꿈 = 닫히지 않은 리터럴, 코드로 복귀
+                        state = CODE;
+                    }
+                    continue;
+                }
+                case TEXT_BLOCK -> {
+                    if (c == '\\' && i + 1 < n && !isLineBreak(code.charAt(i + 1))) {
+                        i++;
+                    } else if (c == '"' && code.startsWith("\"\"", i + 1)) {
+                        i += 2;
+                        state = CODE;
+                    }
+                    continue;
+                }
+                default -> {
+                    // CODE
+                }
+            }
+
+            if (Character.isWhitespace(c)) continue;
+
+            if (c == '/' && i + 1 < n && (code.charAt(i + 1) == '/' || code.charAt(i + 1) == '*')) {
+                state = code.charAt(i + 1) == '/' ? LINE_COMMENT : BLOCK_COMMENT;
+                i++;
+                continue;
+            }
+
+            // 단어 토큰 (식별자 / 키워드 / 숫자)
+            if (isWordChar(c)) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                    if (lastWasWord) acState = step(acState, ' ', matched, forbidden);
+                    lastWasWord = true;
+                }
+                acState = step(acState, c, matched, forbidden);
+                continue;
+            }
+
+            // 리터럴 시작
+            if (c == '"' || c == '\'') {
+                if (c == '"' && code.startsWith("\"\"", i + 1)) {
+                    state = TEXT_BLOCK;
+                    i += 2;
+                } else {
+                    state = c == '"' ? STRING : CHAR;
+                }
+                acState = step(acState, LITERAL_PLACEHOLDER, matched, forbidden);
+                lastWasWord = false;
+                prev = PREV_OTHER;
+                continue;
+            }
+
+            // 구두점
+            acState = step(acState, c, matched, forbidden);
+            lastWasWord = false;
+
+            switch (c) {
+                case '(' -> {
+                    if (prev == PREV_MAIN && publicSeen && staticSeen) {
+                        mainCount++;
+                        if (entryClass == null) entryClass = classNames.peek();
+                    }
+                }
+                case '{' -> {
+                    depth++;
+                    if (pendingClass != null) {
+                        classNames.push(pendingClass);
+                        classDepths.push(depth);
+                        pendingClass = null;
+                    }
+                    publicSeen = staticSeen = false;
+                }
+                case '}' -> {
+                    if (!classDepths.isEmpty() && classDepths.peek() == depth) {
+                        classDepths.pop();
+                        classNames.pop();
+                    }
+                    depth--;
+                    publicSeen = staticSeen = false;
+                }
+                case ';' -> publicSeen = staticSeen = false;
+                default -> {
+                }
+            }
+            expectClassName = false;
+            prev = c == '.' ? PREV_DOT : PREV_OTHER;
+        }
+
+        return new SourceAnalysis(lastContentLine + 1, List.copyOf(forbidden), unicodeEscape, mainCount, entryClass);
+    }
+
+    /**
+     * 등록된 금지 패턴 (정규화된 형태)
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * 패턴 정규화 : 분석 시 코드 토큰 스트림과 같은 규칙
+     */
+    static String normalize(String pattern) {
+        StringBuilder sb = new StringBuilder(pattern.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && isWordChar(c) && sb.length() > 0 && isWordChar(sb.charAt(sb.length() - 1))) {
+                sb.append(' ');
+            }
+            sb.append(c);
+            pendingSpace = false;
+        }
+        return sb.toString();
+    }
+
+    private int step(int state, char c, boolean[] matched, List<String> forbidden) {
+        int next = c < ALPHABET ? goTo[state][c] : 0;
+        for (int p : output[next]) {
+            if (!matched[p]) {
+                matched[p] = true;
+                forbidden.add(patterns.get(p));
+            }
+        }
+        return next;
+    }
+
+    private static boolean is(String code, int start, int end, String keyword) {
+        return end - start == keyword.length() && code.startsWith(keyword, start);
+    }
+
+    /**
+     * 타입 선언 키워드 (record 는 헤더의 (...) 구성요소 뒤에 본문 '{' 가 옴)
+     */
+    private static boolean isTypeKeyword(String code, int start, int end) {
+        return is(code, start, end, "class") || is(code, start, end, "interface")
+                || is(code, start, end, "enum") || is(code, start, end, "record");
+    }
+
+    private static boolean isWordChar(char c) {
+        if (c < ALPHABET) return ASCII_WORD[c];
+        return Character.isJavaIdentifierPart(c) && !Character.isIdentifierIgnorable(c);
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * 백슬래시 + u 1개 이상 + 16진수 4자리
+     */
+    private static boolean isUnicodeEscape(String code, int index) {
+        int i = index + 1;
+        if (i >= code.length() || code.charAt(i) != 'u') return false;
+        while (i < code.length() && code.charAt(i) == 'u') i++;
+        if (i + 4 > code.length()) return false;
+        for (int k = i; k < i + 4; k++) {
+            if (Character.digit(code.charAt(k), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) return own;
+        int[] result = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, result, own.length, inherited.length);
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sooscode.analyzer;
+
+import java.util.List;
+
+/**
+ * 소스 1회 분석 결과
+ *
+ * @param lineCount     라인 수 (끝의 빈 줄 제외)
+ * @param forbidden     발견된 금지 구문 (등록 순서와 무관, 발견 순서)
+ * @param unicodeEscape 유니코드 이스케이프(\\uXXXX) 사용 여부
+ * @param mainCount     public static void main( 개수
+ * @param entryClass    main 을 포함한 클래스 이름 (없으면 null)
+ */
+public record SourceAnalysis(int lineCount,
+                             List<String> forbidden,
+                             boolean unicodeEscape,
+                             int mainCount,
+                             String entryClass) {
+
+    public boolean hasForbidden() {
+        return !forbidden.isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.sooscode.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JavaSourceAnalyzer 렉싱 / 금지 구문 / main 판별
+ * - 주석 / 문자열 / 문자 / 텍스트 블록 안의 구문은 금지 구문이 아님
+ * - 유니코드 이스케이프는 위치와 무관하게 보고
+ * - main 을 포함한 클래스 (record / 중첩 클래스 포함)
+ */
+class JavaSourceAnalyzerTest {
+
+    private final JavaSourceAnalyzer analyzer = new JavaSourceAnalyzer(
+            List.of("System.exit", "new Thread", "while (true)", "Socket"));
+
+    @Test
+    void forbiddenCodeIsFoundAcrossWhitespaceAndComments() {
+        assertEquals(List.of("System.exit"), forbidden("System . exit ( 0 );"));
+        assertEquals(List.of("System.exit"), forbidden("System/* hidden */.exit(0);"));
+        assertEquals(List.of("new Thread"), forbidden("Thread t = new\n\tThread(r);"));
+        assertEquals(List.of("while(true)"), forbidden("while(true) {}"));
+        // 부분 문자열 매칭
+        assertEquals(List.of("Socket"), forbidden("ServerSocket s;"));
+    }
+
+    @Test
+    void tokensAreNotGluedTogether() {
+        assertEquals(List.of(), forbidden("Object o = newThread();"));
+        assertEquals(List.of(), forbidden("while (truest) {}"));
+    }
+
+    @Test
+    void commentsAreIgnored() {
+        assertEquals(List.of(), forbidden("// System.exit(0);\nint x = 1;"));
+        assertEquals(List.of(), forbidden("/* new Thread(r).start(); */ int x = 1;"));
+        assertEquals(List.of(), forbidden("/** while (true) {} */"));
+        assertEquals(List.of("System.exit"), forbidden("// comment\r\nSystem.exit(0);"));
+    }
+
+    @Test
+    void stringAndCharLiteralsAreIgnored() {
+        assertEquals(List.of(), forbidden("String s = \"System.exit(0)\";"));
+        assertEquals(List.of(), forbidden("String s = \"\\\" new Thread\";"));
+        assertEquals(List.of("System.exit"), forbidden("char q = '\"'; System.exit(0);"));
+        assertEquals(List.of("System.exit"), forbidden("char q = '\\''; System.exit(0);"));
+    }
+
+    @Test
+    void textBlocksAreIgnored() {
+        String code = "String s = \"\"\"\n    System.exit(0);\n    \\\"\"\" new Thread\n    \"\"\";\nint x = 1;";
+        assertEquals(List.of(), forbidden(code));
+        assertEquals(List.of("Socket"), forbidden("String s = \"\"\"\n  a\n  \"\"\"; Socket k;"));
+    }
+
+    @Test
+    void unicodeEscapeIsReportedEvenInCommentsAndLiterals() {
+        assertTrue(analyzer.analyze("// \\u000a System.exit(0);").unicodeEscape());
+        assertTrue(analyzer.analyze("String s = \"\\uu0041\";").unicodeEscape());
+        assertFalse(analyzer.analyze("String s = \"\\\\u0041\";").unicodeEscape());
+        assertFalse(analyzer.analyze("String s = \"\\u00\";").unicodeEscape());
+    }
+
+    @Test
+    void lineCountIgnoresTrailingBlankLines() {
+        assertEquals(3, analyzer.analyze("a\nb\r\nc\n\n\n").lineCount());
+        assertEquals(3, analyzer.analyze("a\r\rc").lineCount());
+        assertEquals(0, analyzer.analyze("").lineCount());
+        assertEquals(0, analyzer.analyze(null).lineCount());
+    }
+
+    @Test
+    void entryClassIsTheClassDeclaringMain() {
+        SourceAnalysis analysis = analyzer.analyze("""
+                import java.util.*;
+                class Helper { void main() {} }
+                public class Main {
+                    public static void main(String[] args) {}
+                }
+                """);
+        assertEquals(1, analysis.mainCount());
+        assertEquals("Main", analysis.entryClass());
+    }
+
+    @Test
+    void recordAndNestedEntryClasses() {
+        assertEquals("Point", analyzer.analyze(
+                "record Point(int x, int y) { public static void main(String[] a) {} }").entryClass());
+        assertEquals("Inner", analyzer.analyze(
+                "class Outer { static class Inner { public static void main(String[] a) {} } }").entryClass());
+        assertEquals("Outer", analyzer.analyze(
+                "class Outer { enum E { A } public static void main(String[] a) {} }").entryClass());
+    }
+
+    @Test
+    void classLiteralAndLiteralsDoNotDeclareClasses() {
+        SourceAnalysis analysis = analyzer.analyze("""
+                public class Main {
+                    Object type = String.class;
+                    String doc = "public static void main(";
+                    public static void main(String[] args) {}
+                }
+                """);
+        assertEquals(1, analysis.mainCount());
+        assertEquals("Main", analysis.entryClass());
+        assertNull(analyzer.analyze("class A { void main(String[] a) {} }").entryClass());
+    }
+
+    @Test
+    void patternsMustBeNonEmptyAscii() {
+        assertThrows(IllegalArgumentException.class, () -> new JavaSourceAnalyzer(List.of("  ")));
+        assertThrows(IllegalArgumentException.class, () -> new JavaSourceAnalyzer(List.of("종료")));
+        assertEquals(List.of("while(true)", "new Thread"),
+                new JavaSourceAnalyzer(List.of("while ( true )", "new   Thread")).getPatterns());
+    }
+
+    private List<String> forbidden(String code) {
+        return analyzer.analyze(code).forbidden();
+    }
+}
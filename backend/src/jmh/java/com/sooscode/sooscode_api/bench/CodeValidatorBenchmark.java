@@ -0,0 +1,78 @@
+package com.sooscode.sooscode_api.bench;
+
+import com.sooscode.sooscode_api.global.exception.CustomException;
+import com.sooscode.sooscode_api.global.utils.CodeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 요청 검증 벤치마크 (CodeValidator.validateAll)
+ * - 필수/인코딩/길이 + 라인 수/금지 구문(기존 CodeBlacklistFilter 포함) 전체 경로
+ * - valid     : 모든 검사를 통과하는 일반 제출 (요청마다 발생하는 기본 비용)
+ * - forbidden : 코드 끝부분의 금지 구문으로 거절 (예외 생성 비용 포함)
+ * <p>
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodeValidatorBenchmark {
+
+    // 1000자 제한 이내의 일반적인 실습 코드
+    private static final String VALID = """
+            import java.util.*;
+
+            // 점수 정렬 실습
+            public class Main {
+
+                static class Student {
+                    String name;
+                    int score;
+
+                    Student(String name, int score) {
+                        this.name = name;
+                        this.score = score;
+                    }
+                }
+
+                public static void main(String[] args) {
+                    List<Student> list = new ArrayList<>();
+                    list.add(new Student("kim", 90));
+                    list.add(new Student("lee", 85));
+
+                    /* 내림차순 */
+                    list.sort((a, b) -> b.score - a.score);
+
+                    for (Student s : list) {
+                        System.out.println(s.name + " : " + s.score);
+                    }
+                    System.out.println("done");
+                }
+            }
+            """;
+
+    private static final String FORBIDDEN = VALID.replace(
+            "System.out.println(\"done\");", "Runtime.getRuntime().exec(\"ls\");");
+
+    @Benchmark
+    public String valid() {
+        CodeValidator.validateAll(VALID);
+        return VALID;
+    }
+
+    @Benchmark
+    public Object forbidden() {
+        try {
+            CodeValidator.validateAll(FORBIDDEN);
+            return FORBIDDEN;
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+}
@@ -6,7 +6,7 @@ import com.sooscode.sooscode_api.application.compile.service.CompileService;
 import com.sooscode.sooscode_api.global.exception.CustomException;
 import com.sooscode.sooscode_api.global.response.ApiResponse;
 import com.sooscode.sooscode_api.global.status.CompileStatus;
-import com.sooscode.sooscode_api.infra.worker.CompileFutureStore;
+import com.sooscode.sooscode_api.infra.worker.CompileResultRouter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +25,7 @@ import java.util.concurrent.Executor;
 public class CompileController {
 
     private final CompileService compileService;
-    private final CompileFutureStore compileFutureStore;
+    private final CompileResultRouter compileResultRouter;
     private final Executor securityAsyncExecutor;
 
     /**
@@ -48,7 +48,7 @@ public class CompileController {
             );
 
             CompletableFuture<CompileResultResponse> resultFuture =
-                    compileService.runCode(decode);
+                    compileService.runCode(decode, request.getClassId());
             log.info(" Future 생성 완료");
 
             /**
@@ -81,8 +81,8 @@ public class CompileController {
             @RequestBody CompileResultResponse result) {
         log.info("[Callback] 결과 수신 jobId={}, result={}", jobId, result);
 
-        // 워커로부터 결과를 받으면 Future Store의 대기 중인 퓨처를 완료
-        compileFutureStore.completeFuture(jobId, result);
+        // 워커로부터 결과를 받으면 Future 를 가진 인스턴스에서 대기 중인 퓨처를 완료
+        compileResultRouter.route(jobId, result);
 
         // 워커 서버 에서 받음
         return ApiResponse.ok(CompileStatus.OK, null);
@@ -0,0 +1,26 @@
+package com.sooscode.sooscode_api.application.compile.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컴파일러 진단 1건 (워커 → 콜백 → 클라이언트 에디터 마커)
+ * - file     : 소스 파일명 (위치 정보가 없는 진단은 null)
+ * - line / column : 1부터 시작, 위치 정보가 없으면 0
+ * - severity : ERROR, WARNING, NOTE
+ * - code     : javac 메시지 키 (예: compiler.err.expected)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompileDiagnostic {
+    private String file;
+    private long line;
+    private long column;
+    private String severity;
+    private String code;
+    private String message;
+}
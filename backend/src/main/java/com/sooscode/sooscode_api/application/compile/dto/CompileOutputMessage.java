@@ -0,0 +1,17 @@
+package com.sooscode.sooscode_api.application.compile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실행 중 출력 조각 (워커 → Redis → STOMP /user/queue/compile/output)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompileOutputMessage {
+    private String jobId;
+    private int seq;
+    private String chunk;
+}
@@ -0,0 +1,19 @@
+package com.sooscode.sooscode_api.application.compile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실행 대기 안내 (워커 접수 응답 → STOMP /user/queue/compile/status)
+ * - position  : 워커 큐 순번 (1부터)
+ * - etaMillis : 예상 완료 시간
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompileQueueMessage {
+    private String jobId;
+    private long position;
+    private long etaMillis;
+}
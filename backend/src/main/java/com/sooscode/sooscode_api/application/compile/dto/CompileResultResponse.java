@@ -1,15 +1,24 @@
 package com.sooscode.sooscode_api.application.compile.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class CompileResultResponse {
     private String status;
     private String output;
-}
\ No newline at end of file
+
+    // 컴파일러 진단 목록 (에러 / 경고가 없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CompileDiagnostic> diagnostics;
+}
@@ -12,4 +12,7 @@ public class CompileRunRequest {
     private String jobId;
     private String code;
     private String callbackUrl;
+
+    // 실행한 클래스(강의실) ID, 공정 스케줄링용 (선택)
+    private Long classId;
 }
\ No newline at end of file
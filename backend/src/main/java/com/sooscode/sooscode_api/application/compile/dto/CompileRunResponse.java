@@ -4,9 +4,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 워커 접수 응답
+ * - position  : 워커 큐 순번 (1부터, 0 이면 정보 없음)
+ * - etaMillis : 예상 완료 시간 (대기 + 처리)
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CompileRunResponse {
     private String jobId;
+    private long position;
+    private long etaMillis;
 }
\ No newline at end of file
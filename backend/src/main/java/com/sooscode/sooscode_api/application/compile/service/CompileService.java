@@ -8,6 +8,6 @@ import java.util.concurrent.CompletableFuture;
 
 public interface CompileService {
 
-    /** 코드 실행 요청을 워커 서버로 전달하고 result를 반환한다. */
-    CompletableFuture<CompileResultResponse> runCode(String code);
+    /** 코드 실행 요청을 워커 서버로 전달하고 result를 반환한다. classId 는 공정 스케줄링용 (null 가능) */
+    CompletableFuture<CompileResultResponse> runCode(String code, Long classId);
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package com.sooscode.sooscode_api.application.compile.service;
 
 import com.sooscode.sooscode_api.application.compile.dto.CompileResultResponse;
+import com.sooscode.sooscode_api.domain.user.enums.UserRole;
 import com.sooscode.sooscode_api.global.exception.CustomException;
 import com.sooscode.sooscode_api.global.status.CompileStatus;
 import com.sooscode.sooscode_api.global.guard.RequestCooldown;
 import com.sooscode.sooscode_api.global.utils.CodeValidator;
-import com.sooscode.sooscode_api.infra.worker.CodeBlacklistFilter;
 import com.sooscode.sooscode_api.infra.worker.CompileFutureStore;
+import com.sooscode.sooscode_api.infra.worker.CompileOutputRelay;
+import com.sooscode.sooscode_api.infra.worker.CompileResultRouter;
 import com.sooscode.sooscode_api.infra.worker.CompileWorkerClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -21,20 +26,18 @@ public class CompileServiceImpl implements CompileService {
 
     private final CompileWorkerClient compileWorkerClient;
     private final CompileFutureStore compileFutureStore;
+    private final CompileOutputRelay compileOutputRelay;
+    private final CompileResultRouter compileResultRouter;
 
     @Value("${app.urls.backend}")
     private String backendUrl;
 
     @Override
     @RequestCooldown(seconds = 3)
-    public CompletableFuture<CompileResultResponse> runCode(String code) {
+    public CompletableFuture<CompileResultResponse> runCode(String code, Long classId) {
 
-        // 유효성 검사
+        // 유효성 검사 (길이/라인 수/금지 구문을 소스 1회 분석으로 검사)
         CodeValidator.validateAll(code);
-        /**
-         *  blacklist 필터
-         */
-        CodeBlacklistFilter.validate(code);
 
         //job Id 생성
         String jobId = UUID.randomUUID().toString();
@@ -50,11 +53,50 @@ public class CompileServiceImpl implements CompileService {
                     backendUrl + "/api/compile/callback/" + jobId;
             CompletableFuture<CompileResultResponse> future =
                     compileFutureStore.createFuture(jobId);
+
+            /**
+             *  콜백이 다른 백엔드 인스턴스로 들어와도 이 인스턴스로 전달되도록 소유자 기록
+             */
+            compileResultRouter.registerOwner(jobId);
+            future.whenComplete((result, ex) -> compileResultRouter.releaseOwner(jobId));
+
+            /**
+             *  실행 중 출력은 STOMP /user/queue/compile/output 으로 실시간 전달
+             *  - 결과가 오거나 타임아웃되면 중계 대상에서 제거
+             */
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String username = authentication.getName();
+            compileOutputRelay.register(jobId, username);
+            future.whenComplete((result, ex) -> compileOutputRelay.unregister(jobId));
+
             /**
              *  컴파일 워커 서버로 실행 요청
              *  이 시점에서  run  메서드 종료,  HTTP 스레드는 반환 준비임
              * */
-            compileWorkerClient.requestCompile(jobId, code, callbackUrl);
+            /**
+             *  강사/관리자 실행은 워커 큐에서 우선 처리
+             * */
+            boolean priority = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .anyMatch(role -> role.equals("ROLE_" + UserRole.INSTRUCTOR.name())
+                            || role.equals("ROLE_" + UserRole.ADMIN.name()));
+
+            compileWorkerClient.requestCompile(jobId, code, callbackUrl, classId, username, priority)
+                    .whenComplete((accepted, ex) -> {
+                        // 워커 접수 실패 시 결과를 기다리지 않고 바로 실패 처리
+                        // (대기열 초과는 Retry-After 를 담은 WORKER_BUSY 그대로 전달)
+                        if (ex != null) {
+                            Throwable cause = CompileWorkerClient.unwrap(ex);
+                            compileFutureStore.failFuture(jobId, cause instanceof CustomException custom
+                                    ? custom : new CustomException(CompileStatus.WORKER_UNAVAILABLE));
+                            return;
+                        }
+
+                        // 접수 시 대기 순번 / 예상 완료 시간 안내 ("n번째, 약 m초")
+                        if (accepted != null && accepted.getPosition() > 0) {
+                            compileOutputRelay.sendQueueStatus(jobId, accepted.getPosition(), accepted.getEtaMillis());
+                        }
+                    });
 
             /**
              *  future 반환하고  callback 에서 result 받아야 완료됨.
@@ -62,6 +104,8 @@ public class CompileServiceImpl implements CompileService {
             return future;
 
         } catch (CustomException exception) {
+            // 서킷 OPEN / 동시 요청 한도 초과 → 만들어 둔 Future 정리 후 즉시 실패
+            compileFutureStore.failFuture(jobId, exception);
             throw exception;
         } catch (Exception exception) {
             compileFutureStore.failFuture(jobId, new CustomException(CompileStatus.WORKER_UNAVAILABLE));
@@ -3,6 +3,7 @@ package com.sooscode.sooscode_api.global.exception;
 import com.sooscode.sooscode_api.global.response.ApiResponse;
 import com.sooscode.sooscode_api.global.status.GlobalStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,6 +18,21 @@ import org.springframework.web.reactive.resource.NoResourceFoundException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * RetryAfterException 처리 (Retry-After 헤더 포함)
+     */
+    @ExceptionHandler(RetryAfterException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRetryAfterException(RetryAfterException e) {
+        log.warn("[RetryAfterException] 코드: {}, 메시지: {}",
+                e.getStatusCode().getCode(), e.getMessage());
+
+        ResponseEntity<ApiResponse<Void>> response =
+                ApiResponse.fail(e.getStatusCode(), "약 " + e.getRetryAfterSeconds() + "초 후 다시 시도하세요");
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     /**
      * CustomException 처리
      */
@@ -0,0 +1,19 @@
+package com.sooscode.sooscode_api.global.exception;
+
+import com.sooscode.sooscode_api.global.status.StatusCode;
+import lombok.Getter;
+
+/**
+ * 재시도 권장 시간이 있는 예외
+ * 응답에 Retry-After 헤더(초)를 함께 내려줌
+ */
+@Getter
+public class RetryAfterException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RetryAfterException(StatusCode statusCode, long retryAfterSeconds) {
+        super(statusCode, "약 " + retryAfterSeconds + "초 후 다시 시도하세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -29,7 +29,9 @@ public enum CompileStatus implements StatusCode {
     //코드 실행중 재요청시
     ALREADY_PROCESSING(HttpStatus.CONFLICT, "COMPILE_009","이미 컴파일이 진행 중입니다."),
     //짧은시간 내 너무 잦은 요청 시
-    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMPILE_010", "요청이 너무 빠릅니다. 잠시 후 다시 시도하세요.");
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMPILE_010", "요청이 너무 빠릅니다. 잠시 후 다시 시도하세요."),
+    //컴파일서버 대기열 초과 (예상 대기 시간이 결과 대기 한도를 넘음)
+    WORKER_BUSY(HttpStatus.TOO_MANY_REQUESTS, "COMPILE_011", "실행 대기 인원이 많습니다.");
 
 
     private final HttpStatus httpStatus;
@@ -1,5 +1,7 @@
 package com.sooscode.sooscode_api.global.utils;
 
+import com.sooscode.analyzer.JavaSourceAnalyzer;
+import com.sooscode.analyzer.SourceAnalysis;
 import com.sooscode.sooscode_api.global.exception.CustomException;
 import com.sooscode.sooscode_api.global.status.CodeValidStatus;
 import com.sooscode.sooscode_api.global.status.CompileStatus;
@@ -19,30 +21,80 @@ public final class CodeValidator {
     private static final Pattern MAIN_CLASS_PATTERN =
             Pattern.compile("public\\s+class\\s+Main\\b");
 
+    /**
+     * 금지 구문 (주석/문자열 리터럴 밖의 코드에서만 검사)
+     * - 공백은 단어 사이 1칸으로 정규화되어 비교됨 → "System . exit", "while ( true )" 도 검출
+     * - 부분 문자열 매칭 (Socket 은 ServerSocket 에도 걸림)
+     */
     private static final List<String> FORBIDDEN_KEYWORDS = List.of(
-            "Runtime.getRuntime",
+
+            // ===== 시스템 제어 =====
             "System.exit",
+
+            // ===== 외부 프로세스 =====
+            "Runtime.getRuntime",
             "ProcessBuilder",
-            "Files.readAllBytes",
+            "exec(",
+
+            // ===== 파일/디렉토리 IO =====
+            "java.io.File",
+            "FileInputStream",
+            "FileOutputStream",
+            "Files.read",
+            "Files.write",
+            "Paths.get",
+            "Path.of",
+
+            // ===== 네트워크 IO =====
+            "Socket",
+            "URLConnection",
+            "openStream",
+            "InetAddress",
+
+            // ===== Reflection / ClassLoader =====
+            "java.lang.reflect",
             "Class.forName",
+            "ClassLoader",
+            "getDeclared",
+            "invoke",
+            "setAccessible",
+
+            // ===== Thread / Executor =====
+            "new Thread",
             "Thread.sleep",
+            "Executor",
+            "ForkJoinPool",
+            "TimerTask",
+
+            // ===== 무한 루프 =====
             "while(true)",
-            "while (true)"
+            "for(;;)",
+
+            // ===== Unsafe / Native =====
+            "Unsafe",
+            "System.load",
+            "sun.misc"
     );
 
+    // 라인 수 / 금지 구문 / 유니코드 이스케이프를 한 번에 분석 (불변, 공유)
+    private static final JavaSourceAnalyzer ANALYZER = new JavaSourceAnalyzer(FORBIDDEN_KEYWORDS);
+
     // 생성자 막기
     private CodeValidator() {}
 
     /**
      * 전체 코드 유효성 검사
+     * - 라인 수 / 금지 구문은 소스 1회 분석 결과로 함께 검사
      */
     public static void validateAll(String code) {
 
         validateRequired(code);
         validateEncoding(code);
         validateLength(code);
-        validateLineCount(code);
-        validateForbiddenSyntax(code);
+
+        SourceAnalysis analysis = ANALYZER.analyze(code);
+        validateLineCount(analysis);
+        validateForbiddenSyntax(analysis);
     }
 
     /** 코드 null/empty 검사 */
@@ -68,9 +120,11 @@ public final class CodeValidator {
 
     /** 코드 라인 수 검사 (옵션) */
     public static void validateLineCount(String code) {
-        int lines = code.split("\r\n|\r|\n").length;
+        validateLineCount(ANALYZER.analyze(code));
+    }
 
-        if (lines > MAX_OUTPUT_LINES) {
+    private static void validateLineCount(SourceAnalysis analysis) {
+        if (analysis.lineCount() > MAX_OUTPUT_LINES) {
             throw new CustomException(CodeValidStatus.CODE_TOO_MANY_LINES);
         }
     }
@@ -82,13 +136,14 @@ public final class CodeValidator {
         }
     }
 
-    /** 금지된 문법/키워드 검사 */
+    /** 금지된 문법/키워드 검사 (유니코드 이스케이프 포함) */
     public static void validateForbiddenSyntax(String code) {
+        validateForbiddenSyntax(ANALYZER.analyze(code));
+    }
 
-        for (String keyword : FORBIDDEN_KEYWORDS) {
-            if (code.contains(keyword)) {
-                throw new CustomException(CompileStatus.FORBIDDEN_SYNTAX);
-            }
+    private static void validateForbiddenSyntax(SourceAnalysis analysis) {
+        if (analysis.hasForbidden() || analysis.unicodeEscape()) {
+            throw new CustomException(CompileStatus.FORBIDDEN_SYNTAX);
         }
     }
 }
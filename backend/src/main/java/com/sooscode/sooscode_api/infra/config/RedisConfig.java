@@ -3,10 +3,16 @@ package com.sooscode.sooscode_api.infra.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sooscode.sooscode_api.infra.worker.CompileOutputRelay;
+import com.sooscode.sooscode_api.infra.worker.CompileResultRouter;
+import com.sooscode.sooscode_api.infra.worker.CompileResultSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -37,4 +43,23 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * - compile:output:* → 실행 중 출력 조각을 STOMP 로 중계
+     * - compile:result    → 워커 결과로 대기 중인 Future 완료
+     * - compile:result:{instanceId} → 다른 인스턴스가 받은 콜백 중 이 인스턴스 소유 결과
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CompileOutputRelay compileOutputRelay,
+                                                                       CompileResultSubscriber compileResultSubscriber,
+                                                                       CompileResultRouter compileResultRouter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(compileOutputRelay, new PatternTopic(CompileOutputRelay.CHANNEL_PATTERN));
+        container.addMessageListener(compileResultSubscriber, new ChannelTopic(CompileResultSubscriber.RESULT_CHANNEL));
+        container.addMessageListener(compileResultRouter, new ChannelTopic(compileResultRouter.getInstanceChannel()));
+        return container;
+    }
+}
@@ -11,6 +11,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 실행 결과 콜백 대기 Future 보관소
+ * - 실행 중 출력은 STOMP 로 실시간 전달(CompileOutputRelay), Future 는 최종 상태 + 출력 요약만 전달
+ * - 출력은 워커 러너에서 이미 head + 생략 표시 + tail 로 제한되어 오지만,
+ *   대기 중인 Future 수(동시 요청 한도) 만큼 메모리에 남으므로 여기서도 MAX_OUTPUT_CHARS 를 넘으면 tail 만 보관
+ */
 @Slf4j
 @Component
 public class CompileFutureStore {
@@ -21,6 +27,10 @@ public class CompileFutureStore {
     // 최대 대기 시간 (15초)
     private static final long TIMEOUT_SECONDS = 15;
 
+    // 결과 출력 최대 길이 (러너 head 16KB + tail 16KB 보다 여유 있게, 넘으면 tail 만 보관)
+    private static final int MAX_OUTPUT_CHARS = 64 * 1024;
+    private static final String OMITTED_MESSAGE = "... (%d chars 생략) ...\n";
+
     /**
      * 새로운 Job에 대한 비동기 대기 객체를 생성하고 저장합니다.
      */
@@ -80,7 +90,7 @@ public class CompileFutureStore {
             log.info("[FutureStore] future FOUND - completing jobId={}", jobId);
 
             // Future를 완료시키고, 대기 중이던 API 요청 연결에 결과를 전달합니다.
-            future.complete(result);
+            future.complete(bounded(result));
 
         } else {
 
@@ -89,6 +99,18 @@ public class CompileFutureStore {
         }
     }
 
+    /**
+     * 이 인스턴스가 가진 Future 일 때만 완료 (다른 인스턴스 소유/이미 완료된 경우 false)
+     */
+    public boolean completeIfPresent(String jobId, CompileResultResponse result) {
+        CompletableFuture<CompileResultResponse> future = futureMap.remove(jobId);
+        if (future == null) return false;
+
+        log.info("[FutureStore] future FOUND - completing jobId={}", jobId);
+        future.complete(bounded(result));
+        return true;
+    }
+
     /**
      *  콜백 대기 future 비동기 객체  실패 했을대
      * */
@@ -98,4 +120,18 @@ public class CompileFutureStore {
             future.completeExceptionally(ex);
         }
     }
+
+    /**
+     * 출력이 MAX_OUTPUT_CHARS 를 넘으면 앞부분을 버리고 tail 만 남김 (생략 글자 수 표시)
+     */
+    private static CompileResultResponse bounded(CompileResultResponse result) {
+        String output = result != null ? result.getOutput() : null;
+        if (output == null || output.length() <= MAX_OUTPUT_CHARS) return result;
+
+        int start = output.length() - MAX_OUTPUT_CHARS;
+        // 서로게이트 쌍이 잘리지 않도록 경계 보정
+        if (Character.isLowSurrogate(output.charAt(start))) start++;
+        result.setOutput(String.format(OMITTED_MESSAGE, start) + output.substring(start));
+        return result;
+    }
 }
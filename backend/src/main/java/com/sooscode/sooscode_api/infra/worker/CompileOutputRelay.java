@@ -0,0 +1,81 @@
+package com.sooscode.sooscode_api.infra.worker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sooscode.sooscode_api.application.compile.dto.CompileOutputMessage;
+import com.sooscode.sooscode_api.application.compile.dto.CompileQueueMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중 출력 중계
+ * - 워커가 compile:output:{jobId} 채널로 발행한 출력 조각을 구독
+ * - 요청한 사용자에게 STOMP /user/queue/compile/output 으로 바로 전달
+ * - 이 서버에서 등록한 jobId 만 전달 (다른 인스턴스의 요청은 무시)
+ * - 워커 접수 시 대기 순번 / 예상 완료 시간을 /user/queue/compile/status 로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompileOutputRelay implements MessageListener {
+
+    public static final String CHANNEL_PATTERN = "compile:output:*";
+    public static final String USER_DESTINATION = "/queue/compile/output";
+    public static final String STATUS_DESTINATION = "/queue/compile/status";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // jobId → 요청한 사용자 (STOMP principal 이름)
+    private final Map<String, String> owners = new ConcurrentHashMap<>();
+
+    /**
+     * 실행 요청 시 jobId 와 사용자를 연결
+     */
+    public void register(String jobId, String username) {
+        owners.put(jobId, username);
+    }
+
+    /**
+     * 결과 수신/타임아웃 시 연결 해제
+     */
+    public void unregister(String jobId) {
+        owners.remove(jobId);
+    }
+
+    /**
+     * 워커 큐 대기 순번 안내 (결과 대기 중인 요청만)
+     */
+    public void sendQueueStatus(String jobId, long position, long etaMillis) {
+        String username = owners.get(jobId);
+        if (username == null) return;
+
+        try {
+            messagingTemplate.convertAndSendToUser(username, STATUS_DESTINATION,
+                    new CompileQueueMessage(jobId, position, etaMillis));
+        } catch (Exception e) {
+            log.warn("[OutputRelay] 대기 순번 전달 실패 Error={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CompileOutputMessage output = objectMapper.readValue(message.getBody(), CompileOutputMessage.class);
+
+            String username = owners.get(output.getJobId());
+            if (username == null) return;
+
+            messagingTemplate.convertAndSendToUser(username, USER_DESTINATION, output);
+
+        } catch (Exception e) {
+            log.warn("[OutputRelay] 출력 전달 실패 Error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sooscode.sooscode_api.infra.worker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sooscode.sooscode_api.application.compile.dto.CompileResultResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 백엔드 인스턴스 간 컴파일 결과 라우팅
+ * - 실행 요청 시 jobId → 요청을 받은 인스턴스(Future 소유자)를 Redis 에 기록
+ * - 콜백이 다른 인스턴스로 들어오면 소유 인스턴스 전용 채널(compile:result:{instanceId})로 전달
+ * - 각 인스턴스는 자기 채널만 구독하고, 자기가 가진 Future 만 완료
+ */
+@Slf4j
+@Component
+public class CompileResultRouter implements MessageListener {
+
+    private static final String OWNER_PREFIX = "compile:owner:";
+    private static final String INSTANCE_CHANNEL_PREFIX = "compile:result:";
+
+    // 소유자 기록 유지 시간 (Future 타임아웃 15초보다 넉넉하게)
+    private static final long OWNER_TTL_SECONDS = 60;
+
+    private final CompileFutureStore compileFutureStore;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+
+    public CompileResultRouter(CompileFutureStore compileFutureStore,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${app.instance-id:}") String instanceId) {
+        this.compileFutureStore = compileFutureStore;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        log.info("[ResultRouter] instanceId={}", this.instanceId);
+    }
+
+    /**
+     * 이 인스턴스가 jobId 의 Future 를 가지고 있음을 기록
+     */
+    public void registerOwner(String jobId) {
+        redisTemplate.opsForValue().set(OWNER_PREFIX + jobId, instanceId, OWNER_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 결과 수신/타임아웃 후 소유자 기록 삭제
+     */
+    public void releaseOwner(String jobId) {
+        redisTemplate.delete(OWNER_PREFIX + jobId);
+    }
+
+    /**
+     * 결과를 Future 소유 인스턴스로 전달
+     * - 이 인스턴스의 Future 면 바로 완료
+     * - 다른 인스턴스 소유면 해당 인스턴스 채널로 발행
+     */
+    public void route(String jobId, CompileResultResponse result) {
+        if (compileFutureStore.completeIfPresent(jobId, result)) return;
+
+        String owner = redisTemplate.opsForValue().get(OWNER_PREFIX + jobId);
+        if (owner == null || owner.equals(instanceId)) {
+            log.warn("[ResultRouter] 결과를 받을 Future 없음 jobId={} (타임아웃 또는 이미 완료)", jobId);
+            return;
+        }
+
+        try {
+            ObjectNode message = objectMapper.valueToTree(result);
+            message.put("jobId", jobId);
+            redisTemplate.convertAndSend(INSTANCE_CHANNEL_PREFIX + owner, objectMapper.writeValueAsString(message));
+            log.info("[ResultRouter] 소유 인스턴스로 전달 jobId={}, owner={}", jobId, owner);
+
+        } catch (Exception e) {
+            log.warn("[ResultRouter] 결과 전달 실패 jobId={}, Error={}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 전달한 결과 수신 (compile:result:{instanceId})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode result = objectMapper.readTree(message.getBody());
+            compileFutureStore.completeIfPresent(result.path("jobId").asText(),
+                    objectMapper.treeToValue(result, CompileResultResponse.class));
+        } catch (Exception e) {
+            log.warn("[ResultRouter] 결과 처리 실패 Error={}", e.getMessage());
+        }
+    }
+
+    public String getInstanceChannel() {
+        return INSTANCE_CHANNEL_PREFIX + instanceId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sooscode.sooscode_api.infra.worker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sooscode.sooscode_api.application.compile.dto.CompileResultResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컴파일 결과 구독
+ * - 워커가 compile.callback.mode=redis 일 때 compile:result 채널로 결과를 발행
+ * - HTTP 콜백(/api/compile/callback/{jobId}) 대신 대기 중인 Future 를 바로 완료
+ * - 모든 인스턴스가 수신하므로 이 인스턴스가 가진 Future 만 완료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompileResultSubscriber implements MessageListener {
+
+    public static final String RESULT_CHANNEL = "compile:result";
+
+    private final CompileFutureStore compileFutureStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode result = objectMapper.readTree(message.getBody());
+            String jobId = result.path("jobId").asText();
+
+            // status / output / diagnostics 만 사용 (채점 결과, 자원 사용량 등은 무시)
+            compileFutureStore.completeIfPresent(jobId, objectMapper.treeToValue(result, CompileResultResponse.class));
+
+        } catch (Exception e) {
+            log.warn("[ResultSubscriber] 결과 처리 실패 Error={}", e.getMessage());
+        }
+    }
+}
@@ -2,55 +2,198 @@ package com.sooscode.sooscode_api.infra.worker;
 
 import com.sooscode.sooscode_api.application.compile.dto.CompileRunResponse;
 import com.sooscode.sooscode_api.global.exception.CustomException;
+import com.sooscode.sooscode_api.global.exception.RetryAfterException;
 import com.sooscode.sooscode_api.global.status.CompileStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
+/**
+ * 컴파일 서버 실행 요청 클라이언트
+ * - Reactor Netty 커넥션 풀 (keep-alive 재사용, 풀 대기 수/시간 제한)
+ * - 논블로킹 요청 → 요청 스레드는 워커 응답을 기다리지 않음
+ * - 동시 요청 수 제한 + 서킷 브레이커 : 워커 장애 시 호출 없이 즉시 WORKER_UNAVAILABLE
+ * - 워커 수락 제어 거절(429) : Retry-After 를 담은 WORKER_BUSY (워커는 정상이므로 서킷 실패로 세지 않음)
+ * - 메트릭 : compile.worker.requests(지연), compile.worker.in-flight, compile.worker.rejected,
+ *           compile.worker.busy, reactor.netty.connection.provider.*(풀 사용량)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CompileWorkerClient {
 
-    private final RestTemplate restTemplate = createRestTemplate();
+    private static final String POOL_NAME = "compile-worker";
+
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final WorkerCircuitBreaker circuitBreaker;
+    private final Semaphore inFlight;
+    private final Duration requestTimeout;
+
+    private final Timer requestTimer;
+    private final Counter rejectedCounter;
+    private final Counter busyCounter;
 
     @Value("${app.urls.worker}")
     private String workerUrl;
 
+    public CompileWorkerClient(WorkerCircuitBreaker circuitBreaker,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.worker.max-connections:50}") int maxConnections,
+                               @Value("${app.worker.max-in-flight:200}") int maxInFlight,
+                               @Value("${app.worker.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                               @Value("${app.worker.request-timeout-ms:5000}") long requestTimeoutMillis) {
+        this.circuitBreaker = circuitBreaker;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxInFlight)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .keepAlive(true)
+                .responseTimeout(requestTimeout);
+
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.requestTimer = Timer.builder("compile.worker.requests")
+                .description("Compile worker submission latency")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("compile.worker.rejected")
+                .description("Submissions rejected without calling the worker (circuit open or saturated)")
+                .register(meterRegistry);
+        this.busyCounter = Counter.builder("compile.worker.busy")
+                .description("Submissions refused by worker admission control (429)")
+                .register(meterRegistry);
+        Gauge.builder("compile.worker.in-flight", inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .description("Compile worker submissions in flight")
+                .register(meterRegistry);
+    }
+
     /**
-     * [POST] 워커에게 실행 요청
+     * [POST] 워커에게 실행 요청 (논블로킹)
+     * - 서킷 OPEN 또는 동시 요청 한도 초과 시 호출하지 않고 즉시 WORKER_UNAVAILABLE
+     *   (허용 슬롯을 먼저 잡은 뒤 서킷 확인 → HALF_OPEN 시험 호출 허가를 받고도 호출하지 않는 경우가 없음)
+     * - 요청 생성 중 예외(Future 생성 전) : 슬롯 반납 + 서킷 실패 처리 후 그대로 전파
+     * - 워커 대기열 초과(429) 시 RetryAfterException(WORKER_BUSY) 로 완료
+     *
+     * @return 워커 접수 응답 (큐 순번 / 예상 완료 시간 포함, 실패 시 예외로 완료)
      */
-    public CompileRunResponse requestCompile(String jobId, String code, String callbackUrl) {
+    public CompletableFuture<CompileRunResponse> requestCompile(String jobId, String code, String callbackUrl,
+                                                                Long classId, String userId, boolean priority) {
 
+        if (!inFlight.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CustomException(CompileStatus.WORKER_UNAVAILABLE);
+        }
+        if (!circuitBreaker.allowRequest()) {
+            inFlight.release();
+            rejectedCounter.increment();
+            throw new CustomException(CompileStatus.WORKER_UNAVAILABLE);
+        }
+
+        try {
+            return send(jobId, code, callbackUrl, classId, userId, priority);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            circuitBreaker.onFailure();
+            log.error("워커 요청 생성 실패: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 전송 (슬롯 반납 / 서킷 결과 처리는 Future 완료 시)
+     */
+    private CompletableFuture<CompileRunResponse> send(String jobId, String code, String callbackUrl,
+                                                       Long classId, String userId, boolean priority) {
         String targetUrl = workerUrl + "/api/compile/run";
 
-        Map<String, String> requestBody = new HashMap<>();
+        Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("callbackUrl", callbackUrl);
         requestBody.put("jobId", jobId);
         requestBody.put("code", code);
+        // 워커 큐 공정 스케줄링 정보
+        requestBody.put("classId", classId != null ? String.valueOf(classId) : null);
+        requestBody.put("userId", userId);
+        requestBody.put("priority", priority);
+
+        Timer.Sample sample = Timer.start();
+        return webClient.post()
+                .uri(targetUrl)
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.TOO_MANY_REQUESTS.value(),
+                        response -> Mono.error(new RetryAfterException(CompileStatus.WORKER_BUSY,
+                                retryAfterSeconds(response.headers().asHttpHeaders()))))
+                .bodyToMono(CompileRunResponse.class)
+                .timeout(requestTimeout)
+                .toFuture()
+                .whenComplete((response, ex) -> {
+                    inFlight.release();
+                    sample.stop(requestTimer);
+
+                    if (ex == null) {
+                        circuitBreaker.onSuccess();
+                    } else if (unwrap(ex) instanceof RetryAfterException) {
+                        // 워커가 응답한 거절 → 서킷은 정상 처리
+                        busyCounter.increment();
+                        circuitBreaker.onSuccess();
+                    } else {
+                        circuitBreaker.onFailure();
+                        log.error("워커 서버 통신 실패: {}", ex.getMessage());
+                    }
+                });
+    }
 
+    /**
+     * Retry-After(초) 헤더 값, 없거나 잘못된 값이면 1초
+     */
+    private static long retryAfterSeconds(HttpHeaders headers) {
         try {
-            ResponseEntity<CompileRunResponse> response =
-                    restTemplate.postForEntity(targetUrl, requestBody, CompileRunResponse.class);
-            return response.getBody();
-        } catch (Exception e) {
-            log.error("워커 서버 통신 실패: {}", e.getMessage());
-            throw new CustomException(CompileStatus.WORKER_UNAVAILABLE);
+            String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            return value != null ? Math.max(1, Long.parseLong(value.trim())) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
         }
     }
+
     /**
-     * 내부적으로 RestTemplate 생성 (타임아웃 적용)
+     * Future 완료 예외의 실제 원인
      */
-    private RestTemplate createRestTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(7000);
-        factory.setReadTimeout(15000);
-        return new RestTemplate(factory);
+    public static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
     }
-}
\ No newline at end of file
+}
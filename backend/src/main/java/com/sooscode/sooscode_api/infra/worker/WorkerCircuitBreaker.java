@@ -0,0 +1,83 @@
+package com.sooscode.sooscode_api.infra.worker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컴파일 서버 호출 서킷 브레이커
+ * - CLOSED    : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN      : openMillis 동안 호출 없이 즉시 거절 (WORKER_UNAVAILABLE)
+ * - HALF_OPEN : 대기 시간이 지나면 1건만 시험 호출, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+@Slf4j
+@Component
+public class WorkerCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public WorkerCircuitBreaker(@Value("${app.worker.circuit.failure-threshold:5}") int failureThreshold,
+                                @Value("${app.worker.circuit.open-ms:10000}") long openMillis,
+                                MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("compile.worker.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Compile worker circuit breaker state")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 가능 여부 (OPEN 이면 false → 호출하지 않고 바로 실패)
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.CLOSED) return true;
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) return false;
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        // HALF_OPEN : 시험 호출 1건만 허용
+        if (trialInFlight) return false;
+        trialInFlight = true;
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("[CircuitBreaker] 컴파일 서버 복구 → CLOSED");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("[CircuitBreaker] 컴파일 서버 연속 실패 {}회 → OPEN ({}ms)", consecutiveFailures, openMillis);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
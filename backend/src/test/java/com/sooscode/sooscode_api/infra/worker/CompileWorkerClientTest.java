@@ -0,0 +1,93 @@
+package com.sooscode.sooscode_api.infra.worker;
+
+import com.sooscode.sooscode_api.global.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CompileWorkerClient 허용 슬롯 / 서킷 브레이커 순서
+ * - HALF_OPEN 시험 호출 허가가 호출 없이 사라지지 않는지
+ * - Future 생성 전 예외에서 슬롯이 반납되는지
+ */
+class CompileWorkerClientTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CompileWorkerClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) client.shutdown();
+    }
+
+    @Test
+    void saturatedRequestDoesNotConsumeHalfOpenTrial() {
+        WorkerCircuitBreaker breaker = openBreaker();
+        client = client(breaker, 0);
+
+        assertThatThrownBy(() -> request(client)).isInstanceOf(CustomException.class);
+
+        // 대기 시간이 지난 OPEN → 시험 호출 1건 허용
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(WorkerCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void synchronousFailureReleasesPermitAndReopensCircuit() {
+        WorkerCircuitBreaker breaker = openBreaker();
+        client = client(breaker, 1);
+        WebClient webClient = mock(WebClient.class);
+        when(webClient.post()).thenThrow(new IllegalStateException("boom"));
+        ReflectionTestUtils.setField(client, "webClient", webClient);
+
+        assertThatThrownBy(() -> request(client)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(inFlight()).isZero();
+        assertThat(breaker.getState()).isEqualTo(WorkerCircuitBreaker.State.OPEN);
+        // 실패한 시험 호출이 정리되어 다음 시험 호출 가능 (open-ms = 0)
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void circuitRejectionReleasesPermit() {
+        WorkerCircuitBreaker breaker = new WorkerCircuitBreaker(1, 60_000, meterRegistry);
+        breaker.onFailure();
+        client = client(breaker, 1);
+
+        assertThatThrownBy(() -> request(client)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> request(client)).isInstanceOf(CustomException.class);
+
+        assertThat(inFlight()).isZero();
+    }
+
+    /**
+     * 실패 1회로 OPEN, 대기 시간 0 (다음 allowRequest 에서 HALF_OPEN)
+     */
+    private WorkerCircuitBreaker openBreaker() {
+        WorkerCircuitBreaker breaker = new WorkerCircuitBreaker(1, 0, meterRegistry);
+        breaker.onFailure();
+        return breaker;
+    }
+
+    private CompileWorkerClient client(WorkerCircuitBreaker breaker, int maxInFlight) {
+        CompileWorkerClient client = new CompileWorkerClient(breaker, meterRegistry, 1, maxInFlight, 100, 100);
+        ReflectionTestUtils.setField(client, "workerUrl", "http://localhost:1");
+        return client;
+    }
+
+    private void request(CompileWorkerClient client) {
+        client.requestCompile("job-1", "class Main {}", "http://localhost/callback", 1L, "user-1", false);
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("compile.worker.in-flight").gauge().value();
+    }
+}
@@ -0,0 +1,42 @@
+package finalproject.compile.application.compile.worker;
+
+import com.sooscode.analyzer.SourceAnalysis;
+import finalproject.compile.bench.Submissions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워커 실행 전 검증 벤치마크 (CompileWorkerService.validateCode + detectEntryClass)
+ * - 워커 서비스와 같은 패키지에 두어 실제 분석기/검증 메서드를 그대로 호출
+ * <p>
+ * 실행 : ./gradlew jmh -PjmhIncludes=WorkerValidation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkerValidationBenchmark {
+
+    @Benchmark
+    public String detectEntryClass() {
+        SourceAnalysis analysis = CompileWorkerService.ANALYZER.analyze(Submissions.VALID);
+        CompileWorkerService.validateCode(analysis);
+        return CompileWorkerService.detectEntryClass(analysis);
+    }
+
+    @Benchmark
+    public Object rejectForbidden() {
+        SourceAnalysis analysis = CompileWorkerService.ANALYZER.analyze(Submissions.FORBIDDEN);
+        try {
+            CompileWorkerService.validateCode(analysis);
+            return analysis;
+        } catch (SecurityException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package finalproject.compile.bench;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompileJob Redis 직렬화 벤치마크
+ * - RedisConfig 와 같은 GenericJackson2JsonRedisSerializer (타입 정보 포함 JSON)
+ * - 큐 적재(XADD), 상태 저장(RUNNING/완료) 마다 발생하는 비용
+ * <p>
+ * 실행 : ./gradlew jmh -PjmhIncludes=CompileJobSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompileJobSerializationBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+    private CompileJob pending;
+    private CompileJob completed;
+    private byte[] completedBytes;
+
+    @Setup
+    public void setUp() {
+        pending = new CompileJob("3f1c2a9e-6b7d-4e21-9a0c-5d8e7f6a1b2c", Submissions.VALID,
+                "http://localhost:8080/api/compile/callback/3f1c2a9e-6b7d-4e21-9a0c-5d8e7f6a1b2c");
+        pending.setClassId("12");
+        pending.setUserId("student01@sooscode.com");
+
+        completed = new CompileJob(pending.getJobId(), pending.getCode(), pending.getCallbackUrl());
+        completed.setClassId(pending.getClassId());
+        completed.setUserId(pending.getUserId());
+        completed.complete(true, "1. kim : 90\n2. lee : 85\n3. park : 77\n평균 : 84.00\n".repeat(20));
+
+        completedBytes = serializer.serialize(completed);
+    }
+
+    @Benchmark
+    public byte[] serializePending() {
+        return serializer.serialize(pending);
+    }
+
+    @Benchmark
+    public byte[] serializeCompleted() {
+        return serializer.serialize(completed);
+    }
+
+    @Benchmark
+    public Object deserializeCompleted() {
+        return serializer.deserialize(completedBytes);
+    }
+}
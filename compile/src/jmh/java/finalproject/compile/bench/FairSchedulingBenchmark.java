@@ -0,0 +1,188 @@
+package finalproject.compile.bench;
+
+import finalproject.compile.infra.queue.FairScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * 공정 스케줄링 트레이스 재생 벤치마크
+ * - 여러 클래스가 동시에 몰리는 실행 요청 트레이스를 가상 시간으로 재생
+ * - 같은 트레이스를 FIFO(기존 List 큐) / FairScheduler 로 각각 처리하여 클래스별 대기 시간 p50/p99 비교
+ * - 실행 시간은 고정 seed 난수 → 실행할 때마다 같은 결과
+ * <p>
+ * 실행 : ./gradlew fairnessBenchmark
+ */
+public class FairSchedulingBenchmark {
+
+    // 동시 실행 컨테이너 수 (compile.pool.max-size)
+    private static final int WORKERS = 4;
+
+    // DRR quantum (compile.queue.fair.quantum)
+    private static final int QUANTUM = 2;
+
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        List<Job> trace = buildTrace();
+
+        Map<String, List<Long>> fifo = replay(trace, new FifoQueue());
+        Map<String, List<Long>> fair = replay(trace, new FairQueue());
+
+        System.out.printf("jobs=%d, workers=%d, quantum=%d%n%n", trace.size(), WORKERS, QUANTUM);
+        System.out.printf("%-12s %6s | %10s %10s | %10s %10s%n",
+                "class", "jobs", "FIFO p50", "FIFO p99", "FAIR p50", "FAIR p99");
+        for (String classId : fifo.keySet()) {
+            List<Long> before = fifo.get(classId);
+            List<Long> after = fair.get(classId);
+            System.out.printf("%-12s %6d | %8dms %8dms | %8dms %8dms%n",
+                    classId, before.size(),
+                    percentile(before, 50), percentile(before, 99),
+                    percentile(after, 50), percentile(after, 99));
+        }
+    }
+
+    /**
+     * 트레이스 구성 (가상 시간, ms)
+     * - class-A : 0초에 40명이 1초 안에 동시 실행
+     * - class-B : 3초에 40명이 1초 안에 동시 실행
+     * - class-C/D/E : 20초 동안 소규모 실습 (클래스당 평균 1.5초에 1건)
+     * - instructor : class-C 강사가 5초마다 예제 실행 (우선 처리)
+     */
+    private static List<Job> buildTrace() {
+        Random random = new Random(SEED);
+        List<Job> jobs = new ArrayList<>();
+
+        addBurst(jobs, random, "class-A", 0, 40);
+        addBurst(jobs, random, "class-B", 3000, 40);
+
+        for (String classId : List.of("class-C", "class-D", "class-E")) {
+            long t = random.nextInt(1500);
+            int user = 0;
+            while (t < 20_000) {
+                jobs.add(new Job(classId, classId + "-u" + (user++ % 8), false, t, serviceTime(random)));
+                t += 500 + random.nextInt(2000);
+            }
+        }
+
+        for (long t = 1000; t < 20_000; t += 5000) {
+            jobs.add(new Job("instructor", "class-C-teacher", true, t, serviceTime(random)));
+        }
+
+        jobs.sort(Comparator.comparingLong(Job::arrival));
+        return jobs;
+    }
+
+    private static void addBurst(List<Job> jobs, Random random, String classId, long start, int students) {
+        for (int i = 0; i < students; i++) {
+            jobs.add(new Job(classId, classId + "-u" + i, false, start + random.nextInt(1000), serviceTime(random)));
+        }
+    }
+
+    // 컴파일 + 실행 시간 (200 ~ 700ms)
+    private static long serviceTime(Random random) {
+        return 200 + random.nextInt(500);
+    }
+
+    /**
+     * 이벤트 기반 재생 : 도착 → 큐 적재, 빈 워커가 생기면 큐에서 꺼내 실행
+     *
+     * @return 클래스별 대기 시간 목록
+     */
+    private static Map<String, List<Long>> replay(List<Job> trace, SimQueue queue) {
+        Map<String, List<Long>> waits = new TreeMap<>();
+        PriorityQueue<Long> busyUntil = new PriorityQueue<>();
+        int next = 0;
+        long now = 0;
+
+        while (next < trace.size() || queue.size() > 0) {
+            // 현재 시각까지 도착한 작업 적재
+            while (next < trace.size() && trace.get(next).arrival() <= now) {
+                queue.offer(trace.get(next++));
+            }
+            // 끝난 워커 반환
+            while (!busyUntil.isEmpty() && busyUntil.peek() <= now) {
+                busyUntil.poll();
+            }
+            // 빈 워커에 작업 할당
+            while (busyUntil.size() < WORKERS && queue.size() > 0) {
+                Job job = queue.poll();
+                waits.computeIfAbsent(job.classId(), k -> new ArrayList<>()).add(now - job.arrival());
+                busyUntil.offer(now + job.service());
+            }
+
+            // 다음 이벤트 시각으로 이동
+            long nextArrival = next < trace.size() ? trace.get(next).arrival() : Long.MAX_VALUE;
+            long nextFree = busyUntil.size() >= WORKERS || queue.size() == 0
+                    ? (busyUntil.isEmpty() ? Long.MAX_VALUE : busyUntil.peek())
+                    : now;
+            now = Math.max(now, Math.min(nextArrival, nextFree));
+        }
+        return waits;
+    }
+
+    private static long percentile(List<Long> values, int p) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private record Job(String classId, String userId, boolean priority, long arrival, long service) { }
+
+    private interface SimQueue {
+        void offer(Job job);
+
+        Job poll();
+
+        int size();
+    }
+
+    private static final class FifoQueue implements SimQueue {
+
+        private final Deque<Job> queue = new ArrayDeque<>();
+
+        @Override
+        public void offer(Job job) {
+            queue.offer(job);
+        }
+
+        @Override
+        public Job poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+    }
+
+    private static final class FairQueue implements SimQueue {
+
+        private final FairScheduler<Job> scheduler = new FairScheduler<>(QUANTUM);
+
+        @Override
+        public void offer(Job job) {
+            scheduler.offer(job.classId(), job.userId(), job.priority(), job);
+        }
+
+        @Override
+        public Job poll() {
+            return scheduler.poll();
+        }
+
+        @Override
+        public int size() {
+            return scheduler.size();
+        }
+    }
+}
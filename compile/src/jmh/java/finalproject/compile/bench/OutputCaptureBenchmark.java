@@ -0,0 +1,95 @@
+package finalproject.compile.bench;
+
+import finalproject.compile.global.util.CmdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CmdUtils 출력 수집 벤치마크 (stub 프로세스)
+ * - 실제 프로세스 생성 없이 고정 출력을 내보내는 Process 로 collect 의 수집 경로만 측정
+ * - outputBytes : 일반 출력(1KB) / head+tail 생략 구간 발생(64KB) / 출력 한도 초과(2MB)
+ * <p>
+ * 실행 : ./gradlew jmh -PjmhIncludes=OutputCapture
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutputCaptureBenchmark {
+
+    @Param({"1024", "65536", "2097152"})
+    private int outputBytes;
+
+    private byte[] output;
+
+    @Setup
+    public void setUp() {
+        byte[] line = "1. kim : 90 / 평균 : 84.00\n".getBytes(StandardCharsets.UTF_8);
+        output = new byte[outputBytes];
+        for (int i = 0; i < outputBytes; i++) {
+            output[i] = line[i % line.length];
+        }
+    }
+
+    @Benchmark
+    public CmdUtils.ExecutionResult collect() throws InterruptedException {
+        return CmdUtils.collect(new StubProcess(output), 5000);
+    }
+
+    /**
+     * 고정 출력 후 바로 종료되는 프로세스
+     */
+    private static final class StubProcess extends Process {
+
+        private final InputStream stdout;
+
+        private StubProcess(byte[] output) {
+            this.stdout = new ByteArrayInputStream(output);
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return stdout;
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public int waitFor() {
+            return 0;
+        }
+
+        @Override
+        public boolean waitFor(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public int exitValue() {
+            return 0;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package finalproject.compile.bench;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 러너 JVM 기동 시간 벤치마크 (소스 파일 모드 vs jar vs jar + AppCDS)
+ * - 실행 컨테이너와 같은 JVM 옵션으로 이 호스트의 JDK 에서 SandboxRunner 를 반복 기동 (Docker 불필요)
+ * - 기동 : 프로세스 시작 → 소켓 PING 응답까지
+ * - 첫 실행 : 기동 직후 학생 코드 형태의 예제(Scanner, 컬렉션, 문자열 포맷, 스트림) 1회 실행 완료까지
+ * - CDS 아카이브는 컴파일 서버와 같은 방식(SandboxRunner --train + -XX:ArchiveClassesAtExit)으로 생성
+ * <p>
+ * 실행 : ./gradlew runnerStartupBenchmark -PrunnerArgs="--iterations=10"
+ */
+public class RunnerStartupBenchmark {
+
+    private static final List<String> RUNNER_JVM_OPTS = List.of("-XX:+UseSerialGC", "-Xmx256m", "-Dfile.encoding=UTF-8");
+    private static final String MAIN_CLASS = "SandboxRunner";
+
+    private static final String SAMPLE = """
+            import java.util.*;
+            import java.util.stream.*;
+
+            public class Main {
+                public static void main(String[] args) {
+                    Scanner sc = new Scanner("5\\n3 1 4 1 5\\n");
+                    int n = sc.nextInt();
+                    List<Integer> list = new ArrayList<>();
+                    for (int i = 0; i < n; i++) list.add(sc.nextInt());
+                    Map<Integer, Integer> counts = new TreeMap<>();
+                    for (int v : list) counts.merge(v, 1, Integer::sum);
+                    Collections.sort(list);
+                    System.out.println(list.stream().map(String::valueOf).collect(Collectors.joining(" ")));
+                    System.out.printf("sum=%d avg=%.2f %s%n", list.stream().mapToInt(i -> i).sum(),
+                            list.stream().mapToInt(i -> i).average().orElse(0), counts);
+                }
+            }
+            """;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = 10;
+        for (String arg : args) {
+            if (arg.startsWith("--iterations=")) iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+        }
+
+        Path work = Files.createTempDirectory("runner-startup");
+        try {
+            Path source = work.resolve(MAIN_CLASS + ".java");
+            try (InputStream in = RunnerStartupBenchmark.class.getClassLoader()
+                    .getResourceAsStream("sandbox/SandboxRunner.java")) {
+                if (in == null) throw new IllegalStateException("sandbox/SandboxRunner.java not found on classpath");
+                Files.write(source, in.readAllBytes());
+            }
+
+            String javaCommand = ProcessHandle.current().info().command().orElse("java");
+            Path jar = work.resolve("runner.jar");
+            Path archive = work.resolve("runner.jsa");
+            buildArchive(javaCommand, source, jar, archive, work.resolve("build"));
+            Map<String, byte[]> sample = compileSample(work.resolve("sample"));
+
+            Map<String, List<String>> modes = new LinkedHashMap<>();
+            modes.put("source", concat(List.of(javaCommand), RUNNER_JVM_OPTS, List.of(source.toString())));
+            modes.put("jar", concat(List.of(javaCommand), RUNNER_JVM_OPTS, List.of("-cp", jar.toString(), MAIN_CLASS)));
+            modes.put("jar+cds", concat(List.of(javaCommand, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto"),
+                    RUNNER_JVM_OPTS, List.of("-cp", jar.toString(), MAIN_CLASS)));
+
+            System.out.printf("iterations=%d, archive=%dKB, jdk=%s%n%n", iterations, Files.size(archive) / 1024,
+                    Runtime.version());
+            System.out.printf("%-8s | %10s %10s | %10s %10s%n", "mode", "ready p50", "ready avg", "first p50", "first avg");
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                List<Long> ready = new ArrayList<>();
+                List<Long> first = new ArrayList<>();
+                for (int i = 0; i < iterations; i++) {
+                    long[] times = launch(mode.getValue(), work.resolve("r" + i + ".sock"), sample);
+                    ready.add(times[0]);
+                    first.add(times[1]);
+                }
+                System.out.printf("%-8s | %8dms %8dms | %8dms %8dms%n", mode.getKey(),
+                        percentile(ready, 50), average(ready), percentile(first, 50), average(first));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(work)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * 러너 컴파일 → jar → 학습 실행으로 동적 CDS 아카이브 생성
+     */
+    private static void buildArchive(String javaCommand, Path source, Path jar, Path archive, Path buildDir) throws Exception {
+        Files.createDirectories(buildDir);
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        if (javac.run(null, null, null, "-encoding", "UTF-8", "-d", buildDir.toString(), source.toString()) != 0) {
+            throw new IllegalStateException("Runner compile failed");
+        }
+        java.util.spi.ToolProvider jarTool = java.util.spi.ToolProvider.findFirst("jar")
+                .orElseThrow(() -> new IllegalStateException("jar tool not available"));
+        if (jarTool.run(System.out, System.err, "cf", jar.toString(), "-C", buildDir.toString(), ".") != 0) {
+            throw new IllegalStateException("Runner jar failed");
+        }
+
+        Process train = new ProcessBuilder(concat(List.of(javaCommand, "-XX:ArchiveClassesAtExit=" + archive),
+                RUNNER_JVM_OPTS, List.of("-cp", jar.toString(), MAIN_CLASS, "--train")))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (train.waitFor() != 0 || !Files.exists(archive)) {
+            throw new IllegalStateException("CDS archive dump failed");
+        }
+    }
+
+    /**
+     * 예제 프로그램 컴파일 후 클래스 바이트 수집 (러너 RUN 요청 형식)
+     */
+    private static Map<String, byte[]> compileSample(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve("Main.java");
+        Files.writeString(file, SAMPLE);
+        if (ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", dir.toString(), file.toString()) != 0) {
+            throw new IllegalStateException("Sample compile failed");
+        }
+
+        Map<String, byte[]> classes = new HashMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : files.filter(p -> p.toString().endsWith(".class")).toList()) {
+                String name = path.getFileName().toString();
+                classes.put(name.substring(0, name.length() - ".class".length()), Files.readAllBytes(path));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 러너 1회 기동 : {PING 응답까지(ms), 첫 실행 완료까지(ms)}
+     */
+    private static long[] launch(List<String> command, Path socket, Map<String, byte[]> sample) throws Exception {
+        List<String> full = new ArrayList<>(command);
+        full.add(socket.toString());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(full)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) throw new IllegalStateException("Runner exited: " + full);
+                try {
+                    request(socket, out -> out.writeUTF("PING"));
+                    break;
+                } catch (IOException e) {
+                    Thread.sleep(2);
+                }
+            }
+            long ready = (System.nanoTime() - start) / 1_000_000;
+
+            String output = request(socket, out -> {
+                out.writeUTF("RUN");
+                out.writeUTF("Main");
+                out.writeInt(sample.size());
+                for (Map.Entry<String, byte[]> entry : sample.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+                out.writeLong(5000);
+            });
+            if (!output.startsWith("1 1 3 4 5")) throw new IllegalStateException("Unexpected output: " + output);
+            return new long[]{ready, (System.nanoTime() - start) / 1_000_000};
+        } finally {
+            process.destroyForcibly().waitFor();
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    /**
+     * 요청 1건 전송 후 RESULT 프레임의 출력 반환 (OUTPUT 프레임은 이어 붙임)
+     */
+    private static String request(Path socket, RequestWriter writer) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+            writer.write(out);
+            out.flush();
+
+            StringBuilder output = new StringBuilder();
+            while (true) {
+                byte frame = in.readByte();
+                if (frame == 'O') {
+                    output.append(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+                } else if (frame == 'R') {
+                    in.readInt();
+                    in.readBoolean();
+                    output.append(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+                    return output.toString();
+                } else {
+                    throw new IOException("Unexpected frame: " + (char) frame);
+                }
+            }
+        }
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... parts) {
+        List<String> all = new ArrayList<>();
+        for (List<String> part : parts) all.addAll(part);
+        return all;
+    }
+
+    private static long percentile(List<Long> values, int p) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static long average(List<Long> values) {
+        return (long) values.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private interface RequestWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,143 @@
+package finalproject.compile.bench;
+
+import com.sooscode.analyzer.JavaSourceAnalyzer;
+import com.sooscode.analyzer.SourceAnalysis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 제출 코드 검증 벤치마크
+ * - legacy   : 기존 검증 (백엔드 split + contains + 정규식 35개 순차 검사 / 워커 contains + 매 호출 Pattern 컴파일)
+ * - analyzer : 공용 JavaSourceAnalyzer 1회 순회
+ * - 입력은 검증을 통과하는 일반적인 실습 코드 (최악 경우 : 모든 패턴을 끝까지 검사)
+ * <p>
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SourceAnalyzerBenchmark {
+
+    private static final String CODE = Submissions.VALID;
+
+    // ===== 백엔드 (CodeValidator + CodeBlacklistFilter) =====
+
+    private static final List<String> LEGACY_BACKEND_KEYWORDS = List.of(
+            "Runtime.getRuntime", "System.exit", "ProcessBuilder", "Files.readAllBytes",
+            "Class.forName", "Thread.sleep", "while(true)", "while (true)");
+
+    private static final List<Pattern> LEGACY_BACKEND_PATTERNS = List.of(
+            Pattern.compile("System\\s*\\.\\s*exit"),
+            Pattern.compile("Runtime\\s*\\.\\s*getRuntime"),
+            Pattern.compile("ProcessBuilder"),
+            Pattern.compile("exec\\s*\\("),
+            Pattern.compile("java\\s*\\.\\s*io\\s*\\.\\s*File"),
+            Pattern.compile("FileInputStream"),
+            Pattern.compile("FileOutputStream"),
+            Pattern.compile("Files\\s*\\.\\s*read"),
+            Pattern.compile("Files\\s*\\.\\s*write"),
+            Pattern.compile("Paths\\s*\\.\\s*get"),
+            Pattern.compile("Path\\s*\\.\\s*of"),
+            Pattern.compile("Socket"),
+            Pattern.compile("ServerSocket"),
+            Pattern.compile("URLConnection"),
+            Pattern.compile("HttpURLConnection"),
+            Pattern.compile("openStream"),
+            Pattern.compile("InetAddress"),
+            Pattern.compile("java\\s*\\.\\s*lang\\s*\\.\\s*reflect"),
+            Pattern.compile("Class\\s*\\.\\s*forName"),
+            Pattern.compile("ClassLoader"),
+            Pattern.compile("getDeclared"),
+            Pattern.compile("invoke"),
+            Pattern.compile("setAccessible"),
+            Pattern.compile("new\\s+Thread"),
+            Pattern.compile("Thread\\s*\\.\\s*sleep"),
+            Pattern.compile("Executor"),
+            Pattern.compile("ForkJoinPool"),
+            Pattern.compile("TimerTask"),
+            Pattern.compile("while\\s*\\(\\s*true\\s*\\)"),
+            Pattern.compile("for\\s*\\(\\s*;\\s*;\\s*\\)"),
+            Pattern.compile("Unsafe"),
+            Pattern.compile("System\\s*\\.\\s*load"),
+            Pattern.compile("sun\\s*\\.\\s*misc"),
+            Pattern.compile("\\\\u[0-9a-fA-F]{4}"));
+
+    private static final JavaSourceAnalyzer BACKEND_ANALYZER = new JavaSourceAnalyzer(List.of(
+            "System.exit", "Runtime.getRuntime", "ProcessBuilder", "exec(",
+            "java.io.File", "FileInputStream", "FileOutputStream", "Files.read", "Files.write", "Paths.get", "Path.of",
+            "Socket", "URLConnection", "openStream", "InetAddress",
+            "java.lang.reflect", "Class.forName", "ClassLoader", "getDeclared", "invoke", "setAccessible",
+            "new Thread", "Thread.sleep", "Executor", "ForkJoinPool", "TimerTask",
+            "while(true)", "for(;;)",
+            "Unsafe", "System.load", "sun.misc"));
+
+    // ===== 워커 (CompileWorkerService) =====
+
+    private static final List<String> WORKER_KEYWORDS = List.of(
+            "System.exit", "Runtime.getRuntime", "ProcessBuilder", "java.io.File", "java.nio.file",
+            "java.net", "java.lang.reflect", "sun.misc.Unsafe", "Thread", "ForkJoinPool");
+
+    private static final JavaSourceAnalyzer WORKER_ANALYZER = new JavaSourceAnalyzer(WORKER_KEYWORDS);
+
+    @Benchmark
+    public void legacyBackend(Blackhole blackhole) {
+        blackhole.consume(CODE.split("\r\n|\r|\n").length);
+        for (String keyword : LEGACY_BACKEND_KEYWORDS) {
+            blackhole.consume(CODE.contains(keyword));
+        }
+        for (Pattern pattern : LEGACY_BACKEND_PATTERNS) {
+            blackhole.consume(pattern.matcher(CODE).find());
+        }
+    }
+
+    @Benchmark
+    public SourceAnalysis analyzerBackend() {
+        return BACKEND_ANALYZER.analyze(CODE);
+    }
+
+    @Benchmark
+    public String legacyWorker(Blackhole blackhole) {
+        for (String keyword : WORKER_KEYWORDS) {
+            blackhole.consume(CODE.contains(keyword));
+        }
+        return legacyDetectEntryClass(CODE);
+    }
+
+    @Benchmark
+    public String analyzerWorker() {
+        return WORKER_ANALYZER.analyze(CODE).entryClass();
+    }
+
+    /**
+     * 기존 CompileWorkerService.detectEntryClass (매 호출 Pattern 컴파일 + main 위치까지 재검색)
+     */
+    static String legacyDetectEntryClass(String code) {
+        Matcher mainMatcher = Pattern.compile("public\\s+static\\s+void\\s+main\\s*\\(").matcher(code);
+        int count = 0;
+        while (mainMatcher.find()) count++;
+        if (count != 1) return null;
+
+        Matcher mainPos = Pattern.compile("public\\s+static\\s+void\\s+main\\s*\\(").matcher(code);
+        if (mainPos.find()) {
+            String beforeMain = code.substring(0, mainPos.start());
+            Matcher classMatcher = Pattern.compile("(public\\s+)?class\\s+(\\w+)").matcher(beforeMain);
+
+            String className = null;
+            while (classMatcher.find()) {
+                className = classMatcher.group(2);
+            }
+            return className;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package finalproject.compile.bench;
+
+/**
+ * 벤치마크 공용 입력 (고정 문자열 → 실행할 때마다 같은 입력)
+ */
+public final class Submissions {
+
+    /**
+     * 검증을 통과하는 일반적인 실습 코드 (약 900자, 중첩 클래스 + 주석 + 문자열 포함)
+     */
+    public static final String VALID = """
+            import java.util.*;
+
+            // 학생 점수 정렬 실습
+            public class Main {
+
+                static class Student {
+                    String name;
+                    int score;
+
+                    Student(String name, int score) {
+                        this.name = name;
+                        this.score = score;
+                    }
+                }
+
+                public static void main(String[] args) {
+                    List<Student> students = new ArrayList<>();
+                    students.add(new Student("kim", 90));
+                    students.add(new Student("lee", 85));
+                    students.add(new Student("park", 77));
+
+                    /* 점수 내림차순 정렬 */
+                    students.sort((a, b) -> b.score - a.score);
+
+                    int total = 0;
+                    for (int i = 0; i < students.size(); i++) {
+                        Student s = students.get(i);
+                        total += s.score;
+                        System.out.println((i + 1) + ". " + s.name + " : " + s.score);
+                    }
+                    System.out.printf("평균 : %.2f%n", total / (double) students.size());
+                }
+            }
+            """;
+
+    /**
+     * 금지 구문이 코드 끝부분에 있는 제출 (검사 대부분을 거친 뒤 거절)
+     */
+    public static final String FORBIDDEN = VALID.replace(
+            "System.out.printf(\"평균 : %.2f%n\", total / (double) students.size());",
+            "Runtime.getRuntime().exec(\"ls\");");
+
+    private Submissions() {
+    }
+}
@@ -0,0 +1,276 @@
+package finalproject.compile.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import finalproject.compile.CompileServerApplication;
+import finalproject.compile.bench.Submissions;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컴파일 서버 처리량 부하 테스트 (Docker / Redis 없이 실행)
+ * - 실제 애플리케이션을 띄우고 전체 경로를 그대로 통과
+ *   POST /api/compile/run → LocalJobQueue → WorkerListener → CompileWorkerService(FakeCodeExecutor) → CallbackClient
+ * - Redis 는 인프로세스 대체 서버(RedisStandIn), 콜백은 로컬 HTTP 서버로 수신
+ * - 노드 수 x 노드당 워커 수(compile.fake.concurrency)별로 같은 부하를 보내고 처리량 / 큐 대기 / 종단 지연 p50·p95·p99 출력
+ *   노드가 여러 개면 같은 Redis 를 쓰는 애플리케이션을 여러 개 띄우고 요청을 번갈아 전송
+ *   큐 대기 = 실행 시작(startedAt) - 큐 등록(queuedAt), 종단 지연 = 콜백 수신 - 요청 전송
+ * <p>
+ * 실행 : ./gradlew loadTest -PloadArgs="--jobs=400 --nodes=1,2,4 --workers=1,2,4,8 --compile-ms=300 --run-ms=200"
+ */
+public class CompileLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int jobs = Integer.parseInt(options.getOrDefault("jobs", "400"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "16"));
+        long compileMillis = Long.parseLong(options.getOrDefault("compile-ms", "300"));
+        long runMillis = Long.parseLong(options.getOrDefault("run-ms", "200"));
+        int outputBytes = Integer.parseInt(options.getOrDefault("output-bytes", "1024"));
+        List<Integer> workerCounts = parseList(options.getOrDefault("workers", "1,2,4,8"));
+        List<Integer> nodeCounts = parseList(options.getOrDefault("nodes", "1"));
+
+        List<String> report = new ArrayList<>();
+        try (RedisStandIn redis = new RedisStandIn()) {
+            CallbackReceiver receiver = new CallbackReceiver();
+            try {
+                for (int nodes : nodeCounts) {
+                    for (int workers : workerCounts) {
+                        redis.flush();
+                        receiver.reset(jobs);
+
+                        Map<String, Object> properties = new HashMap<>();
+                        properties.put("server.port", 0);
+                        properties.put("spring.main.banner-mode", "off");
+                        properties.put("logging.level.root", "WARN");
+                        properties.put("spring.data.redis.host", "127.0.0.1");
+                        properties.put("spring.data.redis.port", redis.getPort());
+                        properties.put("compile.bus.redis.host", "127.0.0.1");
+                        properties.put("compile.bus.redis.port", redis.getPort());
+                        properties.put("compile.queue.type", "list");
+                        properties.put("compile.callback.mode", "http");
+                        properties.put("compile.executor", "fake");
+                        properties.put("compile.fake.concurrency", workers);
+                        properties.put("compile.fake.compile-ms", compileMillis);
+                        properties.put("compile.fake.run-ms", runMillis);
+                        properties.put("compile.fake.output-bytes", outputBytes);
+                        // 처리량 측정이 목적이므로 수락 제어(429 거절)는 끔
+                        properties.put("compile.admission.max-wait-ms", Long.MAX_VALUE);
+                        // 모든 요청이 같은 소스이므로 동일 작업 합치기도 끔 (RedisStandIn 은 EVAL 미지원)
+                        properties.put("compile.coalesce.enabled", false);
+
+                        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+                        try {
+                            List<Integer> ports = new ArrayList<>();
+                            for (int i = 0; i < nodes; i++) {
+                                ConfigurableApplicationContext context = new SpringApplicationBuilder(CompileServerApplication.class)
+                                        .properties(properties)
+                                        .run();
+                                contexts.add(context);
+                                ports.add(context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+                            }
+                            report.add(runScenario(nodes, workers, jobs, clients, ports, receiver, redis, compileMillis + runMillis));
+                        } finally {
+                            contexts.forEach(ConfigurableApplicationContext::close);
+                        }
+                    }
+                }
+            } finally {
+                receiver.close();
+            }
+        }
+
+        System.out.printf("%njobs=%d, clients=%d, compile=%dms, run=%dms, output=%dB%n",
+                jobs, clients, compileMillis, runMillis, outputBytes);
+        System.out.printf("%5s %7s | %9s | %8s %8s %8s | %8s %8s %8s%n",
+                "nodes", "workers", "runs/s", "wait p50", "wait p95", "wait p99", "e2e p50", "e2e p95", "e2e p99");
+        report.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    /**
+     * 노드 수 x 워커 수 설정 1개로 jobs 건 전송(노드별로 번갈아) 후 결과 집계
+     */
+    private static String runScenario(int nodes, int workers, int jobs, int clients, List<Integer> ports,
+                                      CallbackReceiver receiver, RedisStandIn redis, long serviceMillis) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        List<URI> runUris = ports.stream()
+                .map(port -> URI.create("http://127.0.0.1:" + port + "/api/compile/run"))
+                .toList();
+        Map<String, Long> submittedAt = new ConcurrentHashMap<>();
+
+        ExecutorService senders = Executors.newFixedThreadPool(clients);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < jobs; i++) {
+            String jobId = UUID.randomUUID().toString();
+            URI runUri = runUris.get(i % runUris.size());
+            senders.execute(() -> {
+                try {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("jobId", jobId);
+                    body.put("code", Submissions.VALID);
+                    body.put("callbackUrl", receiver.urlFor(jobId));
+
+                    submittedAt.put(jobId, System.currentTimeMillis());
+                    HttpResponse<Void> response = http.send(HttpRequest.newBuilder(runUri)
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        System.err.println("run rejected: " + response.statusCode());
+                    }
+                } catch (Exception e) {
+                    System.err.println("run failed: " + e.getMessage());
+                }
+            });
+        }
+        senders.shutdown();
+
+        // 최대 대기 : 전체 서비스 시간의 2배 + 여유
+        long budgetMillis = jobs * serviceMillis * 2 / Math.max(1, nodes * workers) + 60_000;
+        if (!receiver.await(budgetMillis)) {
+            System.err.printf("nodes=%d, workers=%d: %d of %d callbacks missing%n", nodes, workers, receiver.missing(), jobs);
+        }
+
+        List<Long> waits = new ArrayList<>();
+        List<Long> latencies = new ArrayList<>();
+        long lastDone = start;
+        for (Map.Entry<String, Long> entry : receiver.completedAt().entrySet()) {
+            Long sent = submittedAt.get(entry.getKey());
+            if (sent == null) continue;
+            latencies.add(entry.getValue() - sent);
+            lastDone = Math.max(lastDone, entry.getValue());
+
+            Long wait = queueWait(redis, entry.getKey());
+            if (wait != null) waits.add(wait);
+        }
+
+        double seconds = Math.max(1, lastDone - start) / 1000.0;
+        return String.format("%5d %7d | %9.1f | %6dms %6dms %6dms | %6dms %6dms %6dms",
+                nodes, workers, latencies.size() / seconds,
+                percentile(waits, 50), percentile(waits, 95), percentile(waits, 99),
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99));
+    }
+
+    /**
+     * 워커가 저장한 Job(job:{id}) 의 queuedAt / startedAt 으로 큐 대기 시간 계산
+     */
+    private static Long queueWait(RedisStandIn redis, String jobId) {
+        byte[] raw = redis.get("job:" + jobId);
+        if (raw == null) return null;
+        try {
+            JsonNode job = MAPPER.readTree(raw);
+            long queuedAt = job.path("queuedAt").asLong();
+            long startedAt = job.path("startedAt").asLong();
+            return queuedAt > 0 && startedAt > 0 ? startedAt - queuedAt : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static long percentile(List<Long> values, int p) {
+        if (values.isEmpty()) return -1;
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static List<Integer> parseList(String value) {
+        List<Integer> values = new ArrayList<>();
+        for (String item : value.split(",")) {
+            values.add(Integer.parseInt(item.trim()));
+        }
+        return values;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) continue;
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    /**
+     * 콜백 수신 서버 (POST /callback/{jobId} → 수신 시각 기록)
+     */
+    private static final class CallbackReceiver implements AutoCloseable {
+
+        private static final String PATH = "/callback/";
+
+        private final HttpServer server;
+        private volatile Map<String, Long> completedAt = new ConcurrentHashMap<>();
+        private volatile CountDownLatch remaining = new CountDownLatch(0);
+
+        private CallbackReceiver() throws IOException {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.setExecutor(Executors.newFixedThreadPool(8));
+            server.createContext(PATH, exchange -> {
+                long now = System.currentTimeMillis();
+                try (InputStream body = exchange.getRequestBody()) {
+                    body.readAllBytes();
+                }
+                String jobId = exchange.getRequestURI().getPath().substring(PATH.length());
+                if (completedAt.putIfAbsent(jobId, now) == null) {
+                    remaining.countDown();
+                }
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        private String urlFor(String jobId) {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + PATH + jobId;
+        }
+
+        private void reset(int jobs) {
+            completedAt = new ConcurrentHashMap<>();
+            remaining = new CountDownLatch(jobs);
+        }
+
+        private boolean await(long millis) throws InterruptedException {
+            return remaining.await(millis, TimeUnit.MILLISECONDS);
+        }
+
+        private long missing() {
+            return remaining.getCount();
+        }
+
+        private Map<String, Long> completedAt() {
+            return completedAt;
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package finalproject.compile.bench.load;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 부하 테스트용 인프로세스 Redis 대체 서버 (RESP2)
+ * - 실제 Redis 없이 Lettuce 로 접속 가능한 최소 구현 (loopback, 임의 포트)
+ * - list 큐 / Job 저장 / 결과 발행 / 워커 레지스트리 경로에서 쓰는 명령만 지원
+ *   GET, MGET, SET(EX/PX/NX), SETEX, PSETEX, DEL, EXISTS, RPUSH, LPUSH, LLEN, LREM, LRANGE,
+ *   RPOPLPUSH, BRPOPLPUSH, SADD, SREM, SMEMBERS, PUBLISH, PING, SELECT, CLIENT, FLUSHALL, FLUSHDB, QUIT
+ * - HELLO 는 거절 → 클라이언트가 RESP2 로 전환
+ * - 연결마다 스레드 1개, 전체 데이터는 락 1개로 보호 (정확성 우선, 성능 측정 대상 아님)
+ */
+public final class RedisStandIn implements Closeable {
+
+    private final ServerSocket server;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pushed = lock.newCondition();
+
+    private final Map<String, byte[]> strings = new HashMap<>();
+    private final Map<String, Long> expiries = new HashMap<>();
+    private final Map<String, Deque<byte[]>> lists = new HashMap<>();
+    private final Map<String, Map<String, byte[]>> sets = new HashMap<>();
+
+    private final List<Socket> clients = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public RedisStandIn() throws IOException {
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "redis-stand-in");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * 문자열 값 직접 조회 (부하 테스트 결과 수집용)
+     */
+    public byte[] get(String key) {
+        lock.lock();
+        try {
+            return liveString(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        lock.lock();
+        try {
+            strings.clear();
+            expiries.clear();
+            lists.clear();
+            sets.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        server.close();
+        synchronized (clients) {
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket client = server.accept();
+                client.setTcpNoDelay(true);
+                synchronized (clients) {
+                    clients.add(client);
+                }
+                Thread handler = new Thread(() -> serve(client), "redis-stand-in-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (running) e.printStackTrace();
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client;
+             InputStream in = new BufferedInputStream(client.getInputStream());
+             OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+            while (running) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) return;
+
+                boolean quit = execute(command, out);
+                if (in.available() == 0) out.flush();
+                if (quit) {
+                    out.flush();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 종료
+        }
+    }
+
+    /**
+     * 명령 1건 실행
+     *
+     * @return QUIT 이면 true
+     */
+    private boolean execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase();
+        List<byte[]> args = command.subList(1, command.size());
+
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "SELECT", "CLIENT", "FLUSHDB", "FLUSHALL" -> {
+                if (name.startsWith("FLUSH")) flush();
+                simple(out, "OK");
+            }
+            case "QUIT" -> {
+                simple(out, "OK");
+                return true;
+            }
+            case "GET" -> bulk(out, get(text(args.get(0))));
+            case "MGET" -> array(out, multiGet(args));
+            case "SET" -> set(args, out);
+            case "SETEX", "PSETEX" -> {
+                long ttl = Long.parseLong(text(args.get(1)));
+                put(text(args.get(0)), args.get(2), name.equals("SETEX") ? TimeUnit.SECONDS.toMillis(ttl) : ttl);
+                simple(out, "OK");
+            }
+            case "DEL", "EXISTS" -> integer(out, deleteOrCount(args, name.equals("DEL")));
+            case "RPUSH", "LPUSH" -> integer(out, push(text(args.get(0)), args.subList(1, args.size()), name.equals("RPUSH")));
+            case "LLEN" -> integer(out, length(text(args.get(0))));
+            case "LREM" -> integer(out, remove(text(args.get(0)), Long.parseLong(text(args.get(1))), args.get(2)));
+            case "LRANGE" -> array(out, range(text(args.get(0)),
+                    Long.parseLong(text(args.get(1))), Long.parseLong(text(args.get(2)))));
+            case "RPOPLPUSH" -> bulk(out, popPush(text(args.get(0)), text(args.get(1)), 0));
+            case "BRPOPLPUSH" -> {
+                long timeoutMillis = (long) (Double.parseDouble(text(args.get(2))) * 1000);
+                byte[] value = popPush(text(args.get(0)), text(args.get(1)), timeoutMillis == 0 ? Long.MAX_VALUE : timeoutMillis);
+                bulk(out, value);
+            }
+            case "SADD", "SREM" -> integer(out, addOrRemove(text(args.get(0)), args.subList(1, args.size()), name.equals("SADD")));
+            case "SMEMBERS" -> array(out, members(text(args.get(0))));
+            case "PUBLISH" -> integer(out, 0);
+            default -> error(out, "ERR unknown command '" + name + "'");
+        }
+        return false;
+    }
+
+    // ===== 명령 구현 =====
+
+    private void set(List<byte[]> args, OutputStream out) throws IOException {
+        String key = text(args.get(0));
+        long ttlMillis = 0;
+        boolean ifAbsent = false;
+        boolean ifPresent = false;
+        for (int i = 2; i < args.size(); i++) {
+            String option = text(args.get(i)).toUpperCase();
+            switch (option) {
+                case "EX" -> ttlMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(text(args.get(++i))));
+                case "PX" -> ttlMillis = Long.parseLong(text(args.get(++i)));
+                case "NX" -> ifAbsent = true;
+                case "XX" -> ifPresent = true;
+                default -> {
+                }
+            }
+        }
+
+        lock.lock();
+        try {
+            boolean exists = liveString(key) != null;
+            if ((ifAbsent && exists) || (ifPresent && !exists)) {
+                bulk(out, null);
+                return;
+            }
+            put(key, args.get(1), ttlMillis);
+        } finally {
+            lock.unlock();
+        }
+        simple(out, "OK");
+    }
+
+    private void put(String key, byte[] value, long ttlMillis) {
+        lock.lock();
+        try {
+            strings.put(key, value);
+            if (ttlMillis > 0) {
+                expiries.put(key, System.currentTimeMillis() + ttlMillis);
+            } else {
+                expiries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] liveString(String key) {
+        Long expiry = expiries.get(key);
+        if (expiry != null && expiry <= System.currentTimeMillis()) {
+            strings.remove(key);
+            expiries.remove(key);
+            return null;
+        }
+        return strings.get(key);
+    }
+
+    private long deleteOrCount(List<byte[]> keys, boolean delete) {
+        lock.lock();
+        try {
+            long count = 0;
+            for (byte[] raw : keys) {
+                String key = text(raw);
+                boolean exists = liveString(key) != null || lists.containsKey(key) || sets.containsKey(key);
+                if (exists) count++;
+                if (delete) {
+                    strings.remove(key);
+                    expiries.remove(key);
+                    lists.remove(key);
+                    sets.remove(key);
+                }
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<byte[]> multiGet(List<byte[]> keys) {
+        lock.lock();
+        try {
+            List<byte[]> values = new ArrayList<>(keys.size());
+            for (byte[] key : keys) {
+                values.add(liveString(text(key)));
+            }
+            return values;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long addOrRemove(String key, List<byte[]> members, boolean add) {
+        lock.lock();
+        try {
+            Map<String, byte[]> set = add ? sets.computeIfAbsent(key, k -> new LinkedHashMap<>()) : sets.get(key);
+            if (set == null) return 0;
+
+            long changed = 0;
+            for (byte[] member : members) {
+                boolean hit = add ? set.put(text(member), member) == null : set.remove(text(member)) != null;
+                if (hit) changed++;
+            }
+            if (set.isEmpty()) sets.remove(key);
+            return changed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<byte[]> members(String key) {
+        lock.lock();
+        try {
+            Map<String, byte[]> set = sets.get(key);
+            return set != null ? new ArrayList<>(set.values()) : List.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long push(String key, List<byte[]> values, boolean tail) {
+        lock.lock();
+        try {
+            Deque<byte[]> list = lists.computeIfAbsent(key, k -> new ArrayDeque<>());
+            for (byte[] value : values) {
+                if (tail) list.addLast(value);
+                else list.addFirst(value);
+            }
+            pushed.signalAll();
+            return list.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long length(String key) {
+        lock.lock();
+        try {
+            Deque<byte[]> list = lists.get(key);
+            return list != null ? list.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long remove(String key, long count, byte[] value) {
+        lock.lock();
+        try {
+            Deque<byte[]> list = lists.get(key);
+            if (list == null) return 0;
+
+            long removed = 0;
+            Iterator<byte[]> it = count < 0 ? list.descendingIterator() : list.iterator();
+            long limit = count == 0 ? Long.MAX_VALUE : Math.abs(count);
+            while (it.hasNext() && removed < limit) {
+                if (Arrays.equals(it.next(), value)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            if (list.isEmpty()) lists.remove(key);
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<byte[]> range(String key, long start, long stop) {
+        lock.lock();
+        try {
+            Deque<byte[]> list = lists.get(key);
+            if (list == null) return List.of();
+
+            List<byte[]> values = new ArrayList<>(list);
+            int size = values.size();
+            int from = (int) Math.max(0, start < 0 ? size + start : start);
+            int to = (int) Math.min(size - 1, stop < 0 ? size + stop : stop);
+            return from > to ? List.of() : values.subList(from, to + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * source 꼬리에서 꺼내 destination 머리에 넣음 (비어 있으면 timeoutMillis 까지 대기)
+     */
+    private byte[] popPush(String source, String destination, long timeoutMillis) {
+        long deadline = timeoutMillis == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + timeoutMillis;
+        lock.lock();
+        try {
+            while (true) {
+                Deque<byte[]> list = lists.get(source);
+                if (list != null && !list.isEmpty()) {
+                    byte[] value = list.pollLast();
+                    if (list.isEmpty()) lists.remove(source);
+                    lists.computeIfAbsent(destination, k -> new ArrayDeque<>()).addFirst(value);
+                    return value;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || !running) return null;
+                pushed.await(Math.min(remaining, 1000), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== RESP 입출력 =====
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) return null;
+        if (type != '*') {
+            throw new IOException("Inline commands are not supported: " + (char) type);
+        }
+
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') throw new IOException("Bulk string expected");
+            int length = Integer.parseInt(readLine(in));
+            byte[] value = in.readNBytes(length);
+            if (value.length < length) throw new EOFException();
+            in.read();
+            in.read();
+            parts.add(value);
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) throw new EOFException();
+            sb.append((char) c);
+        }
+        in.read();
+        return sb.toString();
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(('+' + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write(('-' + message + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void array(OutputStream out, List<byte[]> values) throws IOException {
+        out.write(("*" + values.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+        for (byte[] value : values) {
+            bulk(out, value);
+        }
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -3,17 +3,25 @@ package finalproject.compile.application.compile.controller;
 import finalproject.compile.application.compile.dto.CompileRequest;
 import finalproject.compile.application.compile.dto.CompileResponse;
 import finalproject.compile.application.compile.dto.CompileResultResponse;
+import finalproject.compile.application.compile.dto.GradeRequest;
+import finalproject.compile.application.compile.dto.ReadinessResponse;
+import finalproject.compile.application.compile.dto.ResourceStatsResponse;
 import finalproject.compile.application.compile.service.CompileApiService;
 import finalproject.compile.application.compile.service.CompileResultService;
+import finalproject.compile.application.compile.service.ResourceStatsService;
 import finalproject.compile.application.compile.worker.CompileWorkerService;
-import finalproject.compile.domain.compile.entity.CompileJob;
-import finalproject.compile.infra.queue.LocalJobQueue;
+import finalproject.compile.infra.cluster.WorkerNodeStatus;
+import finalproject.compile.infra.cluster.WorkerRegistry;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -22,33 +30,66 @@ public class CompileController {
     private final CompileApiService apiService;
     private final CompileResultService resultService;
     private final CompileWorkerService workerService;
-    private final LocalJobQueue localJobQueue;
+    private final ResourceStatsService resourceStatsService;
+    private final WorkerRegistry workerRegistry;
     /**
      * 코드 실행 요청 API
+     * - 같은 소스가 이미 실행 대기/중이면 큐에 넣지 않고 대기자로 등록 → 같은 결과를 각자의 콜백으로 전달
+     * - 예상 완료 시간이 백엔드 대기 한도를 넘으면 큐에 넣지 않고 429 + Retry-After 로 즉시 거절
+     * - 수락 시 큐 순번 / 예상 완료 시간 반환
      */
     @PostMapping("/run")
     public ResponseEntity<CompileResponse> run(@RequestBody CompileRequest request) {
-
-        //  jobId는 백엔드에서 생성하여 전달함
-        String jobId = request.getJobId();
-
-        //  CompileJob 엔티티 생성
-        CompileJob job = new CompileJob(
-                jobId,
-                request.getCode(),
-                request.getCallbackUrl()
-        );
-        //  LocalJobQueue 에 job 등록 (BlockingQueue.put)
-        localJobQueue.push(job);
-
-        //  즉시 jobId 반환 → 비동기 처리
-        return ResponseEntity.ok(new CompileResponse(jobId));
+        CompileApiService.RunOutcome outcome = apiService.runCode(request);
+        if (!outcome.admitted()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(outcome.retryAfterSeconds()))
+                    .body(outcome.response());
+        }
+        return ResponseEntity.ok(outcome.response());
     }
 
+    /**
+     * 채점 요청 API
+     * - 1회 컴파일 후 케이스별 표준 입력으로 연속 실행, 기대 출력과 비교
+     */
+    @PostMapping("/grade")
+    public ResponseEntity<CompileResponse> grade(@Valid @RequestBody GradeRequest request) {
+        return ResponseEntity.ok(apiService.gradeCode(request));
+    }
 
     /** 결과 조회 API */
     @GetMapping("/result/{jobId}")
     public ResponseEntity<CompileResultResponse> result(@PathVariable String jobId) {
         return ResponseEntity.ok(resultService.readResult(jobId));
     }
+
+    /**
+     * 자원 사용량 집계 API (이 워커 노드 기동 이후 누적)
+     * - 컴파일 / 실행 단계별 경과 시간, CPU 시간, 메모리 히스토그램과 OOM 횟수
+     */
+    @GetMapping("/stats/resources")
+    public ResponseEntity<ResourceStatsResponse> resourceStats() {
+        return ResponseEntity.ok(resourceStatsService.snapshot());
+    }
+
+    /**
+     * 준비 상태 API (로드밸런서 / 배포 readiness probe 용)
+     * - 컨테이너 풀이 ready-min 개 이상 준비되면 200, 아니면 503
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<ReadinessResponse> ready() {
+        boolean ready = workerService.isReady();
+        ReadinessResponse body = new ReadinessResponse(
+                workerRegistry.getNodeId(), ready, workerService.getWarmCount(), workerService.getWorkerCount());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
+    /**
+     * 워커 노드 목록 API (마지막 하트비트 기준 실행 슬롯 / 남은 슬롯)
+     */
+    @GetMapping("/stats/nodes")
+    public ResponseEntity<List<WorkerNodeStatus>> nodes() {
+        return ResponseEntity.ok(workerRegistry.getLiveNodes());
+    }
 }
\ No newline at end of file
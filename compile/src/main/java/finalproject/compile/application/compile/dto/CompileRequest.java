@@ -1,18 +1,36 @@
 package finalproject.compile.application.compile.dto;
 
+import finalproject.compile.domain.compile.entity.ProjectFile;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class CompileRequest {
 
-    @NotBlank(message = "코드는 비어있을 수 없습니다.")
     @Size(max = 10000, message = "코드 길이는 10,000자를 초과할 수 없습니다.")
     private String code;
 
+    /**
+     * 프로젝트 모드 소스 파일 목록 (선택, 있으면 code 대신 사용)
+     * - 파일들을 함께 컴파일, main 은 전체 파일 중 하나만 존재해야 함
+     * */
+    @Valid
+    @Size(max = 20, message = "파일은 20개를 초과할 수 없습니다.")
+    private List<ProjectFile> files;
+
+    /**
+     * 증분 컴파일 세션 key (프로젝트 모드, 선택)
+     * - 없으면 userId 를 사용, 같은 세션의 다음 실행은 바뀐 파일과 그 파일에 의존하는 파일만 다시 컴파일
+     * */
+    private String sessionId;
+
     /**
      * request dto  결과를 전달할 백엔드 서버의 callback url
      * */
@@ -24,4 +42,22 @@ public class CompileRequest {
      * */
     @NotBlank(message = "Job ID는 필수입니다.")
     private String jobId;
+
+    /**
+     * 공정 스케줄링용 요청 정보 (선택)
+     * - classId : 요청한 클래스(강의실), 없으면 default 그룹
+     * - userId : 요청한 사용자
+     * - priority : 강사 실행 여부 (우선 처리)
+     * */
+    private String classId;
+    private String userId;
+    private boolean priority;
+
+    /**
+     * code 또는 files 중 하나는 필요
+     * */
+    @AssertTrue(message = "코드는 비어있을 수 없습니다.")
+    public boolean isSourcePresent() {
+        return (code != null && !code.isBlank()) || (files != null && !files.isEmpty());
+    }
 }
@@ -3,8 +3,19 @@ package finalproject.compile.application.compile.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 실행 요청 접수 응답
+ * - position  : 접수 시점의 큐 순번 (1부터, 수락 제어를 거치지 않은 요청은 0)
+ * - etaMillis : 예상 완료 시간 (대기 + 처리, 수락 제어를 거치지 않은 요청은 0)
+ */
 @Getter
 @AllArgsConstructor
 public class CompileResponse {
     private String jobId;
+    private long position;
+    private long etaMillis;
+
+    public CompileResponse(String jobId) {
+        this(jobId, 0, 0);
+    }
 }
@@ -1,11 +1,26 @@
 package finalproject.compile.application.compile.dto;
 
+import finalproject.compile.domain.compile.entity.CompileDiagnostic;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import finalproject.compile.domain.compile.entity.TestCaseResult;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public class CompileResultResponse {
     private String status;
     private String output;
+
+    // 컴파일러 진단 목록 (에러 / 경고가 없으면 null)
+    private List<CompileDiagnostic> diagnostics;
+
+    // 채점 작업의 케이스별 결과 (일반 실행은 null)
+    private List<TestCaseResult> testResults;
+
+    // 단계별 자원 사용량 (해당 단계를 거치지 않았으면 null)
+    private ResourceUsage compileUsage;
+    private ResourceUsage runUsage;
 }
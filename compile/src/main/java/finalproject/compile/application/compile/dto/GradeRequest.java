@@ -0,0 +1,49 @@
+package finalproject.compile.application.compile.dto;
+
+import finalproject.compile.domain.compile.entity.TestCase;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class GradeRequest {
+
+    @NotBlank(message = "코드는 비어있을 수 없습니다.")
+    @Size(max = 10000, message = "코드 길이는 10,000자를 초과할 수 없습니다.")
+    private String code;
+
+    @NotBlank(message = "콜백 URL은 필수입니다.")
+    private String callbackUrl;
+
+    @NotBlank(message = "Job ID는 필수입니다.")
+    private String jobId;
+
+    /**
+     * 채점 케이스 목록 (표준 입력 / 기대 출력)
+     * - 1회 컴파일 후 한 실행 환경에서 순서대로 실행
+     * */
+    @Valid
+    @NotEmpty(message = "채점 케이스는 1개 이상이어야 합니다.")
+    @Size(max = 50, message = "채점 케이스는 50개를 초과할 수 없습니다.")
+    private List<TestCase> testCases;
+
+    /**
+     * 케이스별 실행 제한 시간 (ms, 선택)
+     * - 없으면 기본값 2초, 최대 5초
+     * */
+    private long caseTimeoutMillis;
+
+    /**
+     * 공정 스케줄링용 요청 정보 (선택)
+     * - classId : 요청한 클래스(강의실), 없으면 default 그룹
+     * - userId : 채점 대상 사용자
+     * */
+    private String classId;
+    private String userId;
+}
@@ -0,0 +1,19 @@
+package finalproject.compile.application.compile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 워커 노드 준비 상태 응답
+ * - ready          : 실행 준비 완료 여부 (컨테이너 풀 ready-min 개 이상 준비)
+ * - warmContainers : 바로 실행 가능한 실행 환경 수
+ * - slots          : 이 노드의 실행 슬롯 수
+ */
+@Getter
+@AllArgsConstructor
+public class ReadinessResponse {
+    private String nodeId;
+    private boolean ready;
+    private int warmContainers;
+    private int slots;
+}
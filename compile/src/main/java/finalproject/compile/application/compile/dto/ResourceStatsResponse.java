@@ -0,0 +1,54 @@
+package finalproject.compile.application.compile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자원 사용량 집계 응답 (워커 노드 기동 이후 누적)
+ * - compile / run 단계별로 wall, cpu, memory 히스토그램
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceStatsResponse {
+
+    private long since;
+    private Phase compile;
+    private Phase run;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Phase {
+        private long count;
+        private long oomKilled;
+        private Map<String, Histogram> histograms;
+    }
+
+    /**
+     * 백분위수는 구간 상한 기준 근사값
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Histogram {
+        private String unit;
+        private long count;
+        private long mean;
+        private long max;
+        private long p50;
+        private long p95;
+        private long p99;
+        private List<Bucket> buckets;
+    }
+
+    /**
+     * le : 구간 상한 (이하), null 이면 최대 상한 초과 구간
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private Long le;
+        private long count;
+    }
+}
@@ -0,0 +1,115 @@
+package finalproject.compile.application.compile.service;
+
+import finalproject.compile.infra.cluster.WorkerRegistry;
+import finalproject.compile.infra.queue.JobQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 요청 수락 제어 (큐 길이 기반)
+ * - 작업 1건의 실행 슬롯 점유 시간(컴파일 + 실행)을 EWMA 로 추정
+ * - 예상 대기 = 앞선 작업 수 / 실행 슬롯 수 * 추정 처리 시간, 예상 완료 = 예상 대기 + 추정 처리 시간
+ * - 예상 완료가 백엔드 대기 한도(compile.admission.max-wait-ms)를 넘으면 큐에 넣지 않고 거절 (429 + Retry-After)
+ * - 수락 시 큐 순번과 예상 완료 시간을 응답 → 백엔드가 학생에게 대기 순번 안내
+ * - 큐 길이는 Redis 조회를 줄이기 위해 짧게 캐시하고, 그 사이 수락한 건수를 더해 사용
+ * - 강사 실행(priority)은 항상 수락
+ * - 실행 슬롯 수 : compile.admission.slots, 없으면 워커 레지스트리에 등록된 전체 노드의 실행 슬롯 합계
+ * - 채점 작업은 케이스 수에 따라 처리 시간이 달라 추정에서 제외
+ */
+@Slf4j
+@Service
+public class AdmissionService {
+
+    // EWMA 가중치 (최근 작업 비중)
+    private static final double ALPHA = 0.2;
+
+    private final JobQueue jobQueue;
+    private final WorkerRegistry workerRegistry;
+    private final int fixedSlots;
+    private final long maxWaitMillis;
+    private final long queueRefreshMillis;
+
+    // 작업 1건 처리 시간 추정값 (ms)
+    private volatile double serviceMillis;
+
+    // 캐시된 큐 길이 + 캐시 이후 수락한 건수
+    private volatile long cachedQueueLength;
+    private volatile long refreshedAt;
+    private final AtomicLong admittedSinceRefresh = new AtomicLong();
+    private final Object refreshLock = new Object();
+
+    public AdmissionService(JobQueue jobQueue,
+                            WorkerRegistry workerRegistry,
+                            @Value("${compile.admission.slots:0}") int slots,
+                            @Value("${compile.admission.initial-service-ms:1000}") long initialServiceMillis,
+                            @Value("${compile.admission.max-wait-ms:15000}") long maxWaitMillis,
+                            @Value("${compile.admission.queue-refresh-ms:200}") long queueRefreshMillis) {
+        this.jobQueue = jobQueue;
+        this.workerRegistry = workerRegistry;
+        this.fixedSlots = slots;
+        this.serviceMillis = initialServiceMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.queueRefreshMillis = queueRefreshMillis;
+    }
+
+    /**
+     * 작업 1건의 실행 슬롯 점유 시간 반영
+     */
+    public synchronized void recordServiceTime(long millis) {
+        if (millis <= 0) return;
+        serviceMillis = ALPHA * millis + (1 - ALPHA) * serviceMillis;
+    }
+
+    /**
+     * 수락 여부 판단 (수락 시 큐 길이 추정값에 반영)
+     */
+    public Decision admit(boolean priority) {
+        long position = queueLength() + 1;
+        double service = serviceMillis;
+        long etaMillis = (long) ((position - 1) * service / slots() + service);
+
+        if (!priority && etaMillis > maxWaitMillis) {
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil((etaMillis - maxWaitMillis) / 1000.0));
+            log.warn("[Admission] 거절 position={}, eta={}ms, retryAfter={}s", position, etaMillis, retryAfterSeconds);
+            return new Decision(false, position, etaMillis, retryAfterSeconds);
+        }
+
+        admittedSinceRefresh.incrementAndGet();
+        return new Decision(true, position, etaMillis, 0);
+    }
+
+    /**
+     * 전체 실행 슬롯 수 (노드가 추가/제거되면 다음 하트비트부터 반영)
+     */
+    private int slots() {
+        return Math.max(1, fixedSlots > 0 ? fixedSlots : workerRegistry.getClusterSlots());
+    }
+
+    /**
+     * 대기 중인 작업 수 추정 (캐시된 큐 길이 + 캐시 이후 수락한 건수)
+     */
+    private long queueLength() {
+        long now = System.currentTimeMillis();
+        if (now - refreshedAt >= queueRefreshMillis) {
+            synchronized (refreshLock) {
+                if (now - refreshedAt >= queueRefreshMillis) {
+                    cachedQueueLength = jobQueue.size();
+                    admittedSinceRefresh.set(0);
+                    refreshedAt = now;
+                }
+            }
+        }
+        return cachedQueueLength + admittedSinceRefresh.get();
+    }
+
+    /**
+     * 수락 판단 결과
+     * - position          : 큐 순번 (1부터)
+     * - etaMillis         : 예상 완료 시간 (대기 + 처리)
+     * - retryAfterSeconds : 거절 시 재시도 권장 시간
+     */
+    public record Decision(boolean admitted, long position, long etaMillis, long retryAfterSeconds) { }
+}
@@ -2,9 +2,11 @@ package finalproject.compile.application.compile.service;
 
 import finalproject.compile.application.compile.dto.CompileRequest;
 import finalproject.compile.application.compile.dto.CompileResponse;
+import finalproject.compile.application.compile.dto.GradeRequest;
 import finalproject.compile.domain.compile.entity.CompileJob;
 import finalproject.compile.domain.compile.service.CompileJobService;
-import finalproject.compile.infra.queue.LocalJobQueue;
+import finalproject.compile.infra.queue.InflightCoalescer;
+import finalproject.compile.infra.queue.JobQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,35 +17,97 @@ import java.util.UUID;
 public class CompileApiService {
 
     private final CompileJobService jobService;      // Job 생성 및 상태 관리 담당
-    private final LocalJobQueue localJobQueue;       // 컴파일 요청을 저장하는 큐(비동기 작업 큐)
+    private final JobQueue jobQueue;       // 컴파일 요청을 저장하는 큐(비동기 작업 큐)
+    private final InflightCoalescer inflightCoalescer;   // 동일 작업 실행 합치기
+    private final AdmissionService admissionService;     // 수락 제어 (예상 완료 시간 기준 거절)
 
     /**
      * 코드 실행 요청 처리 메서드
-     * 1) jobId 생성
-     * 2) Job 엔티티 생성 및 저장
-     * 3) Worker가 실행할 수 있도록 큐에 push
-     * 4) 즉시 jobId 반환 (비동기 처리)
+     * 1) Job 엔티티 생성 (프로젝트 모드면 파일 목록 + 세션 key, 없으면 사용자 단위 세션)
+     * 2) 같은 소스가 이미 실행 대기/중이면 큐에 넣지 않고 대기자로 등록 → 같은 결과를 각자의 콜백으로 전달
+     * 3) 예상 완료 시간이 백엔드 대기 한도를 넘으면 큐에 넣지 않고 거절 (admitted=false)
+     * 4) Worker가 실행할 수 있도록 큐에 push 후 즉시 jobId + 큐 순번 / 예상 완료 시간 반환 (비동기 처리)
      */
-    public CompileResponse runCode(CompileRequest request){
+    public RunOutcome runCode(CompileRequest request) {
 
+        //  jobId는 백엔드에서 생성하여 전달함
         String jobId = request.getJobId();
-        //  Job 엔티티 생성
-        //    - 상태 WAITING
-        //    - 요청받은 Java 코드 저장
-        //    - InMemory 레포 에 저장
-        CompileJob job = jobService.createJob(
+
+        CompileJob job = new CompileJob(
                 jobId,
                 request.getCode(),
                 request.getCallbackUrl()
-                );
+        );
+        job.setClassId(request.getClassId());
+        job.setUserId(request.getUserId());
+        job.setPriority(request.isPriority());
+        job.setQueuedAt(System.currentTimeMillis());
+
+        //  프로젝트 모드 (세션 key 가 없으면 사용자 단위 세션)
+        job.setFiles(request.getFiles());
+        job.setSessionId(request.getSessionId() != null ? request.getSessionId() : request.getUserId());
+
+        //  실행 중인 동일 작업에 합류 (실행 슬롯을 쓰지 않으므로 수락 제어 대상 아님)
+        //    - 강사 실행은 우선 처리를 위해 합류하지 않음
+        if (!request.isPriority() && inflightCoalescer.attach(job)) {
+            return RunOutcome.accepted(new CompileResponse(jobId));
+        }
+
+        //  수락 제어 (큐 길이 x 추정 처리 시간)
+        AdmissionService.Decision decision = admissionService.admit(request.isPriority());
+        if (!decision.admitted()) {
+            return new RunOutcome(new CompileResponse(jobId, decision.position(), decision.etaMillis()),
+                    false, decision.retryAfterSeconds());
+        }
+
+        //  동시에 들어온 동일 작업이 먼저 등록했으면 합류, 아니면 이 작업이 대표로 실행
+        if (!request.isPriority() && inflightCoalescer.attachOrClaim(job)) {
+            return RunOutcome.accepted(new CompileResponse(jobId));
+        }
 
         //  컴파일 작업 큐에 job push
-        //    - WorkerListener 백그라운드 스레드가 pop() 해서 실제 컴파일 실행
-        localJobQueue.push(job);
+        //    - WorkerListener 백그라운드 스레드가 꺼내서 실제 컴파일 실행
+        jobQueue.push(job);
+
+        return RunOutcome.accepted(new CompileResponse(jobId, decision.position(), decision.etaMillis()));
+    }
+
+    /**
+     * 채점 요청 처리 메서드
+     * 1) Job 엔티티 생성 및 저장 (케이스 목록 포함)
+     * 2) 소스 + 케이스가 같은 채점이 실행 대기/중이면 대기자로 등록, 아니면 큐에 push
+     *    → 워커가 1회 컴파일 후 케이스를 연속 실행
+     * 3) 즉시 jobId 반환, 케이스별 결과는 콜백 / 결과 조회로 전달
+     */
+    public CompileResponse gradeCode(GradeRequest request) {
+
+        String jobId = request.getJobId();
+        CompileJob job = jobService.createJob(
+                jobId,
+                request.getCode(),
+                request.getCallbackUrl()
+        );
+        job.setClassId(request.getClassId());
+        job.setUserId(request.getUserId());
+        job.setTestCases(request.getTestCases());
+        job.setCaseTimeoutMillis(request.getCaseTimeoutMillis());
+        job.setQueuedAt(System.currentTimeMillis());
+
+        if (!inflightCoalescer.attachOrClaim(job)) {
+            jobQueue.push(job);
+        }
 
-        //  클라이언트에게 jobId 반환
-        //   - 클라이언트는 /result/{jobId} 로 결과를 Polling
         return new CompileResponse(jobId);
     }
-}
 
+    /**
+     * 실행 요청 처리 결과
+     * - admitted=false 면 큐에 넣지 않음 → 429 + Retry-After(retryAfterSeconds)
+     */
+    public record RunOutcome(CompileResponse response, boolean admitted, long retryAfterSeconds) {
+
+        static RunOutcome accepted(CompileResponse response) {
+            return new RunOutcome(response, true, 0);
+        }
+    }
+}
@@ -27,7 +27,7 @@ public class CompileResultService {
         //  존재하지 않는 jobId인 경우 → NOT_FOUND 응답 생성
         //    - 이 응답 기반 잘못된 jobId를 판단
         if(job == null){
-            return new CompileResultResponse("NOT_FOUND", "");
+            return new CompileResultResponse("NOT_FOUND", "", null, null, null, null);
         }
 
         //  Job이 정상적으로 존재하는 경우
@@ -35,7 +35,11 @@ public class CompileResultService {
         //    - job.getOutput(): 컴파일 에러 메시지 또는 실행 결과 문자열
         return new CompileResultResponse(
                 job.getStatus().name(),  // 현재 Job 상태 문자열
-                job.getOutput()          // 컴파일/실행 결과 출력
+                job.getOutput(),         // 컴파일/실행 결과 출력
+                job.getDiagnostics(),    // 컴파일러 진단 목록 (파일 / 위치 / 심각도 / 메시지)
+                job.getTestResults(),    // 채점 케이스별 결과 (채점 작업만)
+                job.getCompileUsage(),   // 컴파일 단계 자원 사용량
+                job.getRunUsage()        // 실행 단계 자원 사용량
         );
     }
 }
@@ -0,0 +1,156 @@
+package finalproject.compile.application.compile.service;
+
+import finalproject.compile.application.compile.dto.ResourceStatsResponse;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 자원 사용량 집계 (워커 노드 단위, 메모리 내 고정 구간 히스토그램)
+ * - 컴파일 / 실행 단계마다 경과 시간, CPU 시간, 메모리 히스토그램 유지
+ * - 측정 불가 값(-1)은 집계에서 제외
+ * - --cpus / --memory 산정용 : 실행 메모리는 컨테이너 전체(러너 JVM 포함) 최대 사용량 기준
+ */
+@Service
+public class ResourceStatsService {
+
+    private static final long MB = 1024L * 1024;
+
+    // 시간 구간 상한 (ms)
+    private static final long[] MILLIS_BOUNDS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000
+    };
+
+    // 메모리 구간 상한 (byte), 컨테이너 제한(512m) 부근은 촘촘하게
+    private static final long[] BYTES_BOUNDS = {
+            8 * MB, 16 * MB, 32 * MB, 64 * MB, 96 * MB, 128 * MB, 192 * MB, 256 * MB,
+            320 * MB, 384 * MB, 448 * MB, 512 * MB, 768 * MB, 1024 * MB
+    };
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private final PhaseStats compile = new PhaseStats();
+    private final PhaseStats run = new PhaseStats();
+
+    /** 컴파일 단계 사용량 기록 */
+    public void recordCompile(ResourceUsage usage) {
+        compile.record(usage);
+    }
+
+    /** 실행 단계 사용량 기록 (채점은 케이스 전체 구간 1건) */
+    public void recordRun(ResourceUsage usage) {
+        run.record(usage);
+    }
+
+    /** 집계 스냅샷 */
+    public ResourceStatsResponse snapshot() {
+        return new ResourceStatsResponse(startedAt, compile.snapshot(), run.snapshot());
+    }
+
+    private static final class PhaseStats {
+
+        private final Histogram wall = new Histogram("ms", MILLIS_BOUNDS);
+        private final Histogram cpu = new Histogram("ms", MILLIS_BOUNDS);
+        private final Histogram memory = new Histogram("bytes", BYTES_BOUNDS);
+        private final LongAdder oomKilled = new LongAdder();
+
+        private void record(ResourceUsage usage) {
+            if (usage == null) return;
+            wall.record(usage.getWallMillis());
+            cpu.record(usage.getCpuMillis());
+            memory.record(usage.getMemoryBytes());
+            if (usage.isOomKilled()) oomKilled.increment();
+        }
+
+        private ResourceStatsResponse.Phase snapshot() {
+            Map<String, ResourceStatsResponse.Histogram> histograms = new LinkedHashMap<>();
+            histograms.put("wall", wall.snapshot());
+            histograms.put("cpu", cpu.snapshot());
+            histograms.put("memory", memory.snapshot());
+            return new ResourceStatsResponse.Phase(wall.count.sum(), oomKilled.sum(), histograms);
+        }
+    }
+
+    /**
+     * 고정 구간 히스토그램 (구간 상한 이하 값 개수, 마지막 칸은 최대 상한 초과)
+     * - 백분위수는 해당 순위가 속한 구간의 상한으로 근사 (초과 구간은 최대값)
+     */
+    private static final class Histogram {
+
+        private final String unit;
+        private final long[] bounds;
+        private final AtomicLongArray buckets;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Histogram(String unit, long[] bounds) {
+            this.unit = unit;
+            this.bounds = bounds;
+            this.buckets = new AtomicLongArray(bounds.length + 1);
+        }
+
+        private void record(long value) {
+            if (value < 0) return;
+            buckets.incrementAndGet(indexOf(value));
+            count.increment();
+            sum.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        private int indexOf(long value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) return i;
+            }
+            return bounds.length;
+        }
+
+        private ResourceStatsResponse.Histogram snapshot() {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+
+            List<ResourceStatsResponse.Bucket> nonEmpty = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    nonEmpty.add(new ResourceStatsResponse.Bucket(i < bounds.length ? bounds[i] : null, counts[i]));
+                }
+            }
+
+            long maxValue = max.get();
+            return new ResourceStatsResponse.Histogram(
+                    unit,
+                    total,
+                    total == 0 ? 0 : sum.sum() / total,
+                    maxValue,
+                    percentile(counts, total, 50, maxValue),
+                    percentile(counts, total, 95, maxValue),
+                    percentile(counts, total, 99, maxValue),
+                    nonEmpty
+            );
+        }
+
+        private long percentile(long[] counts, long total, int p, long maxValue) {
+            if (total == 0) return 0;
+            long rank = (long) Math.ceil(p / 100.0 * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i < bounds.length ? Math.min(bounds[i], maxValue) : maxValue;
+                }
+            }
+            return maxValue;
+        }
+    }
+}
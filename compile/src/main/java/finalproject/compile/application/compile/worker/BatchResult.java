@@ -0,0 +1,10 @@
+package finalproject.compile.application.compile.worker;
+
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+
+import java.util.List;
+
+/**
+ * 채점 실행 결과 (입력 순서대로의 케이스 결과 + 전체 자원 사용량)
+ */
+public record BatchResult(List<CaseResult> cases, ResourceUsage usage) { }
@@ -0,0 +1,17 @@
+package finalproject.compile.application.compile.worker;
+
+/**
+ * 채점 케이스 1건의 실행 결과
+ * - index : 입력 목록 순서
+ * - code  : 0 정상 종료, 1 예외/출력 초과, 2 타임아웃
+ */
+public record CaseResult(int index, int code, long timeMillis, String output) {
+
+    public boolean success() {
+        return code == 0;
+    }
+
+    public boolean timedOut() {
+        return code == 2;
+    }
+}
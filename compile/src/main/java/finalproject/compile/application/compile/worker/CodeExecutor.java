@@ -0,0 +1,67 @@
+package finalproject.compile.application.compile.worker;
+
+import finalproject.compile.infra.compiler.CompilationResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일/실행 단계 추상화 (CompileWorkerService 가 사용)
+ * - sandbox : 인메모리 javac + 컨테이너 풀의 러너에서 실행 (기본값)
+ * - fake    : Docker 없이 지연 시간/출력 크기만 흉내 (부하 테스트용)
+ * - compile.executor 프로퍼티로 선택
+ */
+public interface CodeExecutor {
+
+    /**
+     * 소스 컴파일 (결과 캐시 포함)
+     */
+    CompilationResult compile(String fileName, String code);
+
+    /**
+     * 프로젝트(다중 파일) 컴파일
+     * - 같은 세션의 이전 컴파일 결과를 재사용하여 바뀐 파일과 그 파일에 의존하는 파일만 다시 컴파일
+     * - 성공 시 classes 는 프로젝트 전체 클래스
+     *
+     * @param sessionId 증분 컴파일 세션 key (null 이면 전체 컴파일)
+     * @param sources   소스 경로 → 소스 코드
+     */
+    CompilationResult compileProject(String sessionId, Map<String, String> sources);
+
+    /**
+     * 컴파일된 클래스 실행 (결과에 실행 자원 사용량 포함)
+     *
+     * 재시도 후에도 실행 환경 오류가 계속되면 RuntimeException (워커에서 DLQ 처리)
+     *
+     * @param listener 실행 중 출력 조각 수신
+     */
+    RunResult run(String className, Map<String, byte[]> classes, long timeoutMillis,
+                                         OutputListener listener) throws InterruptedException;
+
+    /**
+     * 컴파일된 클래스를 입력 목록만큼 반복 실행 (채점용, 실행 환경 1개에서 연속 실행)
+     *
+     * 입력 순서대로 케이스 결과 1건씩 + 전체 실행 자원 사용량 반환 (케이스별 타임아웃은 caseTimeoutMillis)
+     */
+    BatchResult runCases(String className, Map<String, byte[]> classes, List<String> inputs,
+                                             long caseTimeoutMillis) throws InterruptedException;
+
+    /**
+     * 동시에 실행 가능한 작업 수 (워커 실행 슬롯 개수)
+     */
+    int getConcurrency();
+
+    /**
+     * 실행 준비 여부 (준비 전에는 워커가 큐에서 작업을 꺼내지 않음)
+     */
+    default boolean isReady() {
+        return true;
+    }
+
+    /**
+     * 바로 실행 가능한 실행 환경 수 (준비 상태 조회용)
+     */
+    default int getWarmCount() {
+        return getConcurrency();
+    }
+}
@@ -1,55 +1,69 @@
 package finalproject.compile.application.compile.worker;
 
+import com.sooscode.analyzer.JavaSourceAnalyzer;
+import com.sooscode.analyzer.SourceAnalysis;
+import finalproject.compile.application.compile.service.ResourceStatsService;
 import finalproject.compile.domain.compile.entity.CompileJob;
+import finalproject.compile.domain.compile.entity.ProjectFile;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import finalproject.compile.domain.compile.entity.TestCase;
+import finalproject.compile.domain.compile.entity.TestCaseResult;
+import finalproject.compile.domain.compile.entity.TestCaseStatus;
 import finalproject.compile.domain.compile.service.CompileJobService;
-import finalproject.compile.global.util.CmdUtils;
+import finalproject.compile.global.util.ThreadResourceMeter;
 import finalproject.compile.infra.client.CallbackClient;
-import finalproject.compile.infra.file.FileUtil;
-import jakarta.annotation.PostConstruct;
+import finalproject.compile.infra.client.OutputPublisher;
+import finalproject.compile.infra.compiler.CompilationResult;
+import finalproject.compile.infra.compiler.SourceSymbols;
+import finalproject.compile.infra.queue.InflightCoalescer;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * 컴파일 워커 서비스 클래스.
  * <p>
- * Docker 컨테이너를 관리하고, 실제 소스 코드를 컴파일 및 실행하는 핵심 로직을 담당
+ * 소스 코드를 검증한 뒤 실행기(CodeExecutor)로 컴파일/실행하는 핵심 로직을 담당
+ * 결과 저장(Redis)/콜백(HTTP)은 별도 스레드에서 처리하여 실행 슬롯을 바로 반환
+ * 채점 작업(testCases 포함)은 1회 컴파일 후 케이스를 한 실행 환경에서 연속 실행하고 기대 출력과 비교
+ * 프로젝트 작업(files 포함)은 파일별로 검증 후 세션 단위 증분 컴파일
+ * 컴파일 / 실행 단계별 자원 사용량을 Job 에 기록하고 노드 단위로 집계
+ * 컴파일러 진단(파일 / 위치 / 심각도 / 메시지)은 텍스트 출력과 함께 구조화된 목록으로 Job 에 기록
+ * 대표로 실행된 작업(coalesceKey 설정)은 완료 후 합류한 대기 작업에도 같은 결과를 저장 / 콜백
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompileWorkerService {
 
-    private final FileUtil fileUtil;
     private final CompileJobService jobService;
     private final CallbackClient callbackClient;
-
-    // 생성할 컨테이너 이름 접두사
-    private static final String CONTAINER_PREFIX = "compile-executor-";
-
-    // 사용할 Docker 이미지 (Java 17)
-    private static final String DOCKER_IMAGE = "eclipse-temurin:17-jdk";
-
-    // 워커 개수
-    @Value("${compile.worker.count:2}")
-    private int workerCount;
-
-    // 컨테이너 최대 사용 횟수
-    @Value("${compile.container.max-usage:100}")
-    private int maxContainerUsage;
-
-    // 각 컨테이너 사용 횟수 추적
-    private AtomicInteger[] usageCounts;
-
-    // 보안상 허용하지 않는 키워드 목록
-    private static final String[] BLACKLIST = {
+    private final CodeExecutor codeExecutor;
+    private final OutputPublisher outputPublisher;
+    private final ResourceStatsService resourceStats;
+    private final InflightCoalescer inflightCoalescer;
+
+    // 결과 저장 + 콜백 전송 스레드 (실행 슬롯과 분리)
+    private final AtomicInteger deliverySequence = new AtomicInteger();
+    private final ExecutorService deliveryExecutor = Executors.newFixedThreadPool(4, r -> {
+        Thread thread = new Thread(r, "compile-delivery-" + deliverySequence.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 보안상 허용하지 않는 키워드 목록 (주석/문자열 리터럴 밖의 코드에서만 검사)
+    private static final List<String> BLACKLIST = List.of(
             "System.exit",
             "Runtime.getRuntime",
             "ProcessBuilder",
@@ -57,221 +71,316 @@ public class CompileWorkerService {
             "java.nio.file",
             "java.net",
             "java.lang.reflect",
+            "Class.forName",
+            "ClassLoader",
+            "getMethod",
+            "invoke",
+            "MethodHandles",
             "sun.misc.Unsafe",
             "Thread",
             "ForkJoinPool"
-    };
+    );
 
-    /**
-     * 서버 시작 시 호출되어 컨테이너 풀 초기화
-     */
-    @PostConstruct
-    public void initContainers() {
-        log.info("Initializing Container Pool. Count: {}, MaxUsage: {}", workerCount, maxContainerUsage);
-
-        usageCounts = new AtomicInteger[workerCount];
-        for (int i = 0; i < workerCount; i++) {
-            usageCounts[i] = new AtomicInteger(0);
-            createContainer(i);
-        }
-    }
+    // 실행 타임아웃 (일반 실행)
+    private static final long RUN_TIMEOUT_MILLIS = 5000;
+
+    // 채점 케이스별 타임아웃 (요청값이 없으면 기본값, 최대값으로 제한)
+    private static final long DEFAULT_CASE_TIMEOUT_MILLIS = 2000;
+    private static final long MAX_CASE_TIMEOUT_MILLIS = 5000;
+
+    // 프로젝트 파일 경로 (패키지 디렉터리 + 클래스명.java)
+    private static final Pattern PROJECT_PATH = Pattern.compile("([A-Za-z_$][A-Za-z0-9_$]*/)*[A-Za-z_$][A-Za-z0-9_$]*\\.java");
+
+    // 금지 키워드 + main/엔트리 클래스를 소스 1회 순회로 분석 (불변, 공유, 벤치마크에서 접근)
+    static final JavaSourceAnalyzer ANALYZER = new JavaSourceAnalyzer(BLACKLIST);
 
     /**
-     * 지정된 워커 ID에 대응하는 Docker 컨테이너 생성
+     * 컴파일 및 실행 요청 처리
+     * - 검증/컴파일은 컨테이너 없이 먼저 수행
+     * - 실행 시에만 풀에서 준비된 컨테이너를 할당받아 사용 후 반납
+     * - 결과 전달은 비동기로 진행되며, 반환값으로 완료 시점을 알림
+     *
+     * @param job 컴파일 작업 정보
+     * @return 결과 저장 + 콜백 전송 완료 Future
      */
-    private void createContainer(int workerId) {
-        String containerName = CONTAINER_PREFIX + workerId;
+    public CompletableFuture<Void> execute(CompileJob job) throws InterruptedException {
+        log.info("Executing JobId={}", job.getJobId());
+
+        String entryClassName;
+        Map<String, String> sources = null;
         try {
-            // 기존 컨테이너 제거
-            CmdUtils.runCommand("docker rm -f " + containerName, 5000);
-
-            // 보안 및 리소스 제한 옵션을 적용하여 컨테이너 실행
-            String runCmd = String.format(
-                    "docker run -d --name %s " +
-                            "--network none " +
-                            "--pids-limit 100 " +
-                            "--cap-drop ALL " +
-                            "--memory 512m " +
-                            "--cpus 0.8 " +
-                            "-v %s:/app " +
-                            "%s tail -f /dev/null",
-                    containerName, fileUtil.getBasePath(), DOCKER_IMAGE
-            );
-
-            CmdUtils.ExecutionResult result = CmdUtils.runCommand(runCmd, 10000);
-            if (result.success()) {
-                log.info("Container [{}] created/reset successfully.", containerName);
-                usageCounts[workerId].set(0);
+            if (job.isProject()) {
+                //  프로젝트 : 파일별 보안 검사 후 전체 파일 중 main 을 소유한 클래스 탐색
+                sources = projectSources(job.getFiles());
+                entryClassName = detectProjectEntryClass(sources);
             } else {
-                throw new RuntimeException("Container Init Failed: " + result.output());
+                SourceAnalysis analysis = ANALYZER.analyze(job.getCode());
+
+                //  코드 보안 검사
+                validateCode(analysis);
+
+                //  main 메서드를 실제로 소유한 클래스 탐색
+                entryClassName = detectEntryClass(analysis);
             }
-        } catch (Exception e) {
-            log.error("Critical error while creating container [{}]", containerName, e);
-            throw new RuntimeException(e);
+
+        } catch (SecurityException se) {
+            // 보안 위반은 사용자 책임
+            return handleResult(job, false, "Security Error: " + se.getMessage());
+
+        } catch (IllegalArgumentException ie) {
+            // main 없음, 다중 main 등 유효성 오류
+            return handleResult(job, false, "Compile Error: " + ie.getMessage());
         }
-    }
 
-    /**
-     * 서버 종료 시 컨테이너 정리
-     */
-    @PreDestroy
-    public void cleanupContainers() {
-        for (int i = 0; i < workerCount; i++) {
-            CmdUtils.runCommand("docker rm -f " + CONTAINER_PREFIX + i, 5000);
+        //  컴파일 (탐색된 클래스 이름으로 소스 파일명 지정)
+        //    public class Solution -> Solution.java
+        //    프로젝트는 세션의 이전 결과를 재사용하여 바뀐 파일과 의존 파일만 컴파일
+        ThreadResourceMeter compileMeter = ThreadResourceMeter.start();
+        CompilationResult compileResult = job.isProject()
+                ? codeExecutor.compileProject(job.getSessionId(), sources)
+                : codeExecutor.compile(entryClassName + ".java", job.getCode());
+        ResourceUsage compileUsage = compileMeter.stop();
+        job.setCompileUsage(compileUsage);
+        resourceStats.recordCompile(compileUsage);
+
+        //  구조화된 진단 (에러 / 경고 위치) 은 텍스트 출력과 별도로 전달
+        if (compileResult.getDiagnostics() != null && !compileResult.getDiagnostics().isEmpty()) {
+            job.setDiagnostics(compileResult.getDiagnostics());
+        }
+
+        if (!compileResult.isSuccess()) {
+            return handleResult(job, false, compileResult.getOutput());
+        }
+
+        //  채점 작업은 같은 클래스로 케이스를 연속 실행 (실시간 출력 없음)
+        if (job.isGrading()) {
+            return handleGrading(job, grade(job, entryClassName, compileResult.getClasses()));
         }
-        log.info("All containers cleaned up.");
+
+        //  실행 중 출력은 Redis 채널로 실시간 발행
+        OutputPublisher.Stream outputStream = outputPublisher.open(job.getJobId());
+
+        //  실행 (실행기 내부에서 컨테이너 할당/반납, 오류 시 재시도)
+        RunResult runResult = codeExecutor.run(entryClassName, compileResult.getClasses(), RUN_TIMEOUT_MILLIS,
+                outputStream::send);
+        job.setRunUsage(runResult.usage());
+        resourceStats.recordRun(runResult.usage());
+
+        //  컨테이너 반납 후 결과 전달
+        return handleResult(job, runResult.success(), runResult.output());
     }
 
     /**
-     * 컴파일 및 실행 요청 처리
-     *
-     * @param job      컴파일 작업 정보
-     * @param workerId 할당된 워커 ID
+     * 채점 케이스 실행 후 기대 출력과 비교
+     * - 실행기가 케이스 입력 순서대로 결과를 반환
+     * - 통과한 케이스는 출력을 비워 결과 크기를 줄임
      */
-    public void execute(CompileJob job, int workerId) {
-        String containerName = CONTAINER_PREFIX + workerId;
-        int maxRetries = 1;
+    private List<TestCaseResult> grade(CompileJob job, String className, Map<String, byte[]> classes)
+            throws InterruptedException {
+        List<TestCase> testCases = job.getTestCases();
+        List<String> inputs = new ArrayList<>(testCases.size());
+        for (TestCase testCase : testCases) {
+            inputs.add(testCase.getInput() == null ? "" : testCase.getInput());
+        }
 
-        try {
-            for (int attempt = 0; attempt <= maxRetries; attempt++) {
-                try {
-                    // 컨테이너 사용 횟수 초과 시 재생성
-                    if (usageCounts[workerId].get() >= maxContainerUsage) {
-                        log.info("Container [{}] usage limit exceeded. Recreating...", containerName);
-                        createContainer(workerId);
-                    }
-
-                    // 핵심 컴파일/실행 로직 수행
-                    runCompileAndExecution(job, containerName);
-                    return;
-
-                } catch (SecurityException se) {
-                    // 보안 위반은 사용자 책임
-                    handleResult(job, false, "Security Error: " + se.getMessage());
-                    return;
-
-                } catch (IllegalArgumentException ie) {
-                    // main 없음, 다중 main 등 유효성 오류
-                    handleResult(job, false, "Compile Error: " + ie.getMessage());
-                    return;
-
-                } catch (Exception e) {
-                    // 시스템 오류 발생 시 컨테이너 재생성 후 재시도
-                    if (attempt == maxRetries) {
-                        throw new RuntimeException("Max retries exceeded", e);
-                    }
-                    createContainer(workerId);
-                } finally {
-                    usageCounts[workerId].incrementAndGet();
-                }
+        long caseTimeout = job.getCaseTimeoutMillis() > 0
+                ? Math.min(job.getCaseTimeoutMillis(), MAX_CASE_TIMEOUT_MILLIS)
+                : DEFAULT_CASE_TIMEOUT_MILLIS;
+
+        BatchResult batch = codeExecutor.runCases(className, classes, inputs, caseTimeout);
+        job.setRunUsage(batch.usage());
+        resourceStats.recordRun(batch.usage());
+
+        List<CaseResult> caseResults = batch.cases();
+
+        List<TestCaseResult> results = new ArrayList<>(caseResults.size());
+        for (CaseResult caseResult : caseResults) {
+            TestCaseStatus status;
+            if (caseResult.timedOut()) {
+                status = TestCaseStatus.TIMEOUT;
+            } else if (!caseResult.success()) {
+                status = TestCaseStatus.ERROR;
+            } else if (outputMatches(testCases.get(caseResult.index()).getExpected(), caseResult.output())) {
+                status = TestCaseStatus.PASS;
+            } else {
+                status = TestCaseStatus.FAIL;
             }
-        } finally {
-            // 작업 종료 후 임시 파일 정리
-            fileUtil.deleteFolder(job.getJobId());
+            results.add(new TestCaseResult(caseResult.index(), status, caseResult.timeMillis(),
+                    status == TestCaseStatus.PASS ? null : caseResult.output()));
         }
+        return results;
     }
 
     /**
-     * 파일 생성 → 컴파일 → 실행을 순차적으로 수행
+     * 기대 출력 비교
+     * - 줄바꿈(CRLF/LF), 줄 끝 공백, 마지막 빈 줄 차이는 무시
      */
-    private void runCompileAndExecution(CompileJob job, String containerName) {
-        log.info("Executing JobId={}", job.getJobId());
-
-        //  코드 보안 검사
-        validateCode(job.getCode());
-
-        //  main 메서드를 실제로 소유한 클래스 탐색
-        String entryClassName = detectEntryClass(job.getCode());
-
-        try {
-            //  탐색된 클래스 이름으로 파일 생성
-            //    public class Solution -> Solution.java
-            fileUtil.createJavaFile(job.getJobId(), entryClassName + ".java", job.getCode());
-        } catch (IOException e) {
-            throw new RuntimeException("File Creation Failed", e);
-        }
-
-        //  컴파일 (단일 파일 명시)
-        String compileCmd = String.format(
-                "docker exec -w /app/%s %s javac -encoding UTF-8 %s.java",
-                job.getJobId(), containerName, entryClassName
-        );
-        CmdUtils.ExecutionResult compileResult = CmdUtils.runCommand(compileCmd, 10000);
+    static boolean outputMatches(String expected, String actual) {
+        return normalizeOutput(expected).equals(normalizeOutput(actual));
+    }
 
-        if (!compileResult.success()) {
-            handleResult(job, false, compileResult.output());
-            return;
+    private static String normalizeOutput(String text) {
+        if (text == null) return "";
+        String[] lines = text.replace("\r\n", "\n").replace('\r', '\n').split("\n");
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (String line : lines) {
+            normalized.append(line.stripTrailing()).append('\n');
         }
-
-        //  실행
-        String runCmd = String.format(
-                "docker exec -w /app/%s %s java -Dfile.encoding=UTF-8 %s",
-                job.getJobId(), containerName, entryClassName
-        );
-        CmdUtils.ExecutionResult runResult = CmdUtils.runCommand(runCmd, 5000);
-
-        handleResult(job, runResult.success(), runResult.output());
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == '\n') end--;
+        return normalized.substring(0, end);
     }
 
     /**
      * 코드에서 public static void main을 포함하는 실제 클래스 이름 탐색
+     * - 주석/문자열 안의 main 은 제외, 중첩 클래스는 main 을 직접 감싸는 클래스 기준
      */
-    private String detectEntryClass(String code) {
-        // main 메서드 개수 검증
-        Matcher mainMatcher = Pattern.compile("public\\s+static\\s+void\\s+main\\s*\\(").matcher(code);
-        int count = 0;
-        while (mainMatcher.find()) count++;
+    static String detectEntryClass(SourceAnalysis analysis) {
+        return detectEntryClass(analysis.mainCount(), analysis.entryClass());
+    }
 
-        if (count == 0) {
+    private static String detectEntryClass(int mainCount, String entryClass) {
+        // main 메서드 개수 검증
+        if (mainCount == 0) {
             throw new IllegalArgumentException("실행할 main 메서드를 찾을 수 없습니다.");
         }
-        if (count > 1) {
+        if (mainCount > 1) {
             throw new IllegalArgumentException("main 메서드는 하나만 존재해야 합니다.");
         }
 
-        // main 위치 이전에서 가장 마지막 class 선언을 탐색
-        Matcher mainPos = Pattern.compile("public\\s+static\\s+void\\s+main\\s*\\(").matcher(code);
-        if (mainPos.find()) {
-            String beforeMain = code.substring(0, mainPos.start());
-            Matcher classMatcher = Pattern.compile("(public\\s+)?class\\s+(\\w+)").matcher(beforeMain);
+        if (entryClass == null) {
+            throw new IllegalArgumentException("main 메서드를 포함하는 클래스를 찾을 수 없습니다.");
+        }
+        return entryClass;
+    }
 
-            String className = null;
-            while (classMatcher.find()) {
-                className = classMatcher.group(2);
+    /**
+     * 프로젝트 파일 목록 검증 후 경로 → 소스 맵으로 변환
+     * - 경로는 패키지 디렉터리 + 클래스명.java 형식, 중복 불가
+     */
+    static Map<String, String> projectSources(List<ProjectFile> files) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (ProjectFile file : files) {
+            String path = file.getPath() == null ? "" : file.getPath();
+            if (!PROJECT_PATH.matcher(path).matches()) {
+                throw new IllegalArgumentException("잘못된 파일 경로입니다: " + path);
             }
+            if (sources.put(path, file.getContent() == null ? "" : file.getContent()) != null) {
+                throw new IllegalArgumentException("파일 경로가 중복되었습니다: " + path);
+            }
+        }
+        return sources;
+    }
 
-            if (className != null) {
-                return className;
+    /**
+     * 프로젝트 전체에서 main 을 소유한 클래스 탐색 (파일마다 보안 검사)
+     * - main 은 전체 파일 중 하나만 존재해야 함
+     * - 패키지가 선언된 파일이면 패키지를 포함한 클래스 이름 반환 (러너에서 로드할 이름)
+     */
+    static String detectProjectEntryClass(Map<String, String> sources) {
+        String entryClass = null;
+        String entryCode = null;
+        int mainCount = 0;
+
+        for (String code : sources.values()) {
+            SourceAnalysis analysis = ANALYZER.analyze(code);
+            validateCode(analysis);
+
+            mainCount += analysis.mainCount();
+            if (analysis.mainCount() > 0) {
+                entryClass = analysis.entryClass();
+                entryCode = code;
             }
         }
 
-        throw new IllegalArgumentException("main 메서드를 포함하는 클래스를 찾을 수 없습니다.");
+        String simpleName = detectEntryClass(mainCount, entryClass);
+        String packageName = SourceSymbols.of(entryCode).packageName();
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
     }
 
     /**
-     * 컴파일/실행 결과 처리 및 콜백
+     * 컴파일/실행 결과 처리 및 콜백 (deliveryExecutor 에서 비동기 처리)
      */
-    private void handleResult(CompileJob job, boolean success, String output) {
+    private CompletableFuture<Void> handleResult(CompileJob job, boolean success, String output) {
         job.complete(success, output);
-        jobService.completeJob(job.getJobId(), success, output);
-        callbackClient.sendResultCallback(job);
+        return CompletableFuture.runAsync(() -> {
+            jobService.completeJob(job);
+            callbackClient.sendResultCallback(job);
+            completeWaiters(job);
+        }, deliveryExecutor);
+    }
+
+    /**
+     * 채점 결과 처리 및 콜백 (deliveryExecutor 에서 비동기 처리)
+     */
+    private CompletableFuture<Void> handleGrading(CompileJob job, List<TestCaseResult> results) {
+        job.completeGrading(results);
+        return CompletableFuture.runAsync(() -> {
+            jobService.completeJob(job);
+            callbackClient.sendResultCallback(job);
+            completeWaiters(job);
+        }, deliveryExecutor);
+    }
+
+    /**
+     * 합류한 대기 작업에 대표 작업의 결과를 복사하여 저장 / 콜백
+     * - 대표 작업이 시스템 장애로 실패한 경우에도 호출 (대기 작업이 응답 없이 남지 않도록)
+     */
+    public void completeWaiters(CompileJob leader) {
+        List<CompileJob> waiters = inflightCoalescer.release(leader);
+        if (waiters.isEmpty()) return;
+
+        log.info("[Coalesce] 대기 작업 {}건에 결과 전달 leader={}", waiters.size(), leader.getJobId());
+        for (CompileJob waiter : waiters) {
+            waiter.setStatus(leader.getStatus());
+            waiter.setOutput(leader.getOutput());
+            waiter.setDiagnostics(leader.getDiagnostics());
+            waiter.setTestResults(leader.getTestResults());
+            waiter.setCompileUsage(leader.getCompileUsage());
+            waiter.setRunUsage(leader.getRunUsage());
+            waiter.setStartedAt(leader.getStartedAt());
+
+            jobService.completeJob(waiter);
+            callbackClient.sendResultCallback(waiter);
+        }
     }
 
     /**
      * 코드 내 금지 키워드 검사
+     * - 유니코드 이스케이프는 javac 가 주석/문자열 밖으로 코드를 꺼낼 수 있으므로 함께 차단
      */
-    private void validateCode(String code) {
-        for (String keyword : BLACKLIST) {
-            if (code.contains(keyword)) {
-                throw new SecurityException("Forbidden keyword detected: " + keyword);
-            }
+    static void validateCode(SourceAnalysis analysis) {
+        if (analysis.hasForbidden()) {
+            throw new SecurityException("Forbidden keyword detected: " + analysis.forbidden().get(0));
+        }
+        if (analysis.unicodeEscape()) {
+            throw new SecurityException("Unicode escape is not allowed");
         }
     }
 
     /**
-     * 현재 설정된 워커 개수 반환
+     * 실행 슬롯 개수 반환 (실행기의 동시 실행 수, sandbox 는 컨테이너 풀 최대 크기)
      */
     public int getWorkerCount() {
-        return workerCount;
+        return codeExecutor.getConcurrency();
+    }
+
+    /**
+     * 실행 준비 여부 (sandbox 는 컨테이너 풀 준비 완료)
+     */
+    public boolean isReady() {
+        return codeExecutor.isReady();
+    }
+
+    /**
+     * 바로 실행 가능한 실행 환경 수
+     */
+    public int getWarmCount() {
+        return codeExecutor.getWarmCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
     }
 }
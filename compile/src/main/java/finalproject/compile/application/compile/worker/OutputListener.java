@@ -0,0 +1,12 @@
+package finalproject.compile.application.compile.worker;
+
+/**
+ * 실행 중 출력 조각 수신
+ */
+@FunctionalInterface
+public interface OutputListener {
+
+    OutputListener NONE = chunk -> { };
+
+    void onOutput(String chunk);
+}
@@ -0,0 +1,20 @@
+package finalproject.compile.application.compile.worker;
+
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+
+/**
+ * 실행 결과
+ * - code  : 0 성공, 1 실패, 2 타임아웃
+ * - alive : false 면 실행 환경(러너 JVM)이 종료됨 → 재활용 필요
+ * - usage : 요청 처리 중 실행 환경 자원 사용량
+ */
+public record RunResult(int code, String output, boolean alive, ResourceUsage usage) {
+
+    public boolean success() {
+        return code == 0;
+    }
+
+    public boolean timedOut() {
+        return code == 2;
+    }
+}
@@ -0,0 +1,27 @@
+package finalproject.compile.domain.compile.entity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컴파일러 진단 정보 (javac Diagnostic 1건)
+ * - line / column 은 1부터 시작, 위치 정보가 없으면 0
+ * - severity : ERROR, WARNING, NOTE
+ * - code     : javac 메시지 키 (예: compiler.err.expected)
+ * - 결과 / 콜백에 그대로 실리므로 값이 없는 필드(file, code)는 직렬화하지 않음
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompileDiagnostic {
+
+    private String file;
+    private long line;
+    private long column;
+    private CompileDiagnosticSeverity severity;
+    private String code;
+    private String message;
+}
@@ -0,0 +1,9 @@
+package finalproject.compile.domain.compile.entity;
+
+/** 컴파일러 진단 심각도 (javac Diagnostic.Kind 를 3단계로 묶음) */
+
+public enum CompileDiagnosticSeverity {
+    ERROR,
+    WARNING,
+    NOTE
+}
@@ -1,10 +1,13 @@
 package finalproject.compile.domain.compile.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * 컴파일 Job 엔티티
  * - Redis 저장을 위해 기본 생성자(@NoArgsConstructor) 추가
@@ -18,10 +21,44 @@ public class CompileJob {
 
     private String jobId;
     private String code;
+
+    // 프로젝트 모드 소스 파일 목록 (있으면 code 대신 사용, 여러 파일을 함께 컴파일)
+    private List<ProjectFile> files;
+
+    // 증분 컴파일 세션 key (프로젝트 모드, 같은 세션은 이전 컴파일 결과를 재사용)
+    private String sessionId;
     private String callbackUrl;
     private CompileJobStatus status;
     private String output;
 
+    // 컴파일러 진단 목록 (에러 / 경고가 있을 때만, 에디터 마커 표시용)
+    private List<CompileDiagnostic> diagnostics;
+
+    // 공정 스케줄링 정보 (요청한 클래스 / 사용자, 강사 실행 여부)
+    private String classId;
+    private String userId;
+    private boolean priority;
+
+    // 큐 등록 / 실행 시작 시각 (epoch ms, 대기 시간 측정용)
+    private long queuedAt;
+    private long startedAt;
+
+    // 채점 작업 정보 (testCases 가 있으면 채점 작업, 1회 컴파일 후 케이스별 실행)
+    private List<TestCase> testCases;
+    private long caseTimeoutMillis;
+    private List<TestCaseResult> testResults;
+
+    // 단계별 자원 사용량 (컴파일 / 실행, 해당 단계를 거치지 않았으면 null)
+    private ResourceUsage compileUsage;
+    private ResourceUsage runUsage;
+
+    // 동일 작업 합치기 key (대표로 실행되는 작업만 설정, 완료 시 대기자에게 같은 결과 전달)
+    private String coalesceKey;
+
+    // 큐 메시지 ID (Redis Streams record id, ACK 용도로만 사용하므로 저장하지 않음)
+    @JsonIgnore
+    private String queueRecordId;
+
     // 초기 생성자
     public CompileJob(String jobId, String code , String callbackUrl) {
         this.jobId = jobId;
@@ -35,4 +72,23 @@ public class CompileJob {
         this.status = success ? CompileJobStatus.SUCCESS : CompileJobStatus.FAIL;
         this.output = output;
     }
+
+    /** 채점 결과 저장 로직 (모든 케이스 통과 시 SUCCESS) */
+    public void completeGrading(List<TestCaseResult> results) {
+        long passed = results.stream().filter(r -> r.getStatus() == TestCaseStatus.PASS).count();
+        complete(passed == results.size(), String.format("%d/%d 통과", passed, results.size()));
+        this.testResults = results;
+    }
+
+    /** 프로젝트(다중 파일) 작업 여부 */
+    @JsonIgnore
+    public boolean isProject() {
+        return files != null && !files.isEmpty();
+    }
+
+    /** 채점 작업 여부 */
+    @JsonIgnore
+    public boolean isGrading() {
+        return testCases != null && !testCases.isEmpty();
+    }
 }
\ No newline at end of file
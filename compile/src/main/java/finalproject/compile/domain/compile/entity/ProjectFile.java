@@ -0,0 +1,24 @@
+package finalproject.compile.domain.compile.entity;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트 모드 소스 파일 1건
+ * - path    : 프로젝트 기준 상대 경로 (예: Main.java, util/Calculator.java)
+ * - content : 소스 코드
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFile {
+
+    @NotBlank(message = "파일 경로는 필수입니다.")
+    private String path;
+
+    @Size(max = 10000, message = "파일 길이는 10,000자를 초과할 수 없습니다.")
+    private String content;
+}
@@ -0,0 +1,42 @@
+package finalproject.compile.domain.compile.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단계(컴파일 / 실행)별 자원 사용량
+ * - wallMillis  : 경과 시간
+ * - cpuMillis   : CPU 사용 시간 (컴파일 : 워커 스레드, 실행 : 컨테이너 cgroup), 측정 불가 시 -1
+ * - memoryBytes : 컴파일은 javac 할당량, 실행은 컨테이너 cgroup 최대 메모리 사용량, 측정 불가 시 -1
+ * - oomKilled   : 컨테이너 메모리 제한(--memory) 초과로 커널이 프로세스를 종료했는지 여부
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceUsage {
+
+    private long wallMillis;
+    private long cpuMillis;
+    private long memoryBytes;
+    private boolean oomKilled;
+
+    /**
+     * 연속된 두 구간 합산 (시간/CPU 는 합, 메모리는 최대값, 측정 불가 값은 무시)
+     */
+    public ResourceUsage plus(ResourceUsage other) {
+        if (other == null) return this;
+        return new ResourceUsage(
+                wallMillis + other.wallMillis,
+                sum(cpuMillis, other.cpuMillis),
+                Math.max(memoryBytes, other.memoryBytes),
+                oomKilled || other.oomKilled
+        );
+    }
+
+    private static long sum(long a, long b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return a + b;
+    }
+}
@@ -0,0 +1,22 @@
+package finalproject.compile.domain.compile.entity;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 케이스 1건
+ * - input    : 표준 입력으로 전달할 문자열 (없으면 빈 입력)
+ * - expected : 기대 출력 (줄 끝 공백 / 마지막 빈 줄 차이는 무시하고 비교)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCase {
+
+    private String input;
+
+    @NotNull(message = "기대 출력은 필수입니다.")
+    private String expected;
+}
@@ -0,0 +1,22 @@
+package finalproject.compile.domain.compile.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 케이스 1건의 결과
+ * - index      : 요청한 케이스 순서 (0부터 시작)
+ * - timeMillis : 케이스 실행 시간 (클래스 로드 포함)
+ * - output     : 실제 출력 (PASS 인 경우 전송량을 줄이기 위해 비움)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseResult {
+
+    private int index;
+    private TestCaseStatus status;
+    private long timeMillis;
+    private String output;
+}
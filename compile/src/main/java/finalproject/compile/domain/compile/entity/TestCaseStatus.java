@@ -0,0 +1,10 @@
+package finalproject.compile.domain.compile.entity;
+
+/** 채점 케이스 결과 상태 */
+
+public enum TestCaseStatus {
+    PASS,
+    FAIL,
+    TIMEOUT,
+    ERROR
+}
@@ -28,4 +28,11 @@ public interface CompileJobRepository {
      * 2) output → 컴파일/실행 결과 로그
      */
     void saveResult(String jobId, boolean success, String output);
+
+    /**
+     * 완료된 Job 전체를 저장하는 메서드
+     * 1) 상태/출력과 함께 채점 결과, 자원 사용량까지 저장
+     * 2) 완료 Job 보관 기간 적용
+     */
+    void saveCompleted(CompileJob job);
 }
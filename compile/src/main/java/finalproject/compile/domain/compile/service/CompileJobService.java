@@ -27,8 +27,8 @@ public class CompileJobService {
         return jobRepository.findById(jobId);
     }
 
-    /** Job 완료 상태 저장 */
-    public void completeJob(String jobId, boolean success, String output) {
-        jobRepository.saveResult(jobId, success, output);
+    /** 결과가 반영된 Job 저장 (채점 결과, 자원 사용량 포함) */
+    public void completeJob(CompileJob job) {
+        jobRepository.saveCompleted(job);
     }
 }
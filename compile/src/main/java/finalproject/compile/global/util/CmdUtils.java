@@ -2,92 +2,70 @@ package finalproject.compile.global.util;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
- * OS 명령어(javac/java)를 실행하는 유틸 클래스
+ * OS 명령어(docker 등)를 실행하는 유틸 클래스
  * - Windows / Linux 모두 호환
  * - 타임아웃 적용하여 무한 대기 방지
- * - 글자 수 제한(MAX_OUTPUT_CHARS)으로 메모리 폭주 방지
  * - 표준 출력 + 표준 에러를 단일 스트림으로 통합
+ * - 프로세스 실행 중에 출력 스트림을 동시에 비워 파이프 버퍼가 가득 차 멈추는 현상 방지
+ * - 출력은 바이트 기준 head + tail 고정 버퍼(OutputCapture)에 보관, 한도 도달 시 즉시 프로세스 종료
  */
 @Slf4j
 public class CmdUtils {
 
-    // 출력 글자 수 제한
-    private static final int MAX_OUTPUT_CHARS = 10000;
+    // 출력 앞부분 / 뒷부분 보관 크기
+    private static final int HEAD_BYTES = 8 * 1024;
+    private static final int TAIL_BYTES = 8 * 1024;
+
+    // 출력 최대 바이트 수 (도달 시 프로세스 강제 종료)
+    private static final long MAX_OUTPUT_BYTES = 1024 * 1024;
+
+    // 출력 스트림을 비우는 스레드 (프로세스 실행과 동시 진행)
+    private static final ExecutorService DRAINER = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "cmd-output-drainer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
-     * 외부 명령어(javac/java) 실행 메서드
+     * 외부 명령어 실행 메서드 (셸을 거쳐 실행)
      */
     public static ExecutionResult runCommand(String command, long timeoutMillis) {
+        // --------------------------------------------------------
+        // 현재 OS 확인 후 맞는 명령어 방식 선택
+        // --------------------------------------------------------
+        boolean isWindows = System.getProperty("os.name")
+                .toLowerCase()
+                .startsWith("windows");
+
+        if (isWindows) {
+            return runCommand(List.of("cmd.exe", "/c", command), timeoutMillis);
+        }
+        return runCommand(List.of("sh", "-c", command), timeoutMillis);
+    }
+
+    /**
+     * 외부 명령어 실행 메서드 (인자 목록을 셸 해석 없이 그대로 전달)
+     * - 공백 / 따옴표가 포함된 인자(예: sh -c 스크립트)도 나뉘지 않음
+     */
+    public static ExecutionResult runCommand(List<String> command, long timeoutMillis) {
 
-        StringBuilder output = new StringBuilder();  // 명령어 실행 출력 모음
-        int exitCode = -1;                           // 프로세스 종료 코드
         Process process = null;                      // 외부 프로세스 핸들
 
         try {
-            // --------------------------------------------------------
-            // 현재 OS 확인 후 맞는 명령어 방식 선택
-            // --------------------------------------------------------
-            boolean isWindows = System.getProperty("os.name")
-                    .toLowerCase()
-                    .startsWith("windows");
-
-            ProcessBuilder pb;
-            if (isWindows) {
-                pb = new ProcessBuilder("cmd.exe", "/c", command);
-            } else {
-                pb = new ProcessBuilder("sh", "-c", command);
-            }
+            ProcessBuilder pb = new ProcessBuilder(command);
 
             pb.redirectErrorStream(true); // 표준 에러 통합
             process = pb.start();         // 프로세스 실행
 
-            // 타임아웃 적용하여 무한루프 방지
-            boolean finished = process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS);
-
-            if (!finished) {
-                process.destroyForcibly();
-                return new ExecutionResult(
-                        false,
-                        "TIMEOUT: 실행 시간이 초과되었습니다. (5초)",
-                        -1
-                );
-            }
-
-            //  출력 스트림 읽기 (UTF-8 안전 처리)
-            String charsetName = "UTF-8";
-
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), Charset.forName(charsetName)))
-            ) {
-
-                String line;
-                int totalChars = 0;
-
-                while ((line = reader.readLine()) != null) {
-                    totalChars += line.length();
-
-                    output.append(line).append("\n");
-
-                    if (totalChars > MAX_OUTPUT_CHARS) {
-                        output.append("\n... (출력 용량이 너무 커서 중단되었습니다) ...");
-
-                        if (process.isAlive()) process.destroyForcibly();
-                        break;
-                    }
-                }
-            }
-
-            // --------------------------------------------------------
-            //  프로세스 종료 코드 (0 = 성공, 그 외 = 실패)
-            // --------------------------------------------------------
-            exitCode = process.exitValue();
-            return new ExecutionResult(exitCode == 0, output.toString(), exitCode);
+            return collect(process, timeoutMillis);
 
         } catch (Exception e) {
             log.error("Cmd Execution Error: {}", e.getMessage());
@@ -100,5 +78,58 @@ public class CmdUtils {
         }
     }
 
+    /**
+     * 실행 중인 프로세스의 출력을 동시에 수집하면서 종료 대기
+     * - 출력 한도 도달 시 즉시 프로세스 종료
+     * - 타임아웃 시 프로세스 종료 후 TIMEOUT 결과 반환
+     */
+    public static ExecutionResult collect(Process process, long timeoutMillis) throws InterruptedException {
+        OutputCapture capture = newCapture(process::destroyForcibly);
+
+        Future<?> drain = DRAINER.submit(() -> {
+            try (InputStream in = process.getInputStream()) {
+                in.transferTo(capture);
+            } catch (Exception e) {
+                // 프로세스 강제 종료 시 스트림이 닫히며 발생 → 무시
+            }
+        });
+
+        // 타임아웃 적용하여 무한루프 방지
+        boolean finished = process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        if (!finished) {
+            process.destroyForcibly();
+            drain.cancel(true);
+            return new ExecutionResult(
+                    false,
+                    "TIMEOUT: 실행 시간이 초과되었습니다. (" + timeoutMillis / 1000 + "초)",
+                    -1
+            );
+        }
+
+        // 프로세스 종료 후 남은 출력까지 수신 (자식 프로세스가 파이프를 잡고 있는 경우 대비 대기 제한)
+        try {
+            drain.get(1, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            drain.cancel(true);
+        }
+
+        // --------------------------------------------------------
+        //  프로세스 종료 코드 (0 = 성공, 그 외 = 실패)
+        // --------------------------------------------------------
+        int exitCode = process.exitValue();
+        boolean success = exitCode == 0 && !capture.isLimitReached();
+        return new ExecutionResult(success, capture.toText(), exitCode);
+    }
+
+    /**
+     * 명령 출력용 버퍼 생성 (head/tail/한도 공통 설정)
+     *
+     * @param onLimit 출력 한도 도달 시 호출 (프로세스/연결 종료)
+     */
+    public static OutputCapture newCapture(Runnable onLimit) {
+        return new OutputCapture(HEAD_BYTES, TAIL_BYTES, MAX_OUTPUT_BYTES, onLimit);
+    }
+
     public record ExecutionResult(boolean success, String output, int exitCode) { }
 }
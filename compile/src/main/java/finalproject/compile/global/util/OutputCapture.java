@@ -0,0 +1,135 @@
+package finalproject.compile.global.util;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 크기 출력 버퍼 (앞부분 head + 뒷부분 tail 링 버퍼)
+ * - 글자/줄 수가 아닌 바이트 수 기준으로 측정
+ * - head 를 다 채운 이후 출력은 tail 링 버퍼에 덮어쓰며 보관 → 메모리 사용량 일정
+ * - 누적 바이트가 hardLimit 에 도달하면 onLimit 콜백 1회 호출 (프로세스 강제 종료 용도)
+ * - 생략된 바이트 수를 정확히 기록하여 결과 문자열에 표시
+ */
+public class OutputCapture extends OutputStream {
+
+    private final byte[] head;
+    private final byte[] tail;
+    private final long hardLimit;
+    private final Runnable onLimit;
+
+    private int headSize;      // head 에 채워진 바이트 수
+    private long tailWritten;  // tail 링 버퍼에 기록된 누적 바이트 수
+    private long totalBytes;   // 전체 수신 바이트 수
+    private boolean limitReached;
+
+    public OutputCapture(int headBytes, int tailBytes, long hardLimit, Runnable onLimit) {
+        this.head = new byte[headBytes];
+        this.tail = new byte[tailBytes];
+        this.hardLimit = hardLimit;
+        this.onLimit = onLimit;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        if (limitReached) return;
+
+        // 한도 초과분은 받지 않음
+        long allowed = Math.min(len, hardLimit - totalBytes);
+        int accepted = (int) Math.max(allowed, 0);
+
+        int toHead = Math.min(accepted, head.length - headSize);
+        System.arraycopy(b, off, head, headSize, toHead);
+        headSize += toHead;
+
+        for (int i = toHead; i < accepted && tail.length > 0; i++) {
+            tail[(int) (tailWritten++ % tail.length)] = b[off + i];
+        }
+        totalBytes += accepted;
+
+        if (totalBytes >= hardLimit) {
+            limitReached = true;
+            if (onLimit != null) onLimit.run();
+        }
+    }
+
+    /** 전체 수신 바이트 수 (hardLimit 이후는 미포함) */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /** head/tail 어디에도 남지 않은 바이트 수 */
+    public synchronized long getOmittedBytes() {
+        return Math.max(0, tailWritten - tail.length);
+    }
+
+    /** hardLimit 도달 여부 (출력 과다로 중단됨) */
+    public synchronized boolean isLimitReached() {
+        return limitReached;
+    }
+
+    /**
+     * 보관된 출력을 UTF-8 문자열로 반환
+     * - 생략 구간이 있으면 head 와 tail 사이에 생략 바이트 수 표시
+     * - 출력 한도 도달 시 중단 안내 추가
+     */
+    public synchronized String toText() {
+        long omitted = getOmittedBytes();
+        int tailSize = (int) Math.min(tailWritten, tail.length);
+
+        byte[] tailBytes = new byte[tailSize];
+        int start = (int) (omitted > 0 ? tailWritten % tail.length : 0);
+        for (int i = 0; i < tailSize; i++) {
+            tailBytes[i] = tail[(start + i) % tail.length];
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (omitted == 0) {
+            byte[] all = new byte[headSize + tailSize];
+            System.arraycopy(head, 0, all, 0, headSize);
+            System.arraycopy(tailBytes, 0, all, headSize, tailSize);
+            sb.append(new String(all, StandardCharsets.UTF_8));
+        } else {
+            // 멀티바이트 문자가 잘리지 않도록 경계 보정
+            int headEnd = utf8BoundaryBefore(head, headSize);
+            int tailStart = utf8BoundaryAfter(tailBytes, 0);
+            int tailEnd = limitReached ? utf8BoundaryBefore(tailBytes, tailSize) : tailSize;
+
+            sb.append(new String(head, 0, headEnd, StandardCharsets.UTF_8))
+                    .append("\n... (")
+                    .append(omitted + (headSize - headEnd) + tailStart)
+                    .append(" bytes 생략) ...\n")
+                    .append(new String(tailBytes, tailStart, tailEnd - tailStart, StandardCharsets.UTF_8));
+        }
+
+        if (limitReached) {
+            sb.append("\n... (출력 용량이 너무 커서 중단되었습니다. 한도 ")
+                    .append(hardLimit)
+                    .append(" bytes) ...");
+        }
+        return sb.toString();
+    }
+
+    /** end 이전에서 UTF-8 문자 시작 위치로 경계 보정 */
+    private static int utf8BoundaryBefore(byte[] bytes, int end) {
+        int i = end;
+        while (i > 0 && i > end - 4 && (bytes[i - 1] & 0xC0) == 0x80) i--;
+        if (i > 0 && (bytes[i - 1] & 0x80) != 0) {
+            int lead = bytes[i - 1] & 0xff;
+            int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+            if (end - (i - 1) < expected) return i - 1;
+        }
+        return end;
+    }
+
+    /** start 이후 첫 UTF-8 문자 시작 위치 */
+    private static int utf8BoundaryAfter(byte[] bytes, int start) {
+        int i = start;
+        while (i < bytes.length && i < start + 3 && (bytes[i] & 0xC0) == 0x80) i++;
+        return i;
+    }
+}
@@ -0,0 +1,85 @@
+package finalproject.compile.global.util;
+
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 스레드의 자원 사용량 측정 (워커 JVM 안에서 수행되는 인메모리 컴파일 단계용)
+ * - CPU : 현재 스레드 CPU 시간
+ * - 메모리 : 현재 스레드 할당 바이트 (HotSpot 전용, 지원하지 않으면 -1)
+ * - start() 를 호출한 스레드에서 stop() 을 호출해야 함
+ * - 측정 중인 스레드가 다른 스레드에 맡긴 작업(attributing 으로 감싼 작업)의 사용량도 합산
+ */
+public final class ThreadResourceMeter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean HOTSPOT_THREADS =
+            THREADS instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()
+                    ? hotspot : null;
+
+    private static final ThreadLocal<ThreadResourceMeter> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long startCpuNanos;
+    private final long startAllocated;
+    private final AtomicLong delegatedCpuNanos = new AtomicLong();
+    private final AtomicLong delegatedAllocated = new AtomicLong();
+
+    private ThreadResourceMeter() {
+        this.startNanos = System.nanoTime();
+        this.startCpuNanos = cpuNanos();
+        this.startAllocated = allocatedBytes();
+    }
+
+    public static ThreadResourceMeter start() {
+        ThreadResourceMeter meter = new ThreadResourceMeter();
+        CURRENT.set(meter);
+        return meter;
+    }
+
+    public ResourceUsage stop() {
+        CURRENT.remove();
+        long wallMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        long cpu = cpuNanos();
+        long allocated = allocatedBytes();
+        return new ResourceUsage(
+                wallMillis,
+                cpu < 0 || startCpuNanos < 0 ? -1 : (cpu - startCpuNanos + delegatedCpuNanos.get()) / 1_000_000,
+                allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated + delegatedAllocated.get(),
+                false
+        );
+    }
+
+    /**
+     * 다른 스레드에서 실행할 작업을 감싸 그 사용량을 호출 스레드의 측정값에 합산
+     * - 호출 스레드에서 측정 중이 아니면 작업을 그대로 반환
+     * - stop() 이후에 끝난 작업의 사용량은 반영되지 않음
+     */
+    public static <T> Callable<T> attributing(Callable<T> task) {
+        ThreadResourceMeter owner = CURRENT.get();
+        if (owner == null) return task;
+
+        return () -> {
+            long cpu = cpuNanos();
+            long allocated = allocatedBytes();
+            try {
+                return task.call();
+            } finally {
+                if (cpu >= 0) owner.delegatedCpuNanos.addAndGet(cpuNanos() - cpu);
+                if (allocated >= 0) owner.delegatedAllocated.addAndGet(allocatedBytes() - allocated);
+            }
+        };
+    }
+
+    private static long cpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return HOTSPOT_THREADS != null ? HOTSPOT_THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+}
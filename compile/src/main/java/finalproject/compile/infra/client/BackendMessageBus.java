@@ -0,0 +1,50 @@
+package finalproject.compile.infra.client;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백엔드와 공유하는 Redis 로 메시지를 발행하는 클라이언트
+ * - 컴파일 서버의 작업 큐 Redis(spring.data.redis.*)와 백엔드 Redis 는 별도 인스턴스
+ * - 실행 중 출력 / 결과 발행은 백엔드가 구독하는 Redis(compile.bus.redis.*)로 전송
+ * - 기본 연결 Bean 을 대체하지 않도록 연결 팩토리는 Bean 으로 등록하지 않음
+ */
+@Slf4j
+@Component
+public class BackendMessageBus {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    public BackendMessageBus(@Value("${compile.bus.redis.host:localhost}") String host,
+                             @Value("${compile.bus.redis.port:6379}") int port,
+                             @Value("${compile.bus.redis.password:}") String password) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        if (!password.isBlank()) {
+            configuration.setPassword(password);
+        }
+
+        this.connectionFactory = new LettuceConnectionFactory(configuration);
+        this.connectionFactory.afterPropertiesSet();
+        this.template = new StringRedisTemplate(connectionFactory);
+
+        log.info("[Bus] backend redis = {}:{}", host, port);
+    }
+
+    /**
+     * 채널로 메시지 발행 (PUBLISH)
+     */
+    public void publish(String channel, String message) {
+        template.convertAndSend(channel, message);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionFactory.destroy();
+    }
+}
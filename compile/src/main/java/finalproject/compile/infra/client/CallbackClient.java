@@ -1,8 +1,10 @@
 package finalproject.compile.infra.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import finalproject.compile.domain.compile.entity.CompileJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
@@ -11,25 +13,57 @@ import org.springframework.web.client.RestTemplate;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 실행 결과를 백엔드로 전달
+ * - compile.callback.mode=http  : callbackUrl 로 HTTP POST (기본값)
+ * - compile.callback.mode=redis : 백엔드 Redis 의 compile:result 채널로 발행 (HTTP 왕복 없음)
+ * - 컴파일 에러 / 경고가 있으면 구조화된 진단 목록(diagnostics)을 함께 전달
+ * - 채점 작업은 케이스별 결과(testResults)를 함께 전달
+ * - 단계별 자원 사용량(compileUsage / runUsage)이 있으면 함께 전달
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CallbackClient {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final BackendMessageBus messageBus;
+    private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate = createRestTemplate();
 
     private static final String RETRY_QUEUE = "compile:callback:retry";
 
-    public void sendResultCallback(CompileJob job) {
-        String callbackUrl = job.getCallbackUrl();
+    public static final String RESULT_CHANNEL = "compile:result";
 
-        if (callbackUrl == null || callbackUrl.isBlank()) return;
+    @Value("${compile.callback.mode:http}")
+    private String mode;
 
-        Map<String, String> requestBody = new HashMap<>();
+    public void sendResultCallback(CompileJob job) {
+        Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("jobId", job.getJobId());
         requestBody.put("status", job.getStatus().name());
         requestBody.put("output", job.getOutput());
+        if (job.getDiagnostics() != null) {
+            requestBody.put("diagnostics", job.getDiagnostics());
+        }
+        if (job.getTestResults() != null) {
+            requestBody.put("testResults", job.getTestResults());
+        }
+        if (job.getCompileUsage() != null) {
+            requestBody.put("compileUsage", job.getCompileUsage());
+        }
+        if (job.getRunUsage() != null) {
+            requestBody.put("runUsage", job.getRunUsage());
+        }
+
+        if ("redis".equals(mode)) {
+            publishResult(job, requestBody);
+            return;
+        }
+
+        String callbackUrl = job.getCallbackUrl();
+
+        if (callbackUrl == null || callbackUrl.isBlank()) return;
 
         try {
             restTemplate.postForEntity(callbackUrl, requestBody, String.class);
@@ -43,10 +77,24 @@ public class CallbackClient {
         }
     }
 
+    /**
+     * 결과를 Redis 채널로 발행 (백엔드가 구독 후 대기 중인 Future 완료)
+     */
+    private void publishResult(CompileJob job, Map<String, Object> result) {
+        try {
+            messageBus.publish(RESULT_CHANNEL, objectMapper.writeValueAsString(result));
+            log.info("[Callback] 결과 발행 jobId={}", job.getJobId());
+
+        } catch (Exception e) {
+            log.error("[Callback] 결과 발행 실패 -> 재시도 큐 저장 jobId={}, Error={}", job.getJobId(), e.getMessage());
+            redisTemplate.opsForList().rightPush(RETRY_QUEUE, job);
+        }
+    }
+
     private RestTemplate createRestTemplate() {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(30000);
         factory.setReadTimeout(30000);
         return new RestTemplate(factory);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package finalproject.compile.infra.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중 출력 조각을 백엔드 Redis 채널로 발행
+ * - 채널 : compile:output:{jobId}
+ * - 메시지 : {"jobId", "seq", "chunk"} JSON
+ * - 백엔드가 패턴 구독 후 STOMP 로 요청한 사용자에게 전달
+ * - 최종 결과는 기존 콜백으로 전달되므로 발행 실패는 로그만 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutputPublisher {
+
+    public static final String CHANNEL_PREFIX = "compile:output:";
+
+    private final BackendMessageBus messageBus;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 작업 1건의 출력 발행기 생성 (작업 내 seq 는 0부터 증가)
+     */
+    public Stream open(String jobId) {
+        return new Stream(jobId);
+    }
+
+    private void publish(String jobId, int seq, String chunk) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jobId", jobId);
+        message.put("seq", seq);
+        message.put("chunk", chunk);
+
+        try {
+            messageBus.publish(CHANNEL_PREFIX + jobId, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[Output] 발행 실패 jobId={}, seq={}, Error={}", jobId, seq, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 1건 전용 출력 스트림 (OutputListener 로 사용)
+     */
+    public final class Stream {
+
+        private final String jobId;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private Stream(String jobId) {
+            this.jobId = jobId;
+        }
+
+        public void send(String chunk) {
+            if (chunk.isEmpty()) return;
+            publish(jobId, sequence.getAndIncrement(), chunk);
+        }
+    }
+}
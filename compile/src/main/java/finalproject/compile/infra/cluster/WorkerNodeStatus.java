@@ -0,0 +1,22 @@
+package finalproject.compile.infra.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 워커 노드 상태 (하트비트마다 Redis 에 갱신)
+ * - slots       : 이 노드의 실행 슬롯 수
+ * - freeSlots   : 하트비트 시점의 남은 실행 슬롯 수
+ * - heartbeatAt : 마지막 하트비트 시각 (epoch ms, 노드 시계 기준)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerNodeStatus {
+
+    private String nodeId;
+    private int slots;
+    private int freeSlots;
+    private long heartbeatAt;
+}
@@ -0,0 +1,207 @@
+package finalproject.compile.infra.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 워커 노드 레지스트리 (Redis 하트비트)
+ * - 노드마다 고유 ID 를 갖고, 실행 컨테이너 이름 / 큐 컨슈머 이름에 사용 (같은 Docker 호스트의 노드끼리 충돌 방지)
+ * - heartbeat-ms 마다 compile:node:{nodeId} 에 슬롯 수 / 남은 슬롯 수를 TTL(ttl-ms) 과 함께 저장
+ * - TTL 이 지나도록 하트비트가 없는 노드는 죽은 노드로 보고 목록(compile:nodes)에서 제거
+ *   → 죽은 노드의 컨테이너 정리 / 미완료 작업 즉시 회수 판단에 사용
+ * - 하트비트마다 전체 노드 목록을 읽어 캐시 (수락 제어의 전체 실행 슬롯 수, 풀 확장 시 노드 수)
+ * <p>
+ * Redis 키
+ * - compile:nodes          : 등록된 노드 ID 집합
+ * - compile:node:{nodeId}  : 노드 상태 (WorkerNodeStatus, TTL)
+ */
+@Slf4j
+@Component
+public class WorkerRegistry {
+
+    private static final String NODES_KEY = "compile:nodes";
+    private static final String NODE_PREFIX = "compile:node:";
+
+    // 자동 생성 ID 의 호스트 이름 최대 길이
+    private static final int MAX_HOST_LENGTH = 24;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String nodeId;
+    private final long heartbeatMillis;
+    private final long ttlMillis;
+
+    // 이 노드의 실행 슬롯 (WorkerListener 가 시작 시 등록)
+    private volatile int slots;
+    private volatile IntSupplier freeSlots = () -> 0;
+
+    // 마지막으로 읽은 살아 있는 노드 목록
+    private volatile List<WorkerNodeStatus> liveNodes = List.of();
+    private volatile long refreshedAt;
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "worker-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WorkerRegistry(RedisTemplate<String, Object> redisTemplate,
+                          @Value("${compile.node.id:}") String nodeId,
+                          @Value("${compile.node.heartbeat-ms:2000}") long heartbeatMillis,
+                          @Value("${compile.node.ttl-ms:10000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId.isBlank() ? generateNodeId() : sanitize(nodeId);
+        this.heartbeatMillis = heartbeatMillis;
+        this.ttlMillis = Math.max(ttlMillis, heartbeatMillis * 2);
+    }
+
+    /**
+     * 첫 하트비트로 노드 목록을 읽어둔 뒤 주기적 하트비트 시작
+     * (컨테이너 풀이 시작 시 죽은 노드의 컨테이너를 정리할 수 있도록 먼저 실행)
+     */
+    @PostConstruct
+    public void start() {
+        log.info("[Registry] Worker node id: {}", nodeId);
+        beat();
+        heartbeat.scheduleAtFixedRate(this::beat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이 노드의 실행 슬롯 등록
+     */
+    public void bindSlots(int slots, IntSupplier freeSlots) {
+        this.slots = slots;
+        this.freeSlots = freeSlots;
+        beat();
+    }
+
+    /**
+     * 하트비트 1회 : 내 상태 저장 후 전체 노드 목록 갱신
+     */
+    private synchronized void beat() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForValue().set(NODE_PREFIX + nodeId,
+                    new WorkerNodeStatus(nodeId, slots, freeSlots.getAsInt(), now), ttlMillis, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForSet().add(NODES_KEY, nodeId);
+
+            refresh(now);
+        } catch (Exception e) {
+            log.warn("[Registry] Heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 등록된 노드 상태 조회, 상태 키가 만료된 노드는 목록에서 제거
+     */
+    private void refresh(long now) {
+        Set<Object> members = redisTemplate.opsForSet().members(NODES_KEY);
+        if (members == null) return;
+
+        List<String> ids = members.stream().map(String::valueOf).toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> NODE_PREFIX + id).toList());
+
+        List<WorkerNodeStatus> nodes = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values != null ? values.get(i) : null;
+            if (value instanceof WorkerNodeStatus status) {
+                nodes.add(status);
+            } else {
+                log.warn("[Registry] Worker node [{}] missed heartbeats. Removing.", ids.get(i));
+                redisTemplate.opsForSet().remove(NODES_KEY, ids.get(i));
+            }
+        }
+        liveNodes = List.copyOf(nodes);
+        refreshedAt = now;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 살아 있는 노드 목록 (마지막 하트비트 기준)
+     */
+    public List<WorkerNodeStatus> getLiveNodes() {
+        return liveNodes;
+    }
+
+    /**
+     * 노드 생존 여부
+     * - 노드 목록을 ttl 이상 갱신하지 못했으면(Redis 장애 등) 판단하지 않고 살아 있다고 봄
+     */
+    public boolean isAlive(String otherNodeId) {
+        if (nodeId.equals(otherNodeId)) return true;
+        if (System.currentTimeMillis() - refreshedAt > ttlMillis) return true;
+        return liveNodes.stream().anyMatch(node -> node.getNodeId().equals(otherNodeId));
+    }
+
+    /**
+     * 전체 노드의 실행 슬롯 합계 (이 노드는 현재 값 사용)
+     */
+    public int getClusterSlots() {
+        int total = slots;
+        for (WorkerNodeStatus node : liveNodes) {
+            if (!node.getNodeId().equals(nodeId)) total += node.getSlots();
+        }
+        return total;
+    }
+
+    /**
+     * 살아 있는 노드 수 (이 노드 포함, 최소 1)
+     */
+    public int getLiveNodeCount() {
+        boolean self = liveNodes.stream().anyMatch(node -> node.getNodeId().equals(nodeId));
+        return Math.max(1, liveNodes.size() + (self ? 0 : 1));
+    }
+
+    /**
+     * 종료 시 즉시 등록 해제 (TTL 만료를 기다리지 않고 다른 노드가 작업을 회수)
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        try {
+            redisTemplate.delete(NODE_PREFIX + nodeId);
+            redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("[Registry] Deregistration failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 호스트 이름 + 임의 6자리 (재시작마다 새 ID)
+     */
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = sanitize(InetAddress.getLocalHost().getHostName());
+        } catch (Exception e) {
+            host = "node";
+        }
+        if (host.length() > MAX_HOST_LENGTH) host = host.substring(0, MAX_HOST_LENGTH);
+        return host + "-" + UUID.randomUUID().toString().substring(0, 6);
+    }
+
+    /**
+     * 컨테이너 이름 / 컨슈머 이름에 쓸 수 있는 문자만 남김 (소문자, 숫자, '-')
+     */
+    private static String sanitize(String value) {
+        String cleaned = value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9-]", "-").replaceAll("^-+|-+$", "");
+        return cleaned.isEmpty() ? "node" : cleaned;
+    }
+}
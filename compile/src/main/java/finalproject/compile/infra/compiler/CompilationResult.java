@@ -0,0 +1,39 @@
+package finalproject.compile.infra.compiler;
+
+import finalproject.compile.domain.compile.entity.CompileDiagnostic;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 컴파일 결과
+ * - classes     : 바이너리 클래스명 → 클래스 바이트 (실패 시 비어있음)
+ * - diagnostics : 구조화된 진단 목록
+ * - output      : javac 와 동일한 형식의 진단 텍스트
+ * - timedOut    : 컴파일 시간 초과로 실패 (소스가 아닌 서버 부하 영향일 수 있으므로 캐시하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompilationResult {
+
+    private boolean success;
+    private Map<String, byte[]> classes;
+    private List<CompileDiagnostic> diagnostics;
+    private String output;
+    private boolean timedOut;
+
+    public CompilationResult(boolean success, Map<String, byte[]> classes, List<CompileDiagnostic> diagnostics, String output) {
+        this(success, classes, diagnostics, output, false);
+    }
+
+    /**
+     * 컴파일 시간 초과 결과
+     */
+    public static CompilationResult timeout(String output) {
+        return new CompilationResult(false, Map.of(), List.of(), output, true);
+    }
+}
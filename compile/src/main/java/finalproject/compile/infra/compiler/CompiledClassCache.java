@@ -0,0 +1,119 @@
+package finalproject.compile.infra.compiler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소스 해시 기반 컴파일 결과 캐시
+ * - key   : 정규화된 소스(+ 파일명)의 SHA-256
+ * - value : CompilationResult (클래스 바이트 또는 컴파일 에러 출력)
+ * - 1차 : 서버 로컬 LRU (크기 제한), 2차 : Redis (TTL)
+ * <p>
+ * 같은 소스는 항상 같은 결과로 컴파일되므로 컴파일 에러도 그대로 캐싱
+ * (수업 중 동일한 템플릿/정답 코드가 동시에 실행되는 경우 재컴파일 생략)
+ */
+@Slf4j
+@Component
+public class CompiledClassCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, CompilationResult> local;
+    private final long ttlMinutes;
+
+    private static final String KEY_PREFIX = "compile:cache:";
+
+    public CompiledClassCache(RedisTemplate<String, Object> redisTemplate,
+                              @Value("${compile.cache.local-size:256}") int localSize,
+                              @Value("${compile.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMinutes = ttlMinutes;
+
+        // accessOrder = true → 가장 오래 사용되지 않은 항목부터 제거
+        this.local = new LinkedHashMap<>(localSize * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompilationResult> eldest) {
+                return size() > localSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (로컬 → Redis 순)
+     * - Redis 에서 찾은 결과는 로컬 LRU 에도 적재
+     * - 없으면 null
+     */
+    public CompilationResult get(String key) {
+        synchronized (local) {
+            CompilationResult hit = local.get(key);
+            if (hit != null) return hit;
+        }
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (cached instanceof CompilationResult result) {
+                synchronized (local) {
+                    local.put(key, result);
+                }
+                return result;
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 미스로 취급하고 컴파일 진행
+            log.warn("[CompileCache] Redis 조회 실패 key={}, Error={}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 캐시 저장 (로컬 + Redis)
+     */
+    public void put(String key, CompilationResult result) {
+        synchronized (local) {
+            local.put(key, result);
+        }
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, result, ttlMinutes, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("[CompileCache] Redis 저장 실패 key={}, Error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 키 생성
+     * - 줄바꿈(CRLF/CR → LF), 줄 끝 공백, 마지막 빈 줄을 정규화 (javac 결과에 영향 없음)
+     * - 파일명(= public 클래스명)까지 포함하여 해시
+     */
+    public String keyOf(String fileName, String code) {
+        String[] lines = code.split("\r\n|\r|\n", -1);
+        StringBuilder normalized = new StringBuilder(code.length() + fileName.length() + 1);
+        normalized.append(fileName).append('\n');
+        for (String line : lines) {
+            normalized.append(line.stripTrailing()).append('\n');
+        }
+
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == '\n') end--;
+        normalized.setLength(end);
+
+        return sha256(normalized.toString());
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package finalproject.compile.infra.compiler;
+
+import finalproject.compile.domain.compile.entity.CompileDiagnostic;
+import finalproject.compile.domain.compile.entity.CompileDiagnosticSeverity;
+import finalproject.compile.global.util.ThreadResourceMeter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * javax.tools 기반 메모리 컴파일러
+ * - 소스 파일 기록 / javac 프로세스 실행 없이 컴파일 서버 JVM 내부에서 컴파일
+ * - 결과 클래스 바이트는 메모리에만 보관되어 실행 단계(샌드박스 러너)로 전달됨
+ * - 진단 정보는 구조화된 목록 + javac 형식 텍스트로 함께 제공
+ * - 여러 소스를 함께 컴파일할 수 있고, 이전에 컴파일한 클래스 바이트를 클래스패스로 제공 가능 (증분 컴파일)
+ * - 클래스패스는 비워 둠 (서버 JVM 의 java.class.path 가 보이면 Spring / Jackson 등이 학생 코드에서 참조됨)
+ * - 소스 전체 길이가 max-source-chars 를 넘으면 javac 를 실행하지 않고 실패 처리
+ * - javac 는 컴파일마다 전용 스레드에서 실행, 동시 실행 수는 슬롯(워커 수 만큼)으로 제한
+ * - timeout-ms 안에 끝나지 않으면 컴파일 시간 초과로 실패 처리
+ *   (javac 는 인터럽트에 반응하지 않으므로 초과된 스레드는 버려두고 슬롯만 즉시 반납 → 폭주 소스가 다른 컴파일을 막지 않음,
+ *    버려진 javac 가 max-runaway 개 이상 돌고 있으면 메모리 보호를 위해 끝날 때까지 슬롯을 반납하지 않음)
+ */
+@Slf4j
+@Component
+public class InMemoryJavaCompiler {
+
+    // 컴파일 옵션 (실행 컨테이너 JDK 17 기준, 어노테이션 프로세서 비활성화)
+    private static final List<String> OPTIONS = List.of("--release", "17", "-proc:none", "-g");
+
+    private final JavaCompiler compiler;
+    private final long timeoutMillis;
+    private final long maxSourceChars;
+    private final int maxRunaways;
+
+    // 동시 javac 실행 슬롯 / 시간 초과 후에도 돌고 있는 javac 수
+    private final Semaphore slots;
+    private final AtomicInteger runaways = new AtomicInteger();
+    private final AtomicInteger threadSeq = new AtomicInteger();
+
+    public InMemoryJavaCompiler(@Value("${compile.compiler.timeout-ms:10000}") long timeoutMillis,
+                                @Value("${compile.compiler.max-source-chars:200000}") long maxSourceChars,
+                                @Value("${compile.compiler.max-runaway:4}") int maxRunaways,
+                                @Value("${compile.worker.count:2}") int workerCount) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("JDK 의 javax.tools.JavaCompiler 를 찾을 수 없습니다. (JRE 가 아닌 JDK 로 실행 필요)");
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.maxSourceChars = maxSourceChars;
+        this.maxRunaways = maxRunaways;
+        this.slots = new Semaphore(Math.max(1, workerCount));
+    }
+
+    /**
+     * 단일 소스 컴파일
+     *
+     * @param fileName 소스 파일명 (예: Main.java)
+     * @param code     소스 코드
+     */
+    public CompilationResult compile(String fileName, String code) {
+        return compile(Map.of(fileName, code), Map.of()).result();
+    }
+
+    /**
+     * 여러 소스 컴파일
+     *
+     * @param sources   소스 경로 → 소스 코드
+     * @param classpath 함께 참조할 이미 컴파일된 클래스 (바이너리 클래스명 → 클래스 바이트)
+     * @return 컴파일 결과 (classes 는 이번에 컴파일한 클래스만) + 소스 경로별 생성 클래스명
+     */
+    public Compilation compile(Map<String, String> sources, Map<String, byte[]> classpath) {
+        long sourceChars = sources.values().stream().mapToLong(String::length).sum();
+        if (sourceChars > maxSourceChars) {
+            return new Compilation(new CompilationResult(false, Map.of(), List.of(),
+                    String.format("Compile Error: 소스 코드가 너무 깁니다. (%d자, 최대 %d자)", sourceChars, maxSourceChars)),
+                    Map.of());
+        }
+
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        StandardJavaFileManager standard = compiler.getStandardFileManager(collector, Locale.getDefault(), StandardCharsets.UTF_8);
+        MemoryFileManager fileManager = new MemoryFileManager(standard, classpath);
+
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        sources.forEach((path, code) -> units.add(new SourceFile(path, code)));
+
+        try {
+            standard.setLocation(StandardLocation.CLASS_PATH, List.of());
+        } catch (IOException e) {
+            throw new IllegalStateException("Compiler File Manager Error", e);
+        }
+
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Compile interrupted", e);
+        }
+
+        JavacSlot slot = new JavacSlot();
+        FutureTask<Boolean> task = new FutureTask<>(ThreadResourceMeter.attributing(() -> {
+            try (fileManager) {
+                return compiler.getTask(null, fileManager, collector, OPTIONS, null, units).call();
+            } finally {
+                slot.finish();
+            }
+        }));
+        Thread thread = new Thread(task, "compile-javac-" + threadSeq.getAndIncrement());
+        thread.setDaemon(true);
+        thread.start();
+
+        boolean success;
+        try {
+            success = task.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            slot.release();
+        } catch (TimeoutException e) {
+            // 인터럽트하지 않음 (javac 가 ct.sym 을 읽는 중 인터럽트되면 JVM 전체의 --release 17 플랫폼 캐시가 닫혀 이후 컴파일이 모두 실패)
+            slot.abandon();
+            log.warn("[Compiler] 컴파일 시간 초과 ({}ms), 파일 {}개, 실행 중인 초과 javac {}개",
+                    timeoutMillis, sources.size(), runaways.get());
+            return new Compilation(CompilationResult.timeout(
+                    String.format("Compile Error: 컴파일 시간이 초과되었습니다. (%d초)", TimeUnit.MILLISECONDS.toSeconds(timeoutMillis))),
+                    Map.of());
+        } catch (InterruptedException e) {
+            slot.abandon();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Compile interrupted", e);
+        } catch (ExecutionException e) {
+            slot.release();
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Compiler File Manager Error", e.getCause());
+        }
+
+        List<CompileDiagnostic> diagnostics = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : collector.getDiagnostics()) {
+            diagnostics.add(toDiagnostic(diagnostic));
+        }
+
+        CompilationResult result = new CompilationResult(
+                success,
+                success ? fileManager.classes : Map.of(),
+                diagnostics,
+                format(sources, diagnostics)
+        );
+        return new Compilation(result, success ? fileManager.origins : Map.of());
+    }
+
+    /**
+     * 컴파일 1건이 잡고 있는 javac 슬롯
+     * - 정상 종료 / 예외 : 호출 스레드가 반납
+     * - 시간 초과 : javac 스레드를 버려두고 즉시 반납 (버려진 javac 가 max-runaway 개를 넘으면 그 javac 가 끝날 때 반납)
+     */
+    private final class JavacSlot {
+
+        private boolean held = true;
+        private boolean abandoned;
+        private boolean finished;
+
+        /**
+         * javac 스레드 종료 시 호출
+         */
+        synchronized void finish() {
+            finished = true;
+            if (abandoned) {
+                runaways.decrementAndGet();
+                release();
+            }
+        }
+
+        /**
+         * 시간 초과 / 인터럽트로 결과를 기다리지 않게 된 경우
+         */
+        synchronized void abandon() {
+            if (finished) {
+                release();
+                return;
+            }
+            abandoned = true;
+            if (runaways.incrementAndGet() <= maxRunaways) {
+                release();
+            }
+        }
+
+        synchronized void release() {
+            if (held) {
+                held = false;
+                slots.release();
+            }
+        }
+    }
+
+    /**
+     * 여러 소스 컴파일 결과
+     *
+     * @param origins 소스 경로 → 그 소스에서 생성된 바이너리 클래스명 목록
+     */
+    public record Compilation(CompilationResult result, Map<String, List<String>> origins) {
+    }
+
+    /**
+     * javac Diagnostic → CompileDiagnostic 변환
+     * - javac 의 column 은 탭을 8칸으로 확장한 값이므로 문자 오프셋 기준으로 다시 계산
+     */
+    private CompileDiagnostic toDiagnostic(Diagnostic<? extends JavaFileObject> diagnostic) {
+        long line = Math.max(diagnostic.getLineNumber(), 0);
+        long column = 0;
+        String file = null;
+
+        long position = diagnostic.getPosition();
+        if (diagnostic.getSource() instanceof SourceFile source) {
+            file = source.path;
+            String code = source.code;
+            if (position != Diagnostic.NOPOS && position <= code.length()) {
+                int lineStart = Math.max(code.lastIndexOf('\n', (int) position - 1), code.lastIndexOf('\r', (int) position - 1)) + 1;
+                column = position - lineStart + 1;
+            }
+        }
+
+        return new CompileDiagnostic(
+                file,
+                line,
+                column,
+                severityOf(diagnostic.getKind()),
+                diagnostic.getCode(),
+                diagnostic.getMessage(Locale.getDefault())
+        );
+    }
+
+    private CompileDiagnosticSeverity severityOf(Diagnostic.Kind kind) {
+        return switch (kind) {
+            case ERROR -> CompileDiagnosticSeverity.ERROR;
+            case WARNING, MANDATORY_WARNING -> CompileDiagnosticSeverity.WARNING;
+            default -> CompileDiagnosticSeverity.NOTE;
+        };
+    }
+
+    /**
+     * javac 콘솔 출력과 동일한 형식으로 진단 텍스트 구성
+     * Main.java:3: error: ';' expected
+     *         int x = 1
+     *                  ^
+     * 1 error
+     */
+    private String format(Map<String, String> sources, List<CompileDiagnostic> diagnostics) {
+        if (diagnostics.isEmpty()) return "";
+
+        Map<String, String[]> linesByFile = new LinkedHashMap<>();
+        StringBuilder sb = new StringBuilder();
+        int errors = 0;
+        int warnings = 0;
+
+        for (CompileDiagnostic d : diagnostics) {
+            if (d.getSeverity() == CompileDiagnosticSeverity.ERROR) errors++;
+            if (d.getSeverity() == CompileDiagnosticSeverity.WARNING) warnings++;
+
+            if (d.getFile() == null || d.getLine() == 0) {
+                sb.append(d.getSeverity() == CompileDiagnosticSeverity.NOTE ? "Note: " : "")
+                        .append(d.getMessage()).append('\n');
+                continue;
+            }
+
+            sb.append(d.getFile()).append(':').append(d.getLine()).append(": ")
+                    .append(d.getSeverity().name().toLowerCase(Locale.ROOT)).append(": ")
+                    .append(d.getMessage()).append('\n');
+
+            String[] lines = linesByFile.computeIfAbsent(d.getFile(),
+                    file -> sources.getOrDefault(file, "").split("\r\n|\r|\n", -1));
+            if (d.getLine() <= lines.length) {
+                String sourceLine = lines[(int) d.getLine() - 1];
+                sb.append(sourceLine).append('\n');
+                for (int i = 0; i < d.getColumn() - 1 && i < sourceLine.length(); i++) {
+                    sb.append(sourceLine.charAt(i) == '\t' ? '\t' : ' ');
+                }
+                sb.append("^\n");
+            }
+        }
+
+        if (errors > 0) sb.append(errors).append(errors == 1 ? " error" : " errors").append('\n');
+        if (warnings > 0) sb.append(warnings).append(warnings == 1 ? " warning" : " warnings").append('\n');
+        return sb.toString();
+    }
+
+    /**
+     * 문자열 소스를 javac 입력으로 제공하는 JavaFileObject
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String path;
+        private final String code;
+
+        private SourceFile(String path, String code) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.path = path;
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    /**
+     * javac 출력 클래스를 메모리에 보관하는 JavaFileObject
+     */
+    private static final class ClassFile extends SimpleJavaFileObject {
+
+        private final String className;
+        private final Map<String, byte[]> sink;
+
+        private ClassFile(String className, Map<String, byte[]> sink) {
+            super(URI.create("mem:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.className = className;
+            this.sink = sink;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    sink.put(className, toByteArray());
+                }
+            };
+        }
+    }
+
+    /**
+     * 이미 컴파일된 클래스 바이트를 javac 클래스패스 입력으로 제공하는 JavaFileObject
+     */
+    private static final class ClasspathFile extends SimpleJavaFileObject {
+
+        private final String className;
+        private final byte[] bytes;
+
+        private ClasspathFile(String className, byte[] bytes) {
+            super(URI.create("mem:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.className = className;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    /**
+     * 클래스 출력은 메모리로, 클래스패스 조회에는 메모리 클래스를 추가하는 파일 매니저 (나머지는 표준 파일 매니저에 위임)
+     */
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final Map<String, byte[]> classes = new LinkedHashMap<>();
+        private final Map<String, List<String>> origins = new LinkedHashMap<>();
+        private final Map<String, byte[]> classpath;
+
+        private MemoryFileManager(StandardJavaFileManager fileManager, Map<String, byte[]> classpath) {
+            super(fileManager);
+            this.classpath = classpath;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            if (sibling instanceof SourceFile source) {
+                origins.computeIfAbsent(source.path, path -> new ArrayList<>()).add(className);
+            }
+            return new ClassFile(className, classes);
+        }
+
+        @Override
+        public Iterable<JavaFileObject> list(JavaFileManager.Location location, String packageName,
+                                             Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+            Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+            if (classpath.isEmpty() || location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS)) {
+                return listed;
+            }
+
+            List<JavaFileObject> files = new ArrayList<>();
+            listed.forEach(files::add);
+            classpath.forEach((className, bytes) -> {
+                int dot = className.lastIndexOf('.');
+                String classPackage = dot < 0 ? "" : className.substring(0, dot);
+                if (classPackage.equals(packageName)
+                        || (recurse && (packageName.isEmpty() || classPackage.startsWith(packageName + ".")))) {
+                    files.add(new ClasspathFile(className, bytes));
+                }
+            });
+            return files;
+        }
+
+        @Override
+        public String inferBinaryName(JavaFileManager.Location location, JavaFileObject file) {
+            if (file instanceof ClasspathFile classpathFile) {
+                return classpathFile.className;
+            }
+            return super.inferBinaryName(location, file);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package finalproject.compile.infra.compiler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트(다중 파일) 증분 컴파일
+ * - 세션(학생)마다 마지막으로 성공한 컴파일의 파일 해시 / 심볼 / 생성 클래스 바이트를 보관
+ * - 다음 컴파일은 바뀐 파일 + 그 파일에 (전이적으로) 의존하는 파일만 다시 컴파일하고,
+ *   나머지 파일의 클래스는 메모리 클래스패스로 제공
+ * - 의존 판단은 SourceSymbols (다른 파일이 선언한 타입 이름을 참조하면 의존, 보수적으로 과대 판정)
+ * - 컴파일 실패 시 세션 상태는 바꾸지 않음 (다음 컴파일은 마지막 성공 상태 기준으로 비교)
+ * - 세션은 이 워커 노드 메모리에만 보관 (다른 노드로 가면 처음 1회 전체 컴파일)
+ * - 최대 max-sessions 개 LRU, idle-minutes 동안 쓰지 않은 세션은 제거
+ */
+@Slf4j
+@Component
+public class IncrementalCompiler {
+
+    private final InMemoryJavaCompiler compiler;
+    private final Map<String, Session> sessions;
+    private final long idleMillis;
+
+    public IncrementalCompiler(InMemoryJavaCompiler compiler,
+                               @Value("${compile.session.max-sessions:500}") int maxSessions,
+                               @Value("${compile.session.idle-minutes:30}") long idleMinutes) {
+        this.compiler = compiler;
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+
+        // accessOrder = true → 가장 오래 사용되지 않은 세션부터 제거
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    /**
+     * 프로젝트 컴파일
+     * - 성공 시 classes 는 프로젝트 전체 클래스 (이번에 다시 컴파일하지 않은 파일 포함)
+     *
+     * @param sessionId 세션 key (null 이면 세션 없이 전체 컴파일)
+     * @param sources   소스 경로 → 소스 코드
+     */
+    public CompilationResult compile(String sessionId, Map<String, String> sources) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return compiler.compile(sources, Map.of()).result();
+        }
+
+        Session session = sessionFor(sessionId);
+        synchronized (session) {
+            return session.compile(sessionId, sources);
+        }
+    }
+
+    /**
+     * 세션 조회 (없으면 생성), 오래 사용하지 않은 세션 정리
+     */
+    private Session sessionFor(String sessionId) {
+        long now = System.currentTimeMillis();
+        synchronized (sessions) {
+            Iterator<Session> eldest = sessions.values().iterator();
+            while (eldest.hasNext()) {
+                if (now - eldest.next().lastUsedAt <= idleMillis) break;
+                eldest.remove();
+            }
+
+            Session session = sessions.computeIfAbsent(sessionId, id -> new Session());
+            session.lastUsedAt = now;
+            return session;
+        }
+    }
+
+    /**
+     * 세션 1개의 마지막 성공 컴파일 상태
+     */
+    private final class Session {
+
+        private final Map<String, String> hashes = new HashMap<>();
+        private final Map<String, SourceSymbols> symbols = new HashMap<>();
+        private final Map<String, List<String>> origins = new HashMap<>();
+        private final Map<String, byte[]> classes = new HashMap<>();
+        private volatile long lastUsedAt;
+
+        private CompilationResult compile(String sessionId, Map<String, String> sources) {
+            // 1. 바뀐 파일 / 삭제된 파일
+            Map<String, String> newHashes = new HashMap<>();
+            Set<String> changed = new LinkedHashSet<>();
+            for (Map.Entry<String, String> source : sources.entrySet()) {
+                String hash = sha256(source.getValue());
+                newHashes.put(source.getKey(), hash);
+                if (!hash.equals(hashes.get(source.getKey()))) changed.add(source.getKey());
+            }
+            Set<String> removed = new HashSet<>(hashes.keySet());
+            removed.removeAll(sources.keySet());
+
+            if (changed.isEmpty() && removed.isEmpty()) {
+                log.info("[Session] 변경 없음, 이전 컴파일 결과 사용 session={}", sessionId);
+                return new CompilationResult(true, Map.copyOf(classes), List.of(), "");
+            }
+
+            // 2. 바뀐 / 삭제된 파일이 선언한(했던) 타입 이름
+            Map<String, SourceSymbols> newSymbols = new HashMap<>();
+            Set<String> dirtyNames = new HashSet<>();
+            for (String path : sources.keySet()) {
+                SourceSymbols current = changed.contains(path) ? SourceSymbols.of(sources.get(path)) : symbols.get(path);
+                newSymbols.put(path, current);
+                if (changed.contains(path)) dirtyNames.addAll(current.declared());
+            }
+            for (String path : changed) {
+                SourceSymbols previous = symbols.get(path);
+                if (previous != null) dirtyNames.addAll(previous.declared());
+            }
+            for (String path : removed) {
+                dirtyNames.addAll(symbols.get(path).declared());
+            }
+
+            // 3. 그 이름을 참조하는 파일을 전이적으로 추가
+            Set<String> targets = new LinkedHashSet<>(changed);
+            boolean grown = true;
+            while (grown) {
+                grown = false;
+                for (String path : sources.keySet()) {
+                    if (!targets.contains(path) && newSymbols.get(path).references(dirtyNames)) {
+                        targets.add(path);
+                        dirtyNames.addAll(newSymbols.get(path).declared());
+                        grown = true;
+                    }
+                }
+            }
+
+            // 4. 다시 컴파일하지 않는 파일의 클래스만 클래스패스로 제공
+            Map<String, byte[]> classpath = new HashMap<>(classes);
+            for (String path : targets) removeOrigins(classpath, path);
+            for (String path : removed) removeOrigins(classpath, path);
+
+            Map<String, String> targetSources = new LinkedHashMap<>();
+            for (String path : targets) targetSources.put(path, sources.get(path));
+
+            // 삭제만 있고 다시 컴파일할 파일이 없으면 컴파일 생략
+            InMemoryJavaCompiler.Compilation compilation = targetSources.isEmpty()
+                    ? new InMemoryJavaCompiler.Compilation(new CompilationResult(true, Map.of(), List.of(), ""), Map.of())
+                    : compiler.compile(targetSources, classpath);
+            CompilationResult result = compilation.result();
+            log.info("[Session] 증분 컴파일 session={}, {}/{} 파일, success={}",
+                    sessionId, targets.size(), sources.size(), result.isSuccess());
+            if (!result.isSuccess()) return result;
+
+            // 5. 성공 시 세션 상태 갱신
+            for (String path : targets) origins.remove(path);
+            for (String path : removed) origins.remove(path);
+            origins.putAll(compilation.origins());
+
+            classes.clear();
+            classes.putAll(classpath);
+            classes.putAll(result.getClasses());
+
+            hashes.clear();
+            hashes.putAll(newHashes);
+            symbols.clear();
+            symbols.putAll(newSymbols);
+
+            return new CompilationResult(true, Map.copyOf(classes), result.getDiagnostics(), result.getOutput());
+        }
+
+        private void removeOrigins(Map<String, byte[]> classpath, String path) {
+            List<String> generated = origins.get(path);
+            if (generated != null) generated.forEach(classpath::remove);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
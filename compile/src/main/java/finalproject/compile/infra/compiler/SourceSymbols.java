@@ -0,0 +1,99 @@
+package finalproject.compile.infra.compiler;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 증분 컴파일 의존성 판단용 소스 심볼 (렉싱만으로 수집, 주석 / 문자열 / 문자 / 텍스트 블록 리터럴 제외)
+ * - packageName : package 선언 (없으면 빈 문자열)
+ * - declared    : class / interface / enum / record 다음에 오는 이름 (중첩 타입 포함)
+ * - referenced  : 코드에 나온 모든 식별자
+ * <p>
+ * 다른 파일의 declared 이름이 referenced 에 있으면 그 파일에 의존한다고 봄
+ * (타입 / 상수 / import 모두 이름이 드러나므로 보수적으로 과대 판정, 누락 없음)
+ */
+public record SourceSymbols(String packageName, Set<String> declared, Set<String> referenced) {
+
+    private static final Set<String> TYPE_KEYWORDS = Set.of("class", "interface", "enum", "record");
+
+    public static SourceSymbols of(String code) {
+        Set<String> declared = new HashSet<>();
+        Set<String> referenced = new HashSet<>();
+        StringBuilder packageName = new StringBuilder();
+
+        // 0 : package 키워드 전, 1 : package 이름 수집 중, 2 : 종료
+        int packageState = 0;
+        String previous = null;
+        int length = code.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = code.charAt(i);
+
+            if (c == '/' && i + 1 < length && code.charAt(i + 1) == '/') {
+                while (i < length && code.charAt(i) != '\n') i++;
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '*') {
+                int end = code.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (code.startsWith("\"\"\"", i)) {
+                i = skipLiteral(code, i + 3, "\"\"\"");
+            } else if (c == '"' || c == '\'') {
+                i = skipLiteral(code, i + 1, String.valueOf(c));
+                previous = null;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(code.charAt(i))) i++;
+                String word = code.substring(start, i);
+
+                if (packageState == 0 && word.equals("package")) {
+                    packageState = 1;
+                } else if (packageState == 1) {
+                    packageName.append(word);
+                }
+                if (previous != null && TYPE_KEYWORDS.contains(previous)) {
+                    declared.add(word);
+                }
+                referenced.add(word);
+                previous = word;
+                continue;
+            } else {
+                if (packageState == 1) {
+                    if (c == '.') packageName.append('.');
+                    if (c == ';') packageState = 2;
+                }
+                if (!Character.isWhitespace(c)) previous = null;
+                i++;
+            }
+        }
+        return new SourceSymbols(packageName.toString(), declared, referenced);
+    }
+
+    /**
+     * 닫는 구분자 다음 위치 반환 (역슬래시 이스케이프 건너뜀)
+     */
+    private static int skipLiteral(String code, int from, String close) {
+        int i = from;
+        while (i < code.length()) {
+            if (code.charAt(i) == '\\') {
+                i += 2;
+            } else if (code.startsWith(close, i)) {
+                return i + close.length();
+            } else if (close.length() == 1 && code.charAt(i) == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return code.length();
+    }
+
+    /**
+     * 주어진 이름 중 하나라도 참조하는지
+     */
+    public boolean references(Set<String> names) {
+        for (String name : names) {
+            if (referenced.contains(name)) return true;
+        }
+        return false;
+    }
+}
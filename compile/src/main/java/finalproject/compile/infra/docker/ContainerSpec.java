@@ -0,0 +1,41 @@
+package finalproject.compile.infra.docker;
+
+import java.util.List;
+
+/**
+ * 실행 컨테이너 생성 사양
+ * - 네트워크 차단, 권한 제거, PID/메모리/CPU 제한은 구현체 공통으로 적용
+ *
+ * @param name        컨테이너 이름
+ * @param image       Docker 이미지
+ * @param mounts      바인드 마운트 목록
+ * @param memoryBytes 메모리 제한 (byte)
+ * @param cpus        CPU 제한 (코어 수)
+ * @param pidsLimit   프로세스 수 제한
+ */
+public record ContainerSpec(
+        String name,
+        String image,
+        List<Mount> mounts,
+        long memoryBytes,
+        double cpus,
+        int pidsLimit
+) {
+
+    /**
+     * 바인드 마운트 1건
+     *
+     * @param hostPath      호스트 경로
+     * @param containerPath 컨테이너 내부 경로
+     * @param readOnly      컨테이너에서 읽기 전용 여부
+     */
+    public record Mount(String hostPath, String containerPath, boolean readOnly) {
+
+        /**
+         * docker -v / HostConfig.Binds 형식 (host:container[:ro])
+         */
+        public String bind() {
+            return hostPath + ":" + containerPath + (readOnly ? ":ro" : "");
+        }
+    }
+}
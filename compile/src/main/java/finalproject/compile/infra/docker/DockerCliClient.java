@@ -0,0 +1,80 @@
+package finalproject.compile.infra.docker;
+
+import finalproject.compile.global.util.CmdUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * docker CLI 기반 구현체
+ * - 명령마다 sh → docker CLI 프로세스를 띄우므로 느리지만, 소켓 접근이 불가한 환경(Windows 로컬 등)에서 사용
+ * - compile.docker.client=cli 로 활성화
+ */
+@Component
+@ConditionalOnProperty(name = "compile.docker.client", havingValue = "cli")
+public class DockerCliClient implements DockerClient {
+
+    @Override
+    public void runContainer(ContainerSpec spec) {
+        String runCmd = String.format(
+                "docker run -d --name %s " +
+                        "--network none " +
+                        "--pids-limit %d " +
+                        "--cap-drop ALL " +
+                        "--memory %db " +
+                        "--cpus %s " +
+                        "%s" +
+                        "%s tail -f /dev/null",
+                spec.name(), spec.pidsLimit(), spec.memoryBytes(), spec.cpus(),
+                spec.mounts().stream().map(mount -> "-v " + mount.bind() + " ").collect(Collectors.joining()),
+                spec.image()
+        );
+
+        CmdUtils.ExecutionResult result = CmdUtils.runCommand(runCmd, 10000);
+        if (!result.success()) {
+            throw new IllegalStateException("Container Init Failed: " + result.output());
+        }
+    }
+
+    @Override
+    public void removeContainer(String nameOrId) {
+        CmdUtils.runCommand("docker rm -f " + nameOrId, 5000);
+    }
+
+    @Override
+    public List<String> findContainers(String namePrefix) {
+        CmdUtils.ExecutionResult result = CmdUtils.runCommand(
+                "docker ps -a --filter name=" + namePrefix + " --format {{.Names}}", 5000);
+        if (!result.success() || result.output().isBlank()) return List.of();
+
+        return Arrays.asList(result.output().trim().split("\\s+"));
+    }
+
+    @Override
+    public CmdUtils.ExecutionResult exec(String containerName, List<String> command, long timeoutMillis) {
+        return CmdUtils.runCommand(dockerExec(containerName, false, command), timeoutMillis);
+    }
+
+    @Override
+    public void execDetached(String containerName, List<String> command) {
+        CmdUtils.ExecutionResult result = CmdUtils.runCommand(dockerExec(containerName, true, command), 5000);
+        if (!result.success()) {
+            throw new IllegalStateException("Exec Failed: " + result.output());
+        }
+    }
+
+    /**
+     * docker exec 인자 목록 (명령 인자를 공백으로 이어 붙이지 않고 그대로 전달)
+     */
+    private List<String> dockerExec(String containerName, boolean detached, List<String> command) {
+        List<String> args = new ArrayList<>(List.of("docker", "exec"));
+        if (detached) args.add("-d");
+        args.add(containerName);
+        args.addAll(command);
+        return args;
+    }
+}
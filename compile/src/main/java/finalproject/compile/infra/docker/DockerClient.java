@@ -0,0 +1,40 @@
+package finalproject.compile.infra.docker;
+
+import finalproject.compile.global.util.CmdUtils;
+
+import java.util.List;
+
+/**
+ * Docker 데몬 제어 인터페이스
+ * - DockerEngineClient : /var/run/docker.sock 으로 Engine HTTP API 직접 호출 (기본)
+ * - DockerCliClient    : docker CLI 프로세스 실행 (소켓을 쓸 수 없는 환경용 대체 경로)
+ */
+public interface DockerClient {
+
+    /**
+     * 컨테이너 생성 후 시작 (docker run -d)
+     * - 실패 시 IllegalStateException
+     */
+    void runContainer(ContainerSpec spec);
+
+    /**
+     * 컨테이너 강제 삭제 (docker rm -f), 없으면 무시
+     */
+    void removeContainer(String nameOrId);
+
+    /**
+     * 이름에 prefix 가 포함된 컨테이너 이름 목록 (중지된 컨테이너 포함)
+     */
+    List<String> findContainers(String namePrefix);
+
+    /**
+     * 컨테이너 내부 명령 실행 후 출력/종료 코드 반환 (docker exec)
+     */
+    CmdUtils.ExecutionResult exec(String containerName, List<String> command, long timeoutMillis);
+
+    /**
+     * 컨테이너 내부 명령을 백그라운드로 실행 (docker exec -d)
+     * - 실패 시 IllegalStateException
+     */
+    void execDetached(String containerName, List<String> command);
+}
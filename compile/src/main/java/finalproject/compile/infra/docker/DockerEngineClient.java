@@ -0,0 +1,424 @@
+package finalproject.compile.infra.docker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import finalproject.compile.global.util.CmdUtils;
+import finalproject.compile.global.util.OutputCapture;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.URLEncoder;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Docker Engine HTTP API 구현체
+ * - JDK Unix Domain Socket 으로 /var/run/docker.sock 에 HTTP/1.1 요청을 직접 전송
+ * - sh / docker CLI 프로세스 생성 없이 데몬과 바로 통신
+ * - exec 는 create → start(attach, 출력 스트리밍) → inspect(종료 코드) 순서로 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compile.docker.client", havingValue = "socket", matchIfMissing = true)
+public class DockerEngineClient implements DockerClient {
+
+    // Docker 20.10 이상에서 지원하는 API 버전
+    private static final String API_VERSION = "/v1.41";
+
+    // 일반 API 호출 타임아웃
+    private static final long API_TIMEOUT_MILLIS = 10000;
+
+    // 이미지 pull 타임아웃
+    private static final long PULL_TIMEOUT_MILLIS = 300000;
+
+    private final Path socketPath;
+    private final ObjectMapper objectMapper;
+
+    // 응답이 오지 않는 소켓을 강제로 닫는 감시 스레드
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "docker-engine-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DockerEngineClient(@Value("${compile.docker.socket:/var/run/docker.sock}") String socketPath,
+                              ObjectMapper objectMapper) {
+        this.socketPath = Path.of(socketPath);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void runContainer(ContainerSpec spec) {
+        Map<String, Object> hostConfig = new HashMap<>();
+        hostConfig.put("NetworkMode", "none");
+        hostConfig.put("PidsLimit", spec.pidsLimit());
+        hostConfig.put("CapDrop", List.of("ALL"));
+        hostConfig.put("Memory", spec.memoryBytes());
+        hostConfig.put("NanoCpus", (long) (spec.cpus() * 1_000_000_000L));
+        hostConfig.put("Binds", spec.mounts().stream().map(ContainerSpec.Mount::bind).toList());
+
+        Map<String, Object> body = Map.of(
+                "Image", spec.image(),
+                "Cmd", List.of("tail", "-f", "/dev/null"),
+                "HostConfig", hostConfig
+        );
+
+        String createPath = "/containers/create?name=" + encode(spec.name());
+        HttpResponse created = call("POST", createPath, body, API_TIMEOUT_MILLIS);
+
+        // 이미지가 없으면 pull 후 재시도 (docker run 과 동일 동작)
+        if (created.status() == 404) {
+            pullImage(spec.image());
+            created = call("POST", createPath, body, API_TIMEOUT_MILLIS);
+        }
+        if (created.status() != 201) {
+            throw new IllegalStateException("Container Init Failed: " + created.text());
+        }
+
+        String id = readJson(created).path("Id").asText();
+        HttpResponse started = call("POST", "/containers/" + id + "/start", null, API_TIMEOUT_MILLIS);
+        if (started.status() != 204 && started.status() != 304) {
+            throw new IllegalStateException("Container Start Failed: " + started.text());
+        }
+    }
+
+    @Override
+    public void removeContainer(String nameOrId) {
+        HttpResponse response = call("DELETE", "/containers/" + encode(nameOrId) + "?force=true", null, API_TIMEOUT_MILLIS);
+        if (response.status() != 204 && response.status() != 404) {
+            log.warn("[DockerEngine] 컨테이너 삭제 실패 name={}, status={}", nameOrId, response.status());
+        }
+    }
+
+    @Override
+    public List<String> findContainers(String namePrefix) {
+        String filters = encode("{\"name\":[\"" + namePrefix + "\"]}");
+        HttpResponse response = call("GET", "/containers/json?all=true&filters=" + filters, null, API_TIMEOUT_MILLIS);
+        if (response.status() != 200) return List.of();
+
+        // Names 는 "/이름" 형식
+        List<String> names = new ArrayList<>();
+        for (JsonNode node : readJson(response)) {
+            String name = node.path("Names").path(0).asText(node.path("Id").asText());
+            names.add(name.startsWith("/") ? name.substring(1) : name);
+        }
+        return names;
+    }
+
+    @Override
+    public CmdUtils.ExecutionResult exec(String containerName, List<String> command, long timeoutMillis) {
+        try {
+            String execId = createExec(containerName, command);
+
+            // start (Detach=false) → 응답 본문이 stdout/stderr 멀티플렉스 스트림
+            StreamResult streamed = stream("POST", "/exec/" + execId + "/start",
+                    Map.of("Detach", false, "Tty", false), timeoutMillis);
+
+            if (!streamed.completed()) {
+                return new CmdUtils.ExecutionResult(false, "TIMEOUT: 실행 시간이 초과되었습니다. (" + timeoutMillis / 1000 + "초)", -1);
+            }
+
+            // inspect 로 종료 코드 조회
+            JsonNode inspect = readJson(call("GET", "/exec/" + execId + "/json", null, API_TIMEOUT_MILLIS));
+            int exitCode = inspect.path("ExitCode").asInt(-1);
+            OutputCapture output = streamed.output();
+            return new CmdUtils.ExecutionResult(exitCode == 0 && !output.isLimitReached(), output.toText(), exitCode);
+
+        } catch (Exception e) {
+            log.error("Docker Exec Error: {}", e.getMessage());
+            return new CmdUtils.ExecutionResult(false, "System Error: " + e.getMessage(), -1);
+        }
+    }
+
+    @Override
+    public void execDetached(String containerName, List<String> command) {
+        String execId = createExec(containerName, command);
+        HttpResponse started = call("POST", "/exec/" + execId + "/start",
+                Map.of("Detach", true, "Tty", false), API_TIMEOUT_MILLIS);
+        if (started.status() != 200) {
+            throw new IllegalStateException("Exec Failed: " + started.text());
+        }
+    }
+
+    private String createExec(String containerName, List<String> command) {
+        Map<String, Object> body = Map.of(
+                "AttachStdout", true,
+                "AttachStderr", true,
+                "Cmd", command
+        );
+        HttpResponse created = call("POST", "/containers/" + encode(containerName) + "/exec", body, API_TIMEOUT_MILLIS);
+        if (created.status() != 201) {
+            throw new IllegalStateException("Exec Create Failed: " + created.text());
+        }
+        return readJson(created).path("Id").asText();
+    }
+
+    private void pullImage(String image) {
+        int colon = image.lastIndexOf(':');
+        String name = colon > 0 ? image.substring(0, colon) : image;
+        String tag = colon > 0 ? image.substring(colon + 1) : "latest";
+
+        log.info("[DockerEngine] 이미지 pull 시작 image={}", image);
+        HttpResponse pulled = call("POST", "/images/create?fromImage=" + encode(name) + "&tag=" + encode(tag),
+                null, PULL_TIMEOUT_MILLIS);
+        if (pulled.status() != 200) {
+            throw new IllegalStateException("Image Pull Failed: " + pulled.text());
+        }
+    }
+
+    /**
+     * 요청 1건 전송 후 응답 본문 전체 수신
+     */
+    private HttpResponse call(String method, String path, Object body, long timeoutMillis) {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            ScheduledFuture<?> guard = closeAfter(channel, timeoutMillis);
+            try {
+                InputStream in = sendRequest(channel, method, path, body);
+                int status = readStatus(in);
+                InputStream bodyStream = readHeaders(in);
+                return new HttpResponse(status, bodyStream.readAllBytes());
+            } finally {
+                guard.cancel(false);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Docker API Error: " + method + " " + path + " - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * exec start 응답을 스트리밍으로 읽어 출력 버퍼에 기록 (8바이트 헤더 + payload 프레임)
+     * - 출력 한도 도달 시 연결을 닫아 더 이상 수신하지 않음
+     */
+    private StreamResult stream(String method, String path, Object body, long timeoutMillis) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            ScheduledFuture<?> guard = closeAfter(channel, timeoutMillis);
+            OutputCapture output = CmdUtils.newCapture(() -> closeQuietly(channel));
+            try {
+                InputStream in = sendRequest(channel, method, path, body);
+                int status = readStatus(in);
+                InputStream frames = readHeaders(in);
+                if (status != 200) {
+                    throw new IOException("Exec Start Failed: status=" + status);
+                }
+
+                byte[] header = new byte[8];
+                byte[] buffer = new byte[8192];
+                while (frames.readNBytes(header, 0, 8) == 8) {
+                    int remaining = ((header[4] & 0xff) << 24) | ((header[5] & 0xff) << 16)
+                            | ((header[6] & 0xff) << 8) | (header[7] & 0xff);
+                    while (remaining > 0 && !output.isLimitReached()) {
+                        int read = frames.read(buffer, 0, Math.min(buffer.length, remaining));
+                        if (read < 0) break;
+                        output.write(buffer, 0, read);
+                        remaining -= read;
+                    }
+                    if (output.isLimitReached()) break;
+                }
+                return new StreamResult(true, output);
+
+            } catch (ClosedChannelException e) {
+                // 타임아웃 감시로 닫히면 미완료, 출력 한도 도달로 직접 닫은 경우는 정상 종료로 취급
+                return new StreamResult(output.isLimitReached(), output);
+            } finally {
+                guard.cancel(false);
+            }
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private InputStream sendRequest(SocketChannel channel, String method, String path, Object body) throws IOException {
+        byte[] payload = body == null ? new byte[0] : objectMapper.writeValueAsBytes(body);
+
+        String head = method + " " + API_VERSION + path + " HTTP/1.1\r\n" +
+                "Host: docker\r\n" +
+                "Connection: close\r\n" +
+                "Content-Type: application/json\r\n" +
+                "Content-Length: " + payload.length + "\r\n\r\n";
+
+        OutputStream out = Channels.newOutputStream(channel);
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(payload);
+        out.flush();
+
+        return new BufferedInputStream(Channels.newInputStream(channel));
+    }
+
+    private int readStatus(InputStream in) throws IOException {
+        String statusLine = readLine(in);
+        String[] parts = statusLine.split(" ", 3);
+        if (parts.length < 2) {
+            throw new IOException("Invalid HTTP status line: " + statusLine);
+        }
+        return Integer.parseInt(parts[1]);
+    }
+
+    /**
+     * 헤더를 읽고 본문 스트림 반환 (chunked 인코딩이면 디코딩 스트림으로 감쌈)
+     */
+    private InputStream readHeaders(InputStream in) throws IOException {
+        boolean chunked = false;
+        long contentLength = -1;
+
+        String line;
+        while (!(line = readLine(in)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon < 0) continue;
+
+            String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("transfer-encoding") && value.equalsIgnoreCase("chunked")) chunked = true;
+            if (name.equals("content-length")) contentLength = Long.parseLong(value);
+        }
+
+        if (chunked) return new ChunkedInputStream(in);
+        if (contentLength >= 0) return new BoundedInputStream(in, contentLength);
+        return in;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') break;
+            if (b != '\r') sb.append((char) b);
+        }
+        if (b == -1 && sb.isEmpty()) throw new EOFException("Unexpected end of stream");
+        return sb.toString();
+    }
+
+    private ScheduledFuture<?> closeAfter(SocketChannel channel, long timeoutMillis) {
+        return watchdog.schedule(() -> {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private JsonNode readJson(HttpResponse response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid Docker API response: " + response.text(), e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private record StreamResult(boolean completed, OutputCapture output) { }
+
+    private record HttpResponse(int status, byte[] body) {
+
+        String text() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Transfer-Encoding: chunked 본문 디코딩
+     */
+    private static final class ChunkedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+        private boolean finished;
+
+        private ChunkedInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (finished) return -1;
+            if (remaining == 0) {
+                String sizeLine = readLine(in);
+                int semicolon = sizeLine.indexOf(';');
+                remaining = Long.parseLong((semicolon >= 0 ? sizeLine.substring(0, semicolon) : sizeLine).trim(), 16);
+                if (remaining == 0) {
+                    finished = true;
+                    return -1;
+                }
+            }
+
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) throw new EOFException("Unexpected end of chunk");
+
+            remaining -= read;
+            if (remaining == 0) readLine(in); // 청크 끝 CRLF
+            return read;
+        }
+    }
+
+    /**
+     * Content-Length 만큼만 읽는 본문 스트림
+     */
+    private static final class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b != -1) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read != -1) remaining -= read;
+            return read;
+        }
+    }
+}
@@ -3,12 +3,19 @@ package finalproject.compile.infra.file;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
- * 컴파일 작업에 필요한 파일 처리 유틸 클래스
- * - /tmp/compiler/{jobId}/Main.java 파일 생성
- * - 작업 종료 후 jobId 폴더 삭제
+ * 실행 컨테이너와 공유하는 호스트 파일 처리 유틸 클래스
+ * - 컴파일은 메모리에서 수행되므로 소스 파일은 기록하지 않음
+ * - /tmp/compiler/.runner/ 에 Warm 러너 파일(소스, jar, CDS 아카이브) 기록
+ * - /tmp/compiler/.sockets/{컨테이너명}/ 에 컨테이너별 러너 소켓 디렉토리 생성 / 삭제
  * - Worker 서버에서만 사용됨
  */
 @Component
@@ -33,63 +40,95 @@ public class FileUtil {
     }
 
     /**
-     * Java 파일 생성 메서드
-     * 1) /tmp/compiler/{jobId}/ 디렉토리 생성
-     * 2) 해당 디렉토리에 fileName(Main.java) 생성
-     * 3) 사용자가 제출한 code 내용을 파일에 기록
+     * 컨테이너 내부 Warm 러너 파일(소스, jar, CDS 아카이브) 보관 디렉토리명
+     * - 모든 컨테이너에 /app/.runner 로 읽기 전용 마운트 (학생 코드가 러너 파일을 바꿀 수 없음)
      */
-    public void createJavaFile(String jobId, String fileName, String code) throws IOException {
+    public static final String RUNNER_DIR = ".runner";
+    public static final String CONTAINER_RUNNER_PATH = "/app/" + RUNNER_DIR;
 
-        // jobId 전용 디렉토리 경로 생성
-        File dir = new File(BASE_PATH + "/" + jobId);
+    /**
+     * 컨테이너별 러너 소켓 디렉토리 (/tmp/compiler/.sockets/{컨테이너명})
+     * - 해당 컨테이너에만 /app/.socket 으로 마운트 (다른 컨테이너의 소켓에는 접근 불가)
+     * - 러너 소켓과 CDS 아카이브 생성 중간 파일처럼 컨테이너가 기록해야 하는 파일만 둠
+     */
+    public static final String SOCKET_DIR = ".sockets";
+    public static final String CONTAINER_SOCKET_PATH = "/app/.socket";
+    public static final String SOCKET_FILE = "runner.sock";
+
+    public String getRunnerPath() {
+        return BASE_PATH + "/" + RUNNER_DIR;
+    }
+
+    public String getSocketPath(String containerName) {
+        return BASE_PATH + "/" + SOCKET_DIR + "/" + containerName;
+    }
 
-        // 디렉토리가 없다면 새롭게 생성
-        if(!dir.exists()){
-            dir.mkdirs(); // /tmp/compiler/{jobId}/
+    /**
+     * 컨테이너 소켓 디렉토리 생성 (이전 컨테이너가 남긴 파일은 제거, 컨테이너 사용자도 기록 가능하도록 권한 개방)
+     */
+    public void createSocketDir(String containerName) {
+        deleteSocketDir(containerName);
+
+        File dir = new File(getSocketPath(containerName));
+        if (!dir.mkdirs()) {
+            throw new IllegalStateException("Socket Dir Create Failed: " + dir);
         }
         dir.setReadable(true, false);
         dir.setWritable(true, false);
         dir.setExecutable(true, false);
+    }
 
-        // 위에서 만든 디렉토리 내부에 fileName(Main.java) 생성
-        File file = new File(dir, fileName);
-
-        // 파일에 코드 내용 기록
-        try (OutputStreamWriter writer = new OutputStreamWriter(
-                new FileOutputStream(file), StandardCharsets.UTF_8)) {
-
-            writer.write(code);
+    /**
+     * 컨테이너 소켓 디렉토리 삭제 (내부 파일 / 하위 디렉토리 포함)
+     * - 컨테이너가 기록할 수 있는 디렉토리이므로 심볼릭 링크는 따라가지 않고 링크 자체만 삭제
+     */
+    public void deleteSocketDir(String containerName) {
+        Path dir = Path.of(getSocketPath(containerName));
+        if (!Files.exists(dir, LinkOption.NOFOLLOW_LINKS)) return;
+
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                    Files.delete(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Socket Dir Delete Failed: " + dir, e);
         }
-
-        // 사용자가 요청에서 전달한 코드 그대로 기록
     }
 
     /**
-     * Job 작업 폴더 삭제 메서드
-     * 1) /tmp/compiler/{jobId}/ 내부 파일 제거
-     * 2) 마지막으로 jobId 폴더 자체 삭제
-     * - 컴파일/실행 끝난 뒤 정리 용도
+     * 러너 파일 기록 메서드
+     * 1) /tmp/compiler/.runner/ 디렉토리 생성 (컨테이너 사용자도 접근 가능하도록 권한 개방)
+     * 2) 같은 디렉토리의 임시 파일에 기록 후 원자적으로 교체
+     *    (기동 중인 러너 / 다른 노드가 기록 중인 파일을 읽지 않도록 함)
      */
-    public void deleteFolder(String jobId){
-
-        // 삭제할 jobId 폴더 기준 경로
-        File dir = new File(BASE_PATH + "/" + jobId);
-
-        // 폴더 자체가 없으면 더 이상 할 일 없음
-        if(!dir.exists()) {
-            return;
+    public void writeRunnerFile(String fileName, byte[] content) throws IOException {
+        File dir = new File(getRunnerPath());
+        if (!dir.exists()) {
+            dir.mkdirs();
         }
+        dir.setReadable(true, false);
+        dir.setWritable(true, false);
+        dir.setExecutable(true, false);
 
-        // jobId 폴더 내부 파일 목록 가져오기
-        File[] files = dir.listFiles();
-
-        // 내부 파일이 존재하면 하나씩 삭제
-        if(files != null){
-            for(File file : files){
-                file.delete();
+        Path temp = Files.createTempFile(dir.toPath(), fileName, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(content);
             }
+            temp.toFile().setReadable(true, false);
+            Files.move(temp, dir.toPath().resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
         }
-        // 모든 파일 정리 후 해당 jobId 폴더 자체 삭제
-        dir.delete();
     }
-}
\ No newline at end of file
+}
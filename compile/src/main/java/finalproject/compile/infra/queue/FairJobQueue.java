@@ -0,0 +1,154 @@
+package finalproject.compile.infra.queue;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+import finalproject.compile.infra.cluster.WorkerRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 단위 공정 스케줄링 작업 큐
+ * - 저장/ACK/장애 회수는 Redis Streams 큐(RedisStreamJobQueue)를 그대로 사용 → 내구성 유지
+ * - 읽어온 작업은 로컬 FairScheduler 에 모아두고, take 는 스케줄러 순서(강사 우선 → 클래스 DRR → 사용자 RR)로 반환
+ * - 로컬 대기 작업은 주기적으로 lease 를 연장하여 다른 워커가 회수하지 않도록 함
+ * - compile.queue.type=fair 로 활성화
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compile.queue.type", havingValue = "fair")
+public class FairJobQueue implements JobQueue {
+
+    private static final String FETCHER_THREAD = "compile-fair-fetcher";
+
+    // take 1회 최대 대기 시간
+    private static final long TAKE_TIMEOUT_MILLIS = 10_000;
+
+    private final RedisStreamJobQueue stream;
+    private final FairScheduler<CompileJob> scheduler;
+    private final Semaphore available = new Semaphore(0);
+
+    // 로컬에 미리 읽어둘 최대 작업 수
+    private final int prefetch;
+
+    // lease 연장 주기 (회수 기준 시간의 1/3)
+    private final long leaseIntervalMillis;
+
+    private final ScheduledExecutorService leaseKeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "compile-fair-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+
+    public FairJobQueue(RedisTemplate<String, Object> redisTemplate,
+                        WorkerRegistry workerRegistry,
+                        @Value("${compile.queue.reclaim-idle-ms:60000}") long reclaimIdleMillis,
+                        @Value("${compile.queue.max-deliveries:3}") int maxDeliveries,
+                        @Value("${compile.queue.fair.quantum:2}") int quantum,
+                        @Value("${compile.queue.fair.prefetch:500}") int prefetch) {
+        this.stream = new RedisStreamJobQueue(redisTemplate, workerRegistry, reclaimIdleMillis, maxDeliveries);
+        this.scheduler = new FairScheduler<>(quantum);
+        this.prefetch = prefetch;
+        this.leaseIntervalMillis = Math.max(1000, reclaimIdleMillis / 3);
+    }
+
+    @PostConstruct
+    public void init() {
+        stream.init();
+
+        Thread fetcher = new Thread(this::fetch, FETCHER_THREAD);
+        fetcher.setDaemon(true);
+        fetcher.start();
+
+        leaseKeeper.scheduleWithFixedDelay(this::extendLease, leaseIntervalMillis, leaseIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void push(CompileJob job) {
+        stream.push(job);
+    }
+
+    @Override
+    public CompileJob take() {
+        try {
+            if (!available.tryAcquire(TAKE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return scheduler.poll();
+    }
+
+    @Override
+    public void ack(CompileJob job) {
+        stream.ack(job);
+    }
+
+    /**
+     * 스트림에 남은 작업 + 로컬 스케줄러 대기 작업
+     */
+    @Override
+    public long size() {
+        return stream.size() + scheduler.size();
+    }
+
+    /**
+     * 스트림에서 작업을 읽어 스케줄러에 적재 (prefetch 한도까지)
+     */
+    private void fetch() {
+        while (running) {
+            try {
+                if (scheduler.size() >= prefetch) {
+                    Thread.sleep(50);
+                    continue;
+                }
+
+                CompileJob job = stream.take();
+                if (job == null) continue;
+
+                String userId = job.getUserId() != null ? job.getUserId() : job.getJobId();
+                scheduler.offer(job.getClassId(), userId, job.isPriority(), job);
+                available.release();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[FairQueue] fetch error", e);
+            }
+        }
+    }
+
+    /**
+     * 로컬 대기 작업의 lease 연장
+     * - 스트림은 fetcher 스레드가 읽으므로 같은 컨슈머 이름(노드 ID:fetcher 스레드)으로 연장
+     */
+    private void extendLease() {
+        try {
+            List<String> recordIds = scheduler.snapshot().stream()
+                    .map(CompileJob::getQueueRecordId)
+                    .toList();
+            stream.extendLease(FETCHER_THREAD, recordIds);
+        } catch (Exception e) {
+            log.warn("[FairQueue] lease extension failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        leaseKeeper.shutdownNow();
+        stream.shutdown();
+    }
+}
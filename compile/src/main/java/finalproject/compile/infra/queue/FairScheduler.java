@@ -0,0 +1,152 @@
+package finalproject.compile.infra.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클래스(강의실) 단위 공정 스케줄러
+ * - 우선 처리 레인 : 강사 실행은 항상 먼저 처리
+ * - 클래스 간 : Deficit Round Robin (방문마다 quantum 만큼 처리 가능, 작업 1건 = 비용 1)
+ * - 클래스 내 : 사용자별 하위 큐를 라운드 로빈
+ * → 한 클래스가 한꺼번에 40건을 넣어도 다른 클래스 작업이 사이사이 처리됨
+ * <p>
+ * Redis 의존성 없는 순수 자료구조 (FairJobQueue / 벤치마크에서 공용)
+ */
+public class FairScheduler<T> {
+
+    private static final String DEFAULT_CLASS = "default";
+
+    private final int quantum;
+
+    private final Deque<T> priorityLane = new ArrayDeque<>();
+    private final Map<String, ClassQueue<T>> classes = new HashMap<>();
+
+    // 대기 작업이 있는 클래스 방문 순서
+    private final Deque<ClassQueue<T>> active = new ArrayDeque<>();
+
+    private int size;
+
+    public FairScheduler(int quantum) {
+        this.quantum = Math.max(1, quantum);
+    }
+
+    /**
+     * 작업 추가
+     *
+     * @param priority true 면 우선 처리 레인 (강사 실행)
+     */
+    public synchronized void offer(String classId, String userId, boolean priority, T item) {
+        size++;
+        if (priority) {
+            priorityLane.offer(item);
+            return;
+        }
+
+        String key = classId != null ? classId : DEFAULT_CLASS;
+        ClassQueue<T> queue = classes.computeIfAbsent(key, ClassQueue::new);
+        if (queue.isEmpty()) {
+            active.offer(queue);
+        }
+        queue.offer(userId, item);
+    }
+
+    /**
+     * 다음 작업 (없으면 null)
+     */
+    public synchronized T poll() {
+        T urgent = priorityLane.poll();
+        if (urgent != null) {
+            size--;
+            return urgent;
+        }
+
+        ClassQueue<T> queue = active.peekFirst();
+        if (queue == null) return null;
+
+        // 새 방문이면 quantum 만큼 적립
+        if (queue.deficit < 1) {
+            queue.deficit += quantum;
+        }
+
+        T item = queue.poll();
+        queue.deficit--;
+        size--;
+
+        if (queue.isEmpty()) {
+            // 대기 작업이 없는 클래스는 적립분을 버림 (DRR 규칙)
+            queue.deficit = 0;
+            active.pollFirst();
+            classes.remove(queue.id);
+        } else if (queue.deficit < 1) {
+            // 이번 방문 몫을 다 쓰면 다음 클래스로
+            active.offerLast(active.pollFirst());
+        }
+        return item;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 대기 중인 전체 작업 (순서 무관)
+     */
+    public synchronized List<T> snapshot() {
+        List<T> items = new ArrayList<>(priorityLane);
+        for (ClassQueue<T> queue : active) {
+            for (Deque<T> userQueue : queue.users.values()) {
+                items.addAll(userQueue);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 클래스 1개의 대기열 (사용자별 하위 큐 + 라운드 로빈)
+     */
+    private static final class ClassQueue<T> {
+
+        private final String id;
+        private final Map<String, Deque<T>> users = new HashMap<>();
+        private final Deque<String> userOrder = new ArrayDeque<>();
+        private int deficit;
+        private int size;
+
+        private ClassQueue(String id) {
+            this.id = id;
+        }
+
+        private void offer(String userId, T item) {
+            Deque<T> userQueue = users.get(userId);
+            if (userQueue == null) {
+                userQueue = new ArrayDeque<>();
+                users.put(userId, userQueue);
+                userOrder.offer(userId);
+            }
+            userQueue.offer(item);
+            size++;
+        }
+
+        private T poll() {
+            String userId = userOrder.poll();
+            Deque<T> userQueue = users.get(userId);
+            T item = userQueue.poll();
+            size--;
+
+            if (userQueue.isEmpty()) {
+                users.remove(userId);
+            } else {
+                userOrder.offer(userId);
+            }
+            return item;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package finalproject.compile.infra.queue;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+import finalproject.compile.domain.compile.entity.ProjectFile;
+import finalproject.compile.domain.compile.entity.TestCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 동일 작업 실행 합치기 (single-flight)
+ * - key : 소스 + 표준 입력의 SHA-256 (일반 실행은 표준 입력이 없으므로 소스만, 채점 작업은 케이스 목록 / 케이스 타임아웃 포함,
+ *         프로젝트는 파일 경로 / 소스 전체)
+ * - 같은 key 의 작업이 실행 대기/중이면 새 작업은 큐에 넣지 않고 대기자로 등록
+ * - 먼저 들어온 작업(leader)이 끝나면 대기자 전원에게 같은 결과를 각자의 콜백으로 전달
+ * - 등록/해제는 Lua 스크립트로 원자적으로 처리 (해제 직전에 붙은 대기자 유실 방지)
+ * - leader 키는 TTL 이 지나면 자동 만료 (leader 유실 시 이후 요청은 다시 정상 실행)
+ * <p>
+ * Redis 키
+ * - compile:inflight:{hash}         : leader jobId
+ * - compile:inflight:{hash}:waiters : 대기 작업 목록
+ */
+@Slf4j
+@Component
+public class InflightCoalescer {
+
+    private static final String KEY_PREFIX = "compile:inflight:";
+    private static final String WAITERS_SUFFIX = ":waiters";
+
+    // 실행 중인 leader 가 있을 때만 대기자로 등록 (1 : 등록, 0 : leader 없음)
+    private static final DefaultRedisScript<Long> ATTACH = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RPUSH', KEYS[2], ARGV[1])
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // leader 가 없으면 leader 로 등록, 있으면 대기자로 등록 (1 : 대기자, 0 : leader)
+    private static final DefaultRedisScript<Long> ATTACH_OR_CLAIM = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[3]) then
+                return 0
+            end
+            redis.call('RPUSH', KEYS[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 본인이 leader 인 경우에만 대기자 목록을 꺼내고 키 삭제
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return {}
+            end
+            local waiters = redis.call('LRANGE', KEYS[2], 0, -1)
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return waiters
+            """, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    public InflightCoalescer(RedisTemplate<String, Object> redisTemplate,
+                             @Value("${compile.coalesce.enabled:true}") boolean enabled,
+                             @Value("${compile.coalesce.ttl-ms:60000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 실행 중인 동일 작업이 있으면 대기자로 등록
+     * - 등록되면 true (큐에 넣지 않음), 없으면 false
+     * - Redis 오류 시 합치지 않고 정상 실행
+     */
+    public boolean attach(CompileJob job) {
+        if (!enabled) return false;
+
+        String key = keyOf(job);
+        try {
+            Long attached = redisTemplate.execute(ATTACH, List.of(KEY_PREFIX + key, KEY_PREFIX + key + WAITERS_SUFFIX),
+                    job, ttlMillis);
+            if (Long.valueOf(1).equals(attached)) {
+                log.info("[Coalesce] 실행 중인 동일 작업에 합류 jobId={}, key={}", job.getJobId(), key);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("[Coalesce] 합류 실패 jobId={}, Error={}", job.getJobId(), e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 동일 작업이 있으면 대기자로 등록, 없으면 이 작업을 leader 로 등록
+     * - 대기자로 등록되면 true (큐에 넣지 않음)
+     * - leader 로 등록되면 false, job.coalesceKey 를 설정하여 완료 시 대기자에게 결과 전달
+     */
+    public boolean attachOrClaim(CompileJob job) {
+        if (!enabled) return false;
+
+        String key = keyOf(job);
+        try {
+            Long attached = redisTemplate.execute(ATTACH_OR_CLAIM,
+                    List.of(KEY_PREFIX + key, KEY_PREFIX + key + WAITERS_SUFFIX),
+                    job, job.getJobId(), ttlMillis);
+            if (Long.valueOf(1).equals(attached)) {
+                log.info("[Coalesce] 실행 중인 동일 작업에 합류 jobId={}, key={}", job.getJobId(), key);
+                return true;
+            }
+            job.setCoalesceKey(key);
+        } catch (Exception e) {
+            log.warn("[Coalesce] leader 등록 실패 jobId={}, Error={}", job.getJobId(), e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * leader 작업 완료 시 대기자 목록을 꺼내고 등록 해제
+     * - leader 가 아니거나(TTL 만료 후 다른 작업이 leader) 대기자가 없으면 빈 목록
+     */
+    public List<CompileJob> release(CompileJob leader) {
+        String key = leader.getCoalesceKey();
+        if (key == null) return List.of();
+
+        try {
+            List<?> waiters = redisTemplate.execute(RELEASE,
+                    List.of(KEY_PREFIX + key, KEY_PREFIX + key + WAITERS_SUFFIX), leader.getJobId());
+
+            List<CompileJob> jobs = new ArrayList<>();
+            if (waiters != null) {
+                for (Object waiter : waiters) {
+                    if (waiter instanceof CompileJob job) jobs.add(job);
+                }
+            }
+            return jobs;
+        } catch (Exception e) {
+            log.warn("[Coalesce] 대기자 조회 실패 jobId={}, Error={}", leader.getJobId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 실행 결과를 결정하는 입력의 해시 (소스 + 표준 입력)
+     */
+    static String keyOf(CompileJob job) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, job.getCode());
+            if (job.isProject()) {
+                for (ProjectFile file : job.getFiles()) {
+                    update(digest, file.getPath());
+                    update(digest, file.getContent());
+                }
+            }
+            if (job.isGrading()) {
+                update(digest, String.valueOf(job.getCaseTimeoutMillis()));
+                for (TestCase testCase : job.getTestCases()) {
+                    update(digest, testCase.getInput());
+                    update(digest, testCase.getExpected());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 구분자(0)와 함께 추가하여 경계가 다른 입력이 같은 해시가 되지 않도록 함
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+}
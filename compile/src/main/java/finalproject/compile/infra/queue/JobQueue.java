@@ -0,0 +1,31 @@
+package finalproject.compile.infra.queue;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+
+/**
+ * 컴파일 작업 큐
+ * - compile.queue.type=stream : Redis Streams 컨슈머 그룹 (기본값, RedisStreamJobQueue)
+ * - compile.queue.type=list   : Redis List + processing 리스트 (LocalJobQueue)
+ */
+public interface JobQueue {
+
+    /**
+     * Job Push (중복 방지 적용)
+     */
+    void push(CompileJob job);
+
+    /**
+     * Job Take (대기 후 없으면 null)
+     */
+    CompileJob take();
+
+    /**
+     * 작업 완료 확인 (ACK)
+     */
+    void ack(CompileJob job);
+
+    /**
+     * 대기 중인 Job 개수 (컨테이너 풀 확장 판단용)
+     */
+    long size();
+}
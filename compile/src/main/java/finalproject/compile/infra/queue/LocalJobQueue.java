@@ -3,15 +3,22 @@ package finalproject.compile.infra.queue;
 import finalproject.compile.domain.compile.entity.CompileJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis List 기반 작업 큐
+ * - take 시 processing 리스트로 이동, ack 시 LREM 으로 제거
+ * - compile.queue.type=list 로 활성화
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class LocalJobQueue {
+@ConditionalOnProperty(name = "compile.queue.type", havingValue = "list")
+public class LocalJobQueue implements JobQueue {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
@@ -22,6 +29,7 @@ public class LocalJobQueue {
     /**
      * Job Push (중복 방지 적용)
      */
+    @Override
     public void push(CompileJob job) {
         // 1. Redis Lock으로 중복 Push 방지 (10분간 락)
         Boolean locked = redisTemplate.opsForValue()
@@ -39,6 +47,7 @@ public class LocalJobQueue {
      * Job Take
      * - 꺼내면서 동시에 processing 큐로 이동
      */
+    @Override
     public CompileJob take() {
         try {
             // rightPopAndLeftPush: QUEUE_KEY에서 꺼내서 PROCESSING_KEY에 넣고 반환
@@ -56,10 +65,20 @@ public class LocalJobQueue {
         return null;
     }
 
+    /**
+     * 대기 중인 Job 개수 (컨테이너 풀 확장 판단용)
+     */
+    @Override
+    public long size() {
+        Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+        return size != null ? size : 0;
+    }
+
     /**
      * 작업 완료 확인 (ACK)
      * - Processing 큐에서 작업 제거
      */
+    @Override
     public void ack(CompileJob job) {
         try {
             // processing 큐에서 해당 job 제거 (count 1: 앞에서부터 1개 삭제)
@@ -0,0 +1,294 @@
+package finalproject.compile.infra.queue;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+import finalproject.compile.infra.cluster.WorkerRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Streams 컨슈머 그룹 기반 작업 큐
+ * - push : XADD compile_job_stream
+ * - take : XREADGROUP (컨슈머 이름 = 노드 ID + ":" + 큐를 읽는 스레드 이름)
+ * - ack  : XACK + XDEL (record id 로 바로 제거 → O(1), JSON 일치 여부와 무관)
+ * - 워커가 죽어 ACK 되지 않은 작업은 XPENDING 으로 찾아 XCLAIM 으로 회수 후 재실행
+ *   레지스트리에서 사라진(죽은) 노드의 작업은 idle 시간을 기다리지 않고 바로 회수, 빈 컨슈머는 그룹에서 삭제
+ * - 여러 번 회수해도 끝나지 않는 작업은 DLQ 로 이동
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compile.queue.type", havingValue = "stream", matchIfMissing = true)
+public class RedisStreamJobQueue implements JobQueue {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String STREAM_KEY = "compile_job_stream";
+    private static final String GROUP = "compile-workers";
+    private static final String LOCK_PREFIX = "job:lock:";
+    private static final String DLQ_KEY = "compile_job_dlq";
+    private static final String JOB_FIELD = "job";
+
+    // take 1회 최대 대기 시간
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(10);
+
+    // 회수 점검 주기 / 한 번에 확인할 pending 수
+    private static final long RECLAIM_INTERVAL_MILLIS = 5_000;
+    private static final int RECLAIM_BATCH = 100;
+
+    // 죽은 노드 작업 회수 시 최소 idle (여러 노드가 동시에 회수해 중복 실행되는 것 방지)
+    private static final Duration DEAD_NODE_MIN_IDLE = Duration.ofSeconds(1);
+
+    // 컨슈머 이름의 노드 ID 구분자
+    private static final char NODE_SEPARATOR = ':';
+
+    private final WorkerRegistry workerRegistry;
+
+    // 이 서버 인스턴스의 컨슈머 이름 접두사 (노드 ID)
+    private final String consumerPrefix;
+
+    // ACK 없이 이 시간이 지난 작업은 워커 장애로 보고 회수
+    private final Duration reclaimIdle;
+
+    // 최대 전달 횟수 (초과 시 DLQ)
+    private final int maxDeliveries;
+
+    // 회수한 작업 (take 에서 먼저 반환)
+    private final Queue<CompileJob> reclaimed = new ConcurrentLinkedQueue<>();
+
+    private final ScheduledExecutorService reclaimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "job-stream-reclaimer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisStreamJobQueue(RedisTemplate<String, Object> redisTemplate,
+                               WorkerRegistry workerRegistry,
+                               @Value("${compile.queue.reclaim-idle-ms:60000}") long reclaimIdleMillis,
+                               @Value("${compile.queue.max-deliveries:3}") int maxDeliveries) {
+        this.redisTemplate = redisTemplate;
+        this.reclaimIdle = Duration.ofMillis(reclaimIdleMillis);
+        this.maxDeliveries = maxDeliveries;
+        this.workerRegistry = workerRegistry;
+        this.consumerPrefix = workerRegistry.getNodeId();
+    }
+
+    /**
+     * 컨슈머 그룹 생성 (스트림이 없으면 함께 생성) 후 회수 작업 시작
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            redisTemplate.execute(connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(), GROUP, ReadOffset.from("0"), true), true);
+        } catch (RedisSystemException e) {
+            // BUSYGROUP : 이미 생성된 그룹
+            log.debug("Consumer group already exists. group={}", GROUP);
+        }
+
+        reclaimer.scheduleWithFixedDelay(this::reclaim, RECLAIM_INTERVAL_MILLIS, RECLAIM_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void push(CompileJob job) {
+        // 1. Redis Lock으로 중복 Push 방지 (10분간 락)
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_PREFIX + job.getJobId(), "1", 10, TimeUnit.MINUTES);
+
+        if (Boolean.FALSE.equals(locked)) {
+            log.warn("이미 큐에 등록된 작업입니다. jobId={}", job.getJobId());
+            return;
+        }
+        // 2. 스트림에 추가
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of(JOB_FIELD, job)));
+    }
+
+    @Override
+    public CompileJob take() {
+        CompileJob recovered = reclaimed.poll();
+        if (recovered != null) return recovered;
+
+        try {
+            // StreamOperations.read 는 제네릭 가변 인자(StreamOffset<K>...)만 제공 → 오프셋 1개 배열 생성 경고 무시
+            @SuppressWarnings("unchecked")
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, consumerName()),
+                    StreamReadOptions.empty().count(1).block(BLOCK_TIMEOUT),
+                    StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+            if (records == null || records.isEmpty()) return null;
+            return toJob(records.get(0));
+
+        } catch (Exception e) {
+            log.error("Redis Stream Read Error", e);
+            try { Thread.sleep(1000); } catch (InterruptedException ig) { Thread.currentThread().interrupt(); }
+        }
+        return null;
+    }
+
+    @Override
+    public void ack(CompileJob job) {
+        try {
+            String recordId = job.getQueueRecordId();
+            if (recordId != null) {
+                redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordId);
+                redisTemplate.opsForStream().delete(STREAM_KEY, recordId);
+            }
+            redisTemplate.delete(LOCK_PREFIX + job.getJobId());
+        } catch (Exception e) {
+            log.error("ACK failed for jobId={}", job.getJobId(), e);
+        }
+    }
+
+    /**
+     * 아직 어떤 워커에게도 전달되지 않은 작업 수 (ACK 시 XDEL 하므로 XLEN - pending)
+     */
+    @Override
+    public long size() {
+        Long length = redisTemplate.opsForStream().size(STREAM_KEY);
+        if (length == null || length == 0) return 0;
+
+        PendingMessagesSummary pending = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP);
+        long inFlight = pending != null ? pending.getTotalPendingMessages() : 0;
+        return Math.max(0, length - inFlight);
+    }
+
+    /**
+     * 로컬에서 실행을 기다리는 작업의 idle 시간 초기화 (XCLAIM JUSTID 로 같은 컨슈머에게 재할당)
+     * - 공정 스케줄러에 오래 머무는 작업이 장애 작업으로 오인되어 회수되지 않도록 함
+     * - JUSTID 는 전달 횟수를 늘리지 않음
+     *
+     * @param threadName 작업을 읽어온 스레드 이름 (컨슈머 이름)
+     */
+    public void extendLease(String threadName, List<String> recordIds) {
+        if (recordIds.isEmpty()) return;
+
+        String owner = consumerPrefix + NODE_SEPARATOR + threadName;
+        XClaimOptions options = XClaimOptions.minIdle(Duration.ZERO).ids(recordIds.toArray(String[]::new));
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.streamCommands()
+                .xClaimJustId(STREAM_KEY.getBytes(), GROUP, owner, options));
+    }
+
+    /**
+     * ACK 없이 reclaimIdle 이상 지난 작업 / 죽은 노드의 작업을 이 인스턴스로 회수
+     * - 전달 횟수가 maxDeliveries 를 넘으면 재실행하지 않고 DLQ 로 이동
+     */
+    private void reclaim() {
+        try {
+            PendingMessages pending = redisTemplate.opsForStream()
+                    .pending(STREAM_KEY, GROUP, Range.unbounded(), RECLAIM_BATCH);
+            if (pending == null || pending.isEmpty()) {
+                removeDeadConsumers();
+                return;
+            }
+
+            String owner = consumerPrefix + NODE_SEPARATOR + "reclaimer";
+            for (PendingMessage message : pending) {
+                Duration minIdle = isDeadConsumer(message.getConsumerName()) ? DEAD_NODE_MIN_IDLE : reclaimIdle;
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) continue;
+
+                List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                        STREAM_KEY, GROUP, owner,
+                        XClaimOptions.minIdle(minIdle).ids(message.getId()));
+                if (claimed == null || claimed.isEmpty()) continue;
+
+                CompileJob job = toJob(claimed.get(0));
+                if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                    log.error("[Queue] 최대 전달 횟수 초과 → DLQ 이동. jobId={}", job.getJobId());
+                    moveToDlq(job, "Max deliveries exceeded: " + message.getTotalDeliveryCount());
+                    ack(job);
+                    continue;
+                }
+
+                log.warn("[Queue] 미완료 작업 회수 jobId={}, from={}, deliveries={}",
+                        job.getJobId(), message.getConsumerName(), message.getTotalDeliveryCount());
+                reclaimed.offer(job);
+            }
+            removeDeadConsumers();
+        } catch (Exception e) {
+            log.warn("Pending job reclaim failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 죽은 노드의 컨슈머 중 pending 이 없는 컨슈머를 그룹에서 삭제 (재시작마다 쌓이지 않도록)
+     */
+    private void removeDeadConsumers() {
+        XInfoConsumers consumers = redisTemplate.opsForStream().consumers(STREAM_KEY, GROUP);
+        if (consumers == null) return;
+
+        for (int i = 0; i < consumers.size(); i++) {
+            XInfoConsumer consumer = consumers.get(i);
+            if (consumer.pendingCount() == 0 && isDeadConsumer(consumer.consumerName())) {
+                redisTemplate.opsForStream().deleteConsumer(STREAM_KEY, Consumer.from(GROUP, consumer.consumerName()));
+                log.info("[Queue] 죽은 노드의 컨슈머 삭제 consumer={}", consumer.consumerName());
+            }
+        }
+    }
+
+    /**
+     * 컨슈머 이름(노드 ID + ":" + 스레드 이름)의 노드가 레지스트리에 없으면 죽은 컨슈머
+     * - 노드 ID 가 없는 이전 형식의 컨슈머는 판단하지 않음 (idle 시간 기준으로만 회수)
+     */
+    private boolean isDeadConsumer(String consumerName) {
+        int split = consumerName.indexOf(NODE_SEPARATOR);
+        return split > 0 && !workerRegistry.isAlive(consumerName.substring(0, split));
+    }
+
+    private CompileJob toJob(MapRecord<String, Object, Object> record) {
+        CompileJob job = (CompileJob) record.getValue().get(JOB_FIELD);
+        job.setQueueRecordId(record.getId().getValue());
+        return job;
+    }
+
+    private void moveToDlq(CompileJob job, String reason) {
+        Map<String, Object> dlqPayload = new HashMap<>();
+        dlqPayload.put("jobId", job.getJobId());
+        dlqPayload.put("error", reason);
+        dlqPayload.put("failTime", LocalDateTime.now().toString());
+        redisTemplate.opsForList().rightPush(DLQ_KEY, dlqPayload);
+    }
+
+    /**
+     * 컨슈머 이름 = 노드 ID + ":" + 큐를 읽는 스레드 이름
+     */
+    private String consumerName() {
+        return consumerPrefix + NODE_SEPARATOR + Thread.currentThread().getName();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reclaimer.shutdownNow();
+    }
+}
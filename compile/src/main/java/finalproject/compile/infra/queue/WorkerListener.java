@@ -1,10 +1,13 @@
 package finalproject.compile.infra.queue;
 
+import finalproject.compile.application.compile.service.AdmissionService;
 import finalproject.compile.application.compile.worker.CompileWorkerService;
 import finalproject.compile.domain.compile.entity.CompileJob;
 import finalproject.compile.domain.compile.entity.CompileJobStatus;
 import finalproject.compile.domain.compile.repo.CompileJobRepository;
+import finalproject.compile.infra.cluster.WorkerRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -13,6 +16,11 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 워커 리스너 클래스.
@@ -20,81 +28,158 @@ import java.util.Map;
  * 컴파일 작업(Job)이 들어오면
  * 이를 꺼내어 실제 처리를 담당하는 서비스(CompileWorkerService)로 전달
  * </p>
+ * - 폴러 스레드 1개가 실행 슬롯(세마포어, 컨테이너 풀 최대 크기)이 남아 있을 때만 큐에서 작업을 꺼냄
+ * - 실행기가 준비(컨테이너 풀 ready-min)되기 전에는 큐를 읽지 않음 → 다른 노드가 먼저 처리
+ * - 꺼낸 작업은 작업 실행 스레드로 넘기고 바로 다음 작업을 기다림
+ * - 결과 저장/콜백은 비동기로 진행되므로 실행이 끝나면 슬롯을 즉시 반환하고, 전달이 끝난 뒤 ACK
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WorkerListener {
 
-    private final LocalJobQueue localJobQueue;
+    private final JobQueue jobQueue;
     private final CompileWorkerService workerService;
     private final CompileJobRepository jobRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AdmissionService admissionService;
+    private final WorkerRegistry workerRegistry;
 
     /**
      * 시스템 장애로 인해 처리에 실패한 작업을 보관하는 Redis 키(Dead Letter Queue).
      */
     private static final String DLQ_KEY = "compile_job_dlq";
 
+    // 실행기 준비 여부 확인 주기
+    private static final long READY_POLL_MILLIS = 100;
+
+    // 작업 실행 스레드 (동시 실행 수는 slots 로 제한)
+    private final AtomicInteger jobSequence = new AtomicInteger();
+    private final ExecutorService jobExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "compile-job-" + jobSequence.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 실행 슬롯 (컨테이너 풀 최대 크기)
+    private Semaphore slots;
+
+    private Thread poller;
+    private volatile boolean running = true;
+
     /**
      * 서버가 시작될 때 자동으로 실행되는 메서드입니다.
-     * 설정된 워커 개수만큼 스레드를 생성하여 작업을 병렬로 처리할 준비
+     * 실행 슬롯을 준비하고 큐 폴러 스레드를 시작
      */
     @PostConstruct
     public void start() {
-        // 서비스에서 설정된 워커(스레드) 개수를 가져옵니다.
+        // 서비스에서 설정된 실행 슬롯 개수를 가져옵니다.
         int workerCount = workerService.getWorkerCount();
-        log.info("[Worker] Worker Listener started. Thread count: {}", workerCount);
+        slots = new Semaphore(workerCount);
 
-        for (int i = 0; i < workerCount; i++) {
-            final int workerId = i;
+        // 실행 슬롯 수 / 남은 슬롯 수를 하트비트로 다른 노드에 알림
+        workerRegistry.bindSlots(workerCount, slots::availablePermits);
+        log.info("[Worker] Worker Listener started. Slot count: {}", workerCount);
 
-            Thread workerThread = new Thread(() -> processQueue(workerId));
+        poller = new Thread(this::pollQueue);
+        poller.setName("compile-poller");
+        poller.setDaemon(false);
+        poller.start();
+    }
 
-            workerThread.setName("compile-worker-" + i);
+    /**
+     * 폴러 스레드 무한 루프
+     * 슬롯을 확보한 뒤 작업을 꺼내 실행 스레드로 전달
+     */
+    private void pollQueue() {
+        if (!awaitExecutorReady()) return;
 
-            workerThread.setDaemon(false);
+        while (running) {
+            try {
+                slots.acquire();
 
-            workerThread.start();
+                CompileJob job = jobQueue.take();
+                if (job == null || !running) {
+                    // 종료 중에 꺼낸 작업은 ACK 하지 않음 (stream 큐는 다른 워커가 회수 후 재처리)
+                    slots.release();
+                    continue;
+                }
+
+                jobExecutor.execute(() -> process(job));
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[Worker] Poller interrupted. Stopping.");
+                return;
+            } catch (Exception e) {
+                slots.release();
+                log.error("[Worker] Poller error", e);
+            }
         }
     }
 
     /**
-     * 각 워커 스레드가 실행하는 무한 루프 메서드
-     * 큐에서 작업을 꺼내고, 실행하고, 결과를 처리하는 전체 흐름을 담당
+     * 실행기 준비 완료까지 대기
      *
+     * @return 종료 요청 / 인터럽트로 중단되면 false
      */
-    private void processQueue(int workerId) {
-        while (true) {
-            CompileJob job = null;
+    private boolean awaitExecutorReady() {
+        long start = System.currentTimeMillis();
+        while (running && !workerService.isReady()) {
             try {
-                job = localJobQueue.take();
+                Thread.sleep(READY_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (running) {
+            log.info("[Worker] Executor ready after {}ms. Start polling queue.", System.currentTimeMillis() - start);
+        }
+        return running;
+    }
 
-                if (job == null) continue;
+    /**
+     * 작업 1건 처리 (작업 실행 스레드)
+     * 실행이 끝나면 슬롯 반환, 결과 전달이 끝나면 ACK
+     */
+    private void process(CompileJob job) {
+        CompletableFuture<Void> delivery;
+        try {
+            log.info("[Worker] Job received: {}", job.getJobId());
 
-                log.info("[Worker-{}] Job received: {}", workerId, job.getJobId());
+            //  작업 상태를 RUNNING 으로 변경 저장소에 업데이트
+            job.setStatus(CompileJobStatus.RUNNING);
+            job.setStartedAt(System.currentTimeMillis());
+            jobRepository.save(job);
 
-                //  작업 상태를 RUNNING 으로 변경 저장소에 업데이트
-                job.setStatus(CompileJobStatus.RUNNING);
-                jobRepository.save(job);
+            // 실제 컴파일 및 실행 로직을 호출
+            // 실행 컨테이너는 컨테이너 풀에서 할당
+            delivery = workerService.execute(job);
 
-                // 실제 컴파일 및 실행 로직을 호출
-                // workerId를 함께 넘겨주어, 해당 워커 전용 컨테이너를 사용
-                workerService.execute(job, workerId);
+        } catch (Exception e) {
+            //  예외 발생 처리
+            // 내부 재시도 로직까지 실패했을 때
+            handleSystemFailure(job, e);
+            delivery = CompletableFuture.completedFuture(null);
 
-            } catch (Exception e) {
-                //  예외 발생 처리
-                // 내부 재시도 로직까지 실패했을 때
-                handleSystemFailure(job, e);
-
-            } finally {
-                //  작업이 성공했든 실패해서 DLQ로 갔든,
-                // 현재 처리 중인 큐 작업 확실히 제거
-                if (job != null) {
-                    localJobQueue.ack(job);
-                }
+        } finally {
+            slots.release();
+
+            // 실행 슬롯 점유 시간을 수락 제어의 처리 시간 추정에 반영 (채점 작업 제외)
+            if (!job.isGrading() && job.getStartedAt() > 0) {
+                admissionService.recordServiceTime(System.currentTimeMillis() - job.getStartedAt());
             }
         }
+
+        //  작업이 성공했든 실패해서 DLQ로 갔든,
+        // 결과 전달이 끝나면 현재 처리 중인 큐 작업 확실히 제거
+        delivery.whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                handleSystemFailure(job, ex instanceof Exception e ? e : new RuntimeException(ex));
+            }
+            jobQueue.ack(job);
+        });
     }
 
     /**
@@ -114,6 +199,13 @@ public class WorkerListener {
         job.setOutput("System Error: " + e.getMessage());
         jobRepository.save(job);
 
+        //  합류한 대기 작업에도 실패 결과 전달
+        try {
+            workerService.completeWaiters(job);
+        } catch (Exception waiterEx) {
+            log.error("Failed to complete waiters. JobID={}", job.getJobId(), waiterEx);
+        }
+
         //  DLQ 저장
         try {
             Map<String, Object> dlqPayload = new HashMap<>();
@@ -127,4 +219,16 @@ public class WorkerListener {
             log.error("Failed to save to DLQ.", redisEx);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 폴러 중지 (새 작업을 더 꺼내지 않음) 후 실행 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        jobExecutor.shutdown();
+    }
+}
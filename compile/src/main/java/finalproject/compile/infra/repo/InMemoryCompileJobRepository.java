@@ -63,4 +63,13 @@ public class InMemoryCompileJobRepository implements CompileJobRepository {
             job.complete(success, output);
         }
     }
+
+    /**
+     * 완료된 Job 저장
+     * 1) 워커가 결과를 반영한 Job 으로 덮어씀
+     */
+    @Override
+    public void saveCompleted(CompileJob job) {
+        store.put(job.getJobId(), job);
+    }
 }
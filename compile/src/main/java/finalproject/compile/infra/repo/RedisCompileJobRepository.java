@@ -48,14 +48,18 @@ public class RedisCompileJobRepository implements CompileJobRepository {
 
         if (job != null) {
             job.complete(success, output);
-
-            // 완료 시점에 TTL을 1시간으로 재설정 (결과 조회용 시간 확보)
-            redisTemplate.opsForValue().set(
-                    KEY_PREFIX + job.getJobId(),
-                    job,
-                    COMPLETED_TTL_HOURS,
-                    TimeUnit.HOURS
-            );
+            saveCompleted(job);
         }
     }
+
+    @Override
+    public void saveCompleted(CompileJob job) {
+        // 완료 시점에 TTL을 1시간으로 재설정 (결과 조회용 시간 확보)
+        redisTemplate.opsForValue().set(
+                KEY_PREFIX + job.getJobId(),
+                job,
+                COMPLETED_TTL_HOURS,
+                TimeUnit.HOURS
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,384 @@
+package finalproject.compile.infra.sandbox;
+
+import finalproject.compile.infra.cluster.WorkerRegistry;
+import finalproject.compile.infra.docker.ContainerSpec;
+import finalproject.compile.infra.docker.DockerClient;
+import finalproject.compile.infra.file.FileUtil;
+import finalproject.compile.infra.queue.JobQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 컨테이너 풀
+ * - min ~ max 범위에서 컨테이너 수를 유지하고, 항상 spare 개의 유휴 컨테이너를 미리 준비
+ * - 컨테이너 생성(docker run + 러너 기동)/폐기(docker rm)는 모두 백그라운드 스레드에서 병렬 수행
+ * - 시작 시 min 개를 기다리지 않고 병렬 생성을 시작, ready-min 개가 준비되면 준비 완료(isReady)
+ *   → 워커는 준비 완료 후 큐를 읽기 시작하고 나머지는 백그라운드에서 채움
+ * - 작업 스레드는 acquire() 로 준비된 컨테이너만 받으므로 docker run 을 기다리지 않음
+ * - 대기 중인 작업(Redis 큐 길이 / 노드 수 + acquire 대기 수)에 따라 max 까지 확장, 유휴 시 min 까지 축소
+ * - 컨테이너 이름은 compile-executor-{nodeId}-{번호} → 같은 Docker 호스트의 다른 노드 컨테이너는 건드리지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compile.executor", havingValue = "sandbox", matchIfMissing = true)
+public class ContainerPool {
+
+    private final FileUtil fileUtil;
+    private final DockerClient dockerClient;
+    private final SandboxRunnerClient runnerClient;
+    private final JobQueue jobQueue;
+    private final WorkerRegistry workerRegistry;
+
+    // 생성할 컨테이너 이름 접두사 (+ nodeId + "-" + 번호)
+    private static final String CONTAINER_PREFIX = "compile-executor-";
+
+    // 사용할 Docker 이미지 (Java 17)
+    private static final String DOCKER_IMAGE = "eclipse-temurin:17-jdk";
+
+    // 컨테이너 리소스 제한 (메모리 512m, CPU 0.8, 프로세스 100개)
+    private static final long CONTAINER_MEMORY_BYTES = 512L * 1024 * 1024;
+    private static final double CONTAINER_CPUS = 0.8;
+    private static final int CONTAINER_PIDS_LIMIT = 100;
+
+    // 유휴 컨테이너를 축소 대상으로 보는 시간
+    private static final long IDLE_SHRINK_MILLIS = 60_000;
+
+    // 풀 크기 점검 주기
+    private static final long SCALE_INTERVAL_MILLIS = 1000;
+
+    private final int minSize;
+    private final int maxSize;
+    private final int spareSize;
+    private final int maxContainerUsage;
+    private final long acquireTimeoutMillis;
+    private final int readyMin;
+
+    // 바로 사용 가능한 컨테이너
+    private final BlockingDeque<ExecutorContainer> idle = new LinkedBlockingDeque<>();
+
+    // 작업에 할당된 컨테이너
+    private final Set<ExecutorContainer> inUse = ConcurrentHashMap.newKeySet();
+
+    // 생성 중 + 유휴 + 사용 중 컨테이너 수 (max 초과 생성 방지)
+    private final AtomicInteger total = new AtomicInteger();
+
+    // acquire() 에서 컨테이너를 기다리는 작업 수
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    // 컨테이너 이름 일련번호
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    // 생성에 성공한 컨테이너 수 (준비 완료 판단용) / 준비 완료 여부 / 시작 시각
+    private final AtomicInteger provisioned = new AtomicInteger();
+    private volatile boolean ready;
+    private volatile long startedAt;
+
+    // 이 노드 컨테이너 이름 접두사
+    private final String nodePrefix;
+
+    // 마지막으로 관측한 Redis 큐 길이 중 이 노드 몫 (전체 길이 / 노드 수)
+    private volatile long queueDepth;
+
+    private final ExecutorService provisioner;
+    private final ScheduledExecutorService scaler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "container-pool-scaler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContainerPool(FileUtil fileUtil,
+                         DockerClient dockerClient,
+                         SandboxRunnerClient runnerClient,
+                         JobQueue jobQueue,
+                         WorkerRegistry workerRegistry,
+                         @Value("${compile.pool.min-size:${compile.worker.count:2}}") int minSize,
+                         @Value("${compile.pool.max-size:4}") int maxSize,
+                         @Value("${compile.pool.spare:1}") int spareSize,
+                         @Value("${compile.container.max-usage:100}") int maxContainerUsage,
+                         @Value("${compile.pool.acquire-timeout-ms:30000}") long acquireTimeoutMillis,
+                         @Value("${compile.pool.ready-min:1}") int readyMin,
+                         @Value("${compile.pool.init-parallelism:4}") int initParallelism) {
+        this.fileUtil = fileUtil;
+        this.dockerClient = dockerClient;
+        this.runnerClient = runnerClient;
+        this.jobQueue = jobQueue;
+        this.workerRegistry = workerRegistry;
+        this.nodePrefix = CONTAINER_PREFIX + workerRegistry.getNodeId() + "-";
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.spareSize = spareSize;
+        this.maxContainerUsage = maxContainerUsage;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.readyMin = Math.max(0, Math.min(readyMin, minSize));
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.provisioner = Executors.newFixedThreadPool(Math.max(2, initParallelism), r -> {
+            Thread thread = new Thread(r, "container-provisioner-" + threadSeq.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 서버 시작 시 이전 실행 / 죽은 노드가 남긴 컨테이너 정리와 최소 개수 생성을 백그라운드에서 병렬로 시작
+     * - 생성 완료를 기다리지 않으므로 애플리케이션 기동은 컨테이너 수와 무관
+     * - 생성에 실패한 만큼은 scale() 이 min 까지 다시 채움
+     */
+    @PostConstruct
+    public void init() {
+        log.info("Initializing Container Pool. Min: {}, Max: {}, Spare: {}, MaxUsage: {}, ReadyMin: {}",
+                minSize, maxSize, spareSize, maxContainerUsage, readyMin);
+        startedAt = System.currentTimeMillis();
+        ready = readyMin == 0;
+
+        // 러너 소스는 병렬 생성 전에 1회만 설치 (생성 중인 러너 / CDS 빌드가 기록 중인 파일을 읽지 않도록)
+        runnerClient.installRunnerSource();
+
+        // 정리가 끝난 뒤 생성 시작 (노드 ID 를 고정한 경우 같은 이름의 새 컨테이너가 지워지지 않도록)
+        total.addAndGet(minSize);
+        provisioner.submit(() -> {
+            try {
+                removeStaleContainers(false);
+            } catch (Exception e) {
+                log.warn("Stale container cleanup failed: {}", e.getMessage());
+            }
+            for (int i = 0; i < minSize; i++) {
+                provisioner.submit(this::provision);
+            }
+        });
+
+        scaler.scheduleWithFixedDelay(this::scale, SCALE_INTERVAL_MILLIS, SCALE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 준비된 컨테이너 1개 할당 (없으면 백그라운드 생성을 요청하고 대기)
+     */
+    public ExecutorContainer acquire() throws InterruptedException {
+        ExecutorContainer container = idle.poll();
+
+        if (container == null) {
+            waiting.incrementAndGet();
+            try {
+                replenish();
+                container = idle.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        if (container == null) {
+            throw new IllegalStateException("No executor container available within " + acquireTimeoutMillis + "ms");
+        }
+
+        inUse.add(container);
+
+        // 꺼낸 만큼 spare 보충
+        replenish();
+        return container;
+    }
+
+    /**
+     * 작업이 끝난 컨테이너 반납
+     *
+     * @param healthy false 면 러너/컨테이너 이상 → 재사용하지 않고 폐기
+     */
+    public void release(ExecutorContainer container, boolean healthy) {
+        inUse.remove(container);
+        container.markUsed();
+
+        if (!healthy || container.getUsageCount() >= maxContainerUsage) {
+            log.info("Container [{}] retired. usage={}, healthy={}", container.getName(), container.getUsageCount(), healthy);
+            retire(container);
+            replenish();
+            return;
+        }
+        idle.offer(container);
+    }
+
+    /**
+     * 목표 크기 = 사용 중 + 대기 작업 + spare (min ~ max 범위)
+     * 부족한 만큼 백그라운드에서 생성
+     */
+    private void replenish() {
+        long demand = inUse.size() + waiting.get() + queueDepth + spareSize;
+        int target = (int) Math.max(minSize, Math.min(maxSize, demand));
+
+        while (true) {
+            int current = total.get();
+            if (current >= target) return;
+            if (total.compareAndSet(current, current + 1)) {
+                provisioner.submit(this::provision);
+            }
+        }
+    }
+
+    /**
+     * 주기적으로 큐 길이를 반영하여 확장하고, 오래 유휴 상태인 초과분 컨테이너는 축소
+     */
+    private void scale() {
+        try {
+            // 큐는 모든 노드가 함께 소비하므로 노드 수로 나눈 만큼만 확장
+            int nodes = workerRegistry.getLiveNodeCount();
+            queueDepth = (jobQueue.size() + nodes - 1) / nodes;
+            replenish();
+
+            long now = System.currentTimeMillis();
+            Iterator<ExecutorContainer> iterator = idle.descendingIterator();
+            while (iterator.hasNext() && idle.size() > spareSize && total.get() > minSize) {
+                ExecutorContainer container = iterator.next();
+                if (now - container.getIdleSince() > IDLE_SHRINK_MILLIS && idle.remove(container)) {
+                    log.info("Container [{}] idle for too long. Shrinking pool.", container.getName());
+                    retire(container);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Container pool scaling failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 컨테이너 1개 생성 후 유휴 목록에 추가 (provisioner 스레드)
+     */
+    private void provision() {
+        try {
+            idle.offer(createContainer());
+
+            if (!ready && provisioned.incrementAndGet() >= readyMin) {
+                ready = true;
+                log.info("Container pool ready. {} container(s) warm in {}ms",
+                        readyMin, System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            total.decrementAndGet();
+            log.error("Container provisioning failed", e);
+        }
+    }
+
+    /**
+     * 컨테이너 폐기 (provisioner 스레드에서 docker rm)
+     */
+    private void retire(ExecutorContainer container) {
+        total.decrementAndGet();
+        provisioner.submit(() -> removeContainer(container.getName()));
+    }
+
+    /**
+     * docker rm 후 컨테이너 소켓 디렉토리 삭제
+     */
+    private void removeContainer(String containerName) {
+        dockerClient.removeContainer(containerName);
+        try {
+            fileUtil.deleteSocketDir(containerName);
+        } catch (Exception e) {
+            log.warn("Socket dir cleanup failed for [{}]: {}", containerName, e.getMessage());
+        }
+    }
+
+    /**
+     * 보안 및 리소스 제한 옵션을 적용하여 컨테이너 실행 후 러너 기동
+     */
+    private ExecutorContainer createContainer() {
+        String containerName = nodePrefix + sequence.getAndIncrement();
+
+        // 같은 이름의 기존 컨테이너 제거 후 이 컨테이너 전용 소켓 디렉토리 생성
+        removeContainer(containerName);
+        fileUtil.createSocketDir(containerName);
+
+        // 보안 및 리소스 제한 옵션을 적용하여 컨테이너 실행
+        // (러너 파일은 읽기 전용, 기록 가능한 마운트는 이 컨테이너의 소켓 디렉토리뿐)
+        dockerClient.runContainer(new ContainerSpec(
+                containerName,
+                DOCKER_IMAGE,
+                List.of(
+                        new ContainerSpec.Mount(fileUtil.getRunnerPath(), FileUtil.CONTAINER_RUNNER_PATH, true),
+                        new ContainerSpec.Mount(fileUtil.getSocketPath(containerName), FileUtil.CONTAINER_SOCKET_PATH, false)
+                ),
+                CONTAINER_MEMORY_BYTES,
+                CONTAINER_CPUS,
+                CONTAINER_PIDS_LIMIT
+        ));
+
+        // 컨테이너 내부 Warm 러너 기동 (이후 작업은 러너 소켓으로 처리)
+        runnerClient.start(containerName);
+
+        log.info("Container [{}] created successfully.", containerName);
+        return new ExecutorContainer(containerName);
+    }
+
+    /**
+     * 남은 실행 컨테이너 제거
+     *
+     * @param ownOnly true 면 이 노드 컨테이너만, false 면 이 노드 + 레지스트리에 없는(죽은) 노드 컨테이너
+     */
+    private void removeStaleContainers(boolean ownOnly) {
+        // 노드 ID 는 접두사 비교가 아닌 동일 비교 (node 와 node-2 구분)
+        String nodeId = workerRegistry.getNodeId();
+        List<String> stale = dockerClient.findContainers(CONTAINER_PREFIX).stream()
+                .filter(name -> {
+                    String owner = ownerOf(name);
+                    return owner.equals(nodeId) || (!ownOnly && !workerRegistry.isAlive(owner));
+                })
+                .toList();
+
+        // 컨테이너마다 docker rm 이 독립적이므로 병렬 제거
+        stale.parallelStream().forEach(this::removeContainer);
+    }
+
+    /**
+     * 컨테이너 이름에서 노드 ID 추출 (compile-executor-{nodeId}-{번호})
+     * - 노드 ID 가 없는 이전 형식(compile-executor-{번호})은 빈 문자열 → 죽은 노드로 취급
+     */
+    static String ownerOf(String containerName) {
+        if (!containerName.startsWith(CONTAINER_PREFIX)) return "";
+        String rest = containerName.substring(CONTAINER_PREFIX.length());
+        int split = rest.lastIndexOf('-');
+        return split > 0 ? rest.substring(0, split) : "";
+    }
+
+    /**
+     * 서버 종료 시 컨테이너 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        scaler.shutdownNow();
+        provisioner.shutdownNow();
+        removeStaleContainers(true);
+        log.info("All containers cleaned up.");
+    }
+
+    /**
+     * 준비 완료 여부 (ready-min 개 이상 생성 완료, 한 번 준비되면 유지)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 준비된 컨테이너 수 (유휴 + 사용 중)
+     */
+    public int getWarmCount() {
+        return idle.size() + inUse.size();
+    }
+
+    /**
+     * 풀 최대 크기 (워커 스레드 수 산정용)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
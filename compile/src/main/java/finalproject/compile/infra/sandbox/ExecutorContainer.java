@@ -0,0 +1,28 @@
+package finalproject.compile.infra.sandbox;
+
+import lombok.Getter;
+
+/**
+ * 풀에서 관리하는 실행 컨테이너 1개
+ * - name       : docker 컨테이너 이름 (러너 소켓 이름과 동일)
+ * - usageCount : 지금까지 처리한 작업 수 (최대 사용 횟수 도달 시 재생성)
+ * - idleSince  : 마지막으로 반납된 시각 (유휴 컨테이너 축소 판단용)
+ */
+@Getter
+public class ExecutorContainer {
+
+    private final String name;
+    private volatile int usageCount;
+    private volatile long idleSince;
+
+    public ExecutorContainer(String name) {
+        this.name = name;
+        this.idleSince = System.currentTimeMillis();
+    }
+
+    /** 작업 1건 사용 처리 */
+    void markUsed() {
+        usageCount++;
+        idleSince = System.currentTimeMillis();
+    }
+}
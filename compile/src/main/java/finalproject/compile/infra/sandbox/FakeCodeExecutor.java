@@ -0,0 +1,128 @@
+package finalproject.compile.infra.sandbox;
+
+import finalproject.compile.application.compile.worker.BatchResult;
+import finalproject.compile.application.compile.worker.CaseResult;
+import finalproject.compile.application.compile.worker.CodeExecutor;
+import finalproject.compile.application.compile.worker.OutputListener;
+import finalproject.compile.application.compile.worker.RunResult;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import finalproject.compile.infra.compiler.CompilationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 가짜 실행기 (Docker / javac 없이 동작)
+ * - 컴파일/실행 시간 : 설정한 평균값의 50% ~ 150% 범위에서 균등 분포로 대기
+ * - 실행 출력 : 설정한 크기의 출력을 50ms 간격 조각으로 나누어 listener 에 전달 (실제 러너와 같은 주기)
+ * - 자원 사용량 : 실행 시간 = CPU 시간, 메모리는 고정값(FAKE_MEMORY_BYTES)으로 보고
+ * - 채점 실행 : 케이스마다 실행 시간만큼 대기 후 입력을 그대로 출력 (기대 출력 = 입력이면 PASS)
+ * - 동시 실행 수 : compile.fake.concurrency (컨테이너 풀 최대 크기 역할)
+ * - compile.executor=fake 로 활성화 (ContainerPool 은 생성되지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "compile.executor", havingValue = "fake")
+public class FakeCodeExecutor implements CodeExecutor {
+
+    // 실제 러너의 출력 전송 주기
+    private static final long FLUSH_INTERVAL_MILLIS = 50;
+
+    private static final String FAKE_CLASS = "Main";
+
+    // 보고할 실행 메모리 사용량 (러너 JVM 기본 사용량 수준)
+    private static final long FAKE_MEMORY_BYTES = 64L * 1024 * 1024;
+
+    private final long compileMillis;
+    private final long runMillis;
+    private final int outputBytes;
+    private final int concurrency;
+
+    public FakeCodeExecutor(@Value("${compile.fake.compile-ms:300}") long compileMillis,
+                            @Value("${compile.fake.run-ms:200}") long runMillis,
+                            @Value("${compile.fake.output-bytes:1024}") int outputBytes,
+                            @Value("${compile.fake.concurrency:4}") int concurrency) {
+        this.compileMillis = compileMillis;
+        this.runMillis = runMillis;
+        this.outputBytes = outputBytes;
+        this.concurrency = concurrency;
+        log.warn("[FakeExecutor] 가짜 실행기 사용 중 (compile={}ms, run={}ms, output={}B, concurrency={})",
+                compileMillis, runMillis, outputBytes, concurrency);
+    }
+
+    @Override
+    public CompilationResult compile(String fileName, String code) {
+        sleepAround(compileMillis);
+        return new CompilationResult(true, Map.of(FAKE_CLASS, new byte[0]), List.of(), "");
+    }
+
+    @Override
+    public CompilationResult compileProject(String sessionId, Map<String, String> sources) {
+        return compile(FAKE_CLASS + ".java", "");
+    }
+
+    @Override
+    public RunResult run(String className, Map<String, byte[]> classes, long timeoutMillis,
+                                                OutputListener listener) {
+        String output = "x".repeat(Math.max(0, outputBytes - 1)) + (outputBytes > 0 ? "\n" : "");
+        long duration = Math.min(jitter(runMillis), timeoutMillis);
+
+        // 실행 시간 동안 출력 조각 전송
+        int chunks = (int) Math.max(1, duration / FLUSH_INTERVAL_MILLIS);
+        int chunkSize = (output.length() + chunks - 1) / Math.max(1, chunks);
+        for (int i = 0; i < chunks; i++) {
+            sleep(duration / chunks);
+            int from = Math.min(output.length(), i * chunkSize);
+            int to = Math.min(output.length(), from + chunkSize);
+            if (from < to) listener.onOutput(output.substring(from, to));
+        }
+        return new RunResult(0, output, true, usage(duration));
+    }
+
+    @Override
+    public BatchResult runCases(String className, Map<String, byte[]> classes,
+                                                    List<String> inputs, long caseTimeoutMillis) {
+        List<CaseResult> results = new ArrayList<>(inputs.size());
+        long total = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            long duration = Math.min(jitter(runMillis), caseTimeoutMillis);
+            sleep(duration);
+            total += duration;
+            results.add(new CaseResult(i, 0, duration, inputs.get(i)));
+        }
+        return new BatchResult(results, usage(total));
+    }
+
+    private static ResourceUsage usage(long millis) {
+        return new ResourceUsage(millis, millis, FAKE_MEMORY_BYTES, false);
+    }
+
+    @Override
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    private static void sleepAround(long meanMillis) {
+        sleep(jitter(meanMillis));
+    }
+
+    private static long jitter(long meanMillis) {
+        if (meanMillis <= 0) return 0;
+        return ThreadLocalRandom.current().nextLong(meanMillis / 2, meanMillis * 3 / 2 + 1);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
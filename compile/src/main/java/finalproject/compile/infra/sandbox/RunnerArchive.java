@@ -0,0 +1,232 @@
+package finalproject.compile.infra.sandbox;
+
+import finalproject.compile.global.util.CmdUtils;
+import finalproject.compile.infra.docker.DockerClient;
+import finalproject.compile.infra.file.FileUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 러너 JVM 기동 시간 단축용 AppCDS 아카이브
+ * - 러너 소스를 실행 컨테이너 안의 JDK 로 1회 컴파일하여 jar 로 묶고,
+ *   학습 실행(SandboxRunner --train, -XX:ArchiveClassesAtExit)으로 동적 CDS 아카이브 생성
+ *   → 학생 코드가 주로 쓰는 클래스(Scanner, 컬렉션, 문자열 포맷 등)와 러너 클래스가 아카이브에 포함
+ * - 결과물은 모든 실행 컨테이너에 읽기 전용으로 마운트된 /app/.runner 에 두어 그대로 사용
+ *   (컨테이너 안에서는 컨테이너별 소켓 디렉토리에만 기록하고, 호스트에서 /app/.runner 로 이동)
+ * - 준비 후 러너는 소스 파일 모드(매 기동마다 javac) 대신 jar + -XX:SharedArchiveFile 로 기동
+ * - 파일 이름에 러너 소스 해시를 붙여 소스가 바뀌면 새로 생성, 같은 호스트의 노드끼리는 파일 락으로 1회만 생성
+ * - 이미 있는 아카이브는 -Xshare:on 으로 1회 검증 (이미지의 JDK 가 바뀌어 쓸 수 없으면 다시 생성)
+ * - 생성 중에 기동하는 러너 / 생성 실패 시에는 기존 소스 파일 모드로 기동
+ */
+@Slf4j
+@Component
+public class RunnerArchive {
+
+    private static final String SOURCE_FILE = "SandboxRunner.java";
+    private static final String MAIN_CLASS = "SandboxRunner";
+    private static final String LOCK_FILE = "cds.lock";
+
+    // 컴파일 / jar / 학습 실행 단계별 최대 시간
+    private static final long STEP_TIMEOUT_MILLIS = 60_000;
+
+    private final FileUtil fileUtil;
+    private final DockerClient dockerClient;
+    private final boolean enabled;
+
+    // 사용 가능한 아카이브의 러너 소스 버전 (null 이면 소스 파일 모드)
+    private volatile String readyVersion;
+    private volatile boolean failed;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    public RunnerArchive(FileUtil fileUtil,
+                         DockerClient dockerClient,
+                         @Value("${compile.runner.cds.enabled:true}") boolean enabled) {
+        this.fileUtil = fileUtil;
+        this.dockerClient = dockerClient;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 러너 기동 직전 호출 : 현재 러너 소스의 아카이브가 없으면 이 컨테이너에서 생성
+     * - 다른 스레드가 생성 중이면 기다리지 않음 (이번 러너는 소스 파일 모드)
+     *
+     * @param jvmOpts 러너 JVM 옵션 (학습 실행에도 같은 옵션 사용)
+     */
+    public void prepare(String containerName, List<String> jvmOpts) {
+        if (!enabled || failed) return;
+
+        String version;
+        try {
+            version = sourceVersion();
+        } catch (IOException e) {
+            log.warn("[CDS] 러너 소스를 읽을 수 없습니다: {}", e.getMessage());
+            return;
+        }
+        if (version.equals(readyVersion) || !building.compareAndSet(false, true)) return;
+
+        long start = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(hostPath(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+
+            if (Files.exists(hostPath(archiveName(version))) && verify(containerName, version, jvmOpts)) {
+                log.info("[CDS] 기존 러너 아카이브 사용 version={}", version);
+            } else {
+                build(containerName, version, jvmOpts);
+                log.info("[CDS] 러너 아카이브 생성 완료 version={}, {}ms", version, System.currentTimeMillis() - start);
+            }
+            readyVersion = version;
+
+        } catch (Exception e) {
+            failed = true;
+            log.warn("[CDS] 러너 아카이브 생성 실패, 소스 파일 모드로 기동합니다: {}", e.getMessage());
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * 러너 기동 명령 (아카이브가 준비되었으면 jar + CDS, 아니면 소스 파일 모드)
+     */
+    public List<String> launchCommand(List<String> jvmOpts, String socketPath) {
+        String version = readyVersion;
+
+        List<String> command = new ArrayList<>();
+        command.add("java");
+        if (version != null) {
+            command.add("-XX:SharedArchiveFile=" + containerPath(archiveName(version)));
+            command.add("-Xshare:auto");
+            command.addAll(jvmOpts);
+            command.add("-cp");
+            command.add(containerPath(jarName(version)));
+            command.add(MAIN_CLASS);
+        } else {
+            command.addAll(jvmOpts);
+            command.add(containerPath(SOURCE_FILE));
+        }
+        command.add(socketPath);
+        return command;
+    }
+
+    /**
+     * 아카이브 생성 (컨테이너 JDK 로 javac → jar → 학습 실행)
+     * - /app/.runner 는 읽기 전용이므로 중간 파일은 이 컨테이너의 소켓 디렉토리에 만들고 호스트에서 이동
+     *   (러너 기동 전이므로 소켓 디렉토리에는 아직 학생 코드가 접근하지 않음)
+     * - jar 는 아카이브에 경로 / 수정 시각이 기록되므로 /app/.runner 로 옮긴 뒤 그 경로로 학습 실행하고,
+     *   한 번 만든 뒤에는 덮어쓰지 않음
+     * - 임시 파일로 만든 뒤 이동하여 다른 노드가 만들다 만 파일을 쓰지 않도록 함
+     */
+    private void build(String containerName, String version, List<String> jvmOpts) throws IOException {
+        String buildDir = "build-" + version;
+        File hostBuildDir = workHostPath(containerName, buildDir).toFile();
+        hostBuildDir.mkdirs();
+        hostBuildDir.setWritable(true, false);
+
+        String jar = jarName(version);
+        String archive = archiveName(version);
+        try {
+            if (!Files.exists(hostPath(jar))) {
+                exec(containerName, List.of("javac", "-encoding", "UTF-8", "-d", workContainerPath(buildDir),
+                        containerPath(SOURCE_FILE)));
+                exec(containerName, List.of("jar", "cf", workContainerPath(jar), "-C", workContainerPath(buildDir), "."));
+                Files.move(workHostPath(containerName, jar), hostPath(jar), StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            List<String> train = new ArrayList<>();
+            train.add("java");
+            train.add("-XX:ArchiveClassesAtExit=" + workContainerPath(archive));
+            train.addAll(jvmOpts);
+            train.addAll(List.of("-cp", containerPath(jar), MAIN_CLASS, "--train"));
+            exec(containerName, train);
+            Files.move(workHostPath(containerName, archive), hostPath(archive),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            File[] files = hostBuildDir.listFiles();
+            if (files != null) {
+                for (File file : files) file.delete();
+            }
+            hostBuildDir.delete();
+            Files.deleteIfExists(workHostPath(containerName, jar));
+            Files.deleteIfExists(workHostPath(containerName, archive));
+        }
+    }
+
+    /**
+     * 기존 아카이브를 이 이미지의 JDK 가 쓸 수 있는지 확인 (-Xshare:on 은 쓸 수 없으면 기동 실패)
+     */
+    private boolean verify(String containerName, String version, List<String> jvmOpts) {
+        List<String> command = new ArrayList<>();
+        command.add("java");
+        command.add("-XX:SharedArchiveFile=" + containerPath(archiveName(version)));
+        command.add("-Xshare:on");
+        command.addAll(jvmOpts);
+        command.addAll(List.of("-cp", containerPath(jarName(version)), MAIN_CLASS, "--train"));
+
+        CmdUtils.ExecutionResult result = dockerClient.exec(containerName, command, STEP_TIMEOUT_MILLIS);
+        if (!result.success()) {
+            log.warn("[CDS] 기존 러너 아카이브를 사용할 수 없어 다시 생성합니다: {}", result.output().trim());
+        }
+        return result.success();
+    }
+
+    private void exec(String containerName, List<String> command) {
+        CmdUtils.ExecutionResult result = dockerClient.exec(containerName, command, STEP_TIMEOUT_MILLIS);
+        if (!result.success()) {
+            throw new IllegalStateException(command.get(0) + " failed: " + result.output().trim());
+        }
+    }
+
+    /**
+     * 설치된 러너 소스의 SHA-256 앞 12자리
+     */
+    private String sourceVersion() throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(hostPath(SOURCE_FILE)));
+            return HexFormat.of().formatHex(digest).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String jarName(String version) {
+        return "SandboxRunner-" + version + ".jar";
+    }
+
+    private static String archiveName(String version) {
+        return "SandboxRunner-" + version + ".jsa";
+    }
+
+    private Path hostPath(String name) {
+        return Path.of(fileUtil.getRunnerPath(), name);
+    }
+
+    private static String containerPath(String name) {
+        return FileUtil.CONTAINER_RUNNER_PATH + "/" + name;
+    }
+
+    /**
+     * 생성 중간 파일 경로 (컨테이너별 소켓 디렉토리, 컨테이너에서 기록 가능)
+     */
+    private Path workHostPath(String containerName, String name) {
+        return Path.of(fileUtil.getSocketPath(containerName), name);
+    }
+
+    private static String workContainerPath(String name) {
+        return FileUtil.CONTAINER_SOCKET_PATH + "/" + name;
+    }
+}
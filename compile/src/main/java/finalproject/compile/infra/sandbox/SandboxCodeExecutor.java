@@ -0,0 +1,205 @@
+package finalproject.compile.infra.sandbox;
+
+import finalproject.compile.application.compile.worker.BatchResult;
+import finalproject.compile.application.compile.worker.CaseResult;
+import finalproject.compile.application.compile.worker.CodeExecutor;
+import finalproject.compile.application.compile.worker.OutputListener;
+import finalproject.compile.application.compile.worker.RunResult;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import finalproject.compile.infra.compiler.CompilationResult;
+import finalproject.compile.infra.compiler.CompiledClassCache;
+import finalproject.compile.infra.compiler.InMemoryJavaCompiler;
+import finalproject.compile.infra.compiler.IncrementalCompiler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실제 실행기 : 인메모리 javac + 컨테이너 풀 러너
+ * - 컴파일은 컨테이너 없이 수행, 동일 소스는 캐시 결과 재사용
+ * - 프로젝트(다중 파일)는 세션별 증분 컴파일 (바뀐 파일과 의존 파일만 다시 컴파일)
+ * - 실행 시에만 풀에서 준비된 컨테이너를 할당받아 사용 후 반납
+ * - 채점은 컨테이너 1개의 러너에서 케이스를 연속 실행 (러너 종료 시 다음 컨테이너에서 이어서 실행)
+ * - 응답 없이 러너가 종료되면 cgroup OOM kill 여부를 확인하여 메모리 초과는 재시도 없이 실패 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "compile.executor", havingValue = "sandbox", matchIfMissing = true)
+public class SandboxCodeExecutor implements CodeExecutor {
+
+    // 러너/컨테이너 오류 시 다른 컨테이너로 재시도할 횟수
+    private static final int MAX_RETRIES = 1;
+
+    // 채점 중 러너가 종료(타임아웃 등)되어 컨테이너를 바꿔 이어서 실행할 최대 횟수
+    // (케이스는 끝났지만 사용자 스레드가 남아 러너가 종료된 경우는 포함하지 않음)
+    private static final int MAX_RUNNER_RESTARTS = 3;
+
+    private static final int CODE_SUCCESS = 0;
+    private static final int CODE_FAILURE = 1;
+    private static final String SKIPPED_MESSAGE = "SKIPPED: 시간 초과가 반복되어 실행하지 않았습니다.";
+    private static final String OOM_MESSAGE = "OOM: 메모리 제한을 초과하여 실행이 중단되었습니다.";
+
+    private final InMemoryJavaCompiler compiler;
+    private final CompiledClassCache compiledClassCache;
+    private final IncrementalCompiler incrementalCompiler;
+    private final ContainerPool containerPool;
+    private final SandboxRunnerClient runnerClient;
+
+    /**
+     * 캐시 조회 후 없을 때만 컴파일
+     * - 동일 소스는 클래스 바이트/컴파일 에러 모두 캐시 결과를 재사용 (컴파일 시간 초과는 캐시하지 않음)
+     */
+    @Override
+    public CompilationResult compile(String fileName, String code) {
+        String cacheKey = compiledClassCache.keyOf(fileName, code);
+
+        CompilationResult cached = compiledClassCache.get(cacheKey);
+        if (cached != null) {
+            log.info("Compile cache hit. key={}", cacheKey);
+            return cached;
+        }
+
+        CompilationResult result = compiler.compile(fileName, code);
+        if (!result.isTimedOut()) {
+            compiledClassCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * 프로젝트 컴파일 (세션별 증분 컴파일, 결과 캐시는 사용하지 않음)
+     */
+    @Override
+    public CompilationResult compileProject(String sessionId, Map<String, String> sources) {
+        return incrementalCompiler.compile(sessionId, sources);
+    }
+
+    /**
+     * 실행 (러너/컨테이너 오류 시 다른 컨테이너로 1회 재시도, 메모리 초과는 재시도하지 않음)
+     */
+    @Override
+    public RunResult run(String className, Map<String, byte[]> classes, long timeoutMillis,
+                                                OutputListener listener) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            ExecutorContainer container = containerPool.acquire();
+            boolean healthy = false;
+            long start = System.currentTimeMillis();
+            try {
+                RunResult result =
+                        runnerClient.run(container.getName(), className, classes, timeoutMillis, listener);
+
+                // 러너가 종료된 경우(타임아웃 등) 컨테이너는 반납 시 폐기 → 백그라운드 재생성
+                healthy = result.alive();
+                return result;
+
+            } catch (IOException e) {
+                // 메모리 제한 초과로 러너가 종료된 경우 사용자 코드 문제 → 재시도 없이 결과 반환
+                if (runnerClient.wasOomKilled(container.getName())) {
+                    return new RunResult(CODE_FAILURE, OOM_MESSAGE, false,
+                            oomUsage(System.currentTimeMillis() - start));
+                }
+
+                // 시스템 오류 발생 시 해당 컨테이너 폐기 후 재시도
+                if (attempt == MAX_RETRIES) {
+                    throw new RuntimeException("Max retries exceeded", e);
+                }
+                log.warn("Runner failure on [{}]. Retrying.", container.getName());
+            } finally {
+                containerPool.release(container, healthy);
+            }
+        }
+    }
+
+    /**
+     * 채점 실행
+     * - 한 컨테이너의 러너에 남은 케이스를 한 번에 전달하여 연속 실행
+     * - 타임아웃으로 러너가 종료되면 컨테이너를 폐기하고 다음 케이스부터 다른 컨테이너에서 이어서 실행
+     * - 러너 종료가 MAX_RUNNER_RESTARTS 회를 넘으면 남은 케이스는 실행하지 않음
+     * - 메모리 초과로 러너가 종료되면 진행 중이던 케이스를 실패 처리하고 다음 케이스부터 이어서 실행
+     * - 케이스 결과를 하나도 받지 못한 채 러너/컨테이너 오류가 나면 run 과 같이 1회 재시도
+     * - 자원 사용량은 사용한 컨테이너 구간을 합산
+     */
+    @Override
+    public BatchResult runCases(String className, Map<String, byte[]> classes,
+                                                    List<String> inputs, long caseTimeoutMillis)
+            throws InterruptedException {
+        List<CaseResult> results = new ArrayList<>(inputs.size());
+        ResourceUsage usage = null;
+        int failures = 0;
+        int restarts = 0;
+
+        while (results.size() < inputs.size()) {
+            if (restarts > MAX_RUNNER_RESTARTS) {
+                for (int i = results.size(); i < inputs.size(); i++) {
+                    results.add(new CaseResult(i, CODE_FAILURE, 0, SKIPPED_MESSAGE));
+                }
+                break;
+            }
+
+            int offset = results.size();
+            ExecutorContainer container = containerPool.acquire();
+            boolean healthy = false;
+            long start = System.currentTimeMillis();
+            try {
+                RunResult result = runnerClient.batch(container.getName(), className, classes,
+                        inputs.subList(offset, inputs.size()), caseTimeoutMillis,
+                        caseResult -> results.add(new CaseResult(offset + caseResult.index(),
+                                caseResult.code(), caseResult.timeMillis(), caseResult.output())));
+
+                healthy = result.alive();
+                if (!healthy && result.code() != CODE_SUCCESS) restarts++;
+                usage = result.usage().plus(usage);
+
+            } catch (IOException e) {
+                if (runnerClient.wasOomKilled(container.getName())) {
+                    results.add(new CaseResult(results.size(), CODE_FAILURE, 0, OOM_MESSAGE));
+                    usage = oomUsage(System.currentTimeMillis() - start).plus(usage);
+                    restarts++;
+                    continue;
+                }
+                if (results.size() == offset && ++failures > MAX_RETRIES) {
+                    throw new RuntimeException("Max retries exceeded", e);
+                }
+                log.warn("Runner failure on [{}] while grading. Resuming from case {}.", container.getName(), results.size());
+            } finally {
+                containerPool.release(container, healthy);
+            }
+        }
+        return new BatchResult(results, usage);
+    }
+
+    /**
+     * 메모리 초과로 러너가 종료된 구간의 사용량 (CPU / 메모리는 측정 불가)
+     */
+    private static ResourceUsage oomUsage(long wallMillis) {
+        return new ResourceUsage(wallMillis, -1, -1, true);
+    }
+
+    /**
+     * 컨테이너 풀 최대 크기만큼 동시 실행
+     */
+    @Override
+    public int getConcurrency() {
+        return containerPool.getMaxSize();
+    }
+
+    /**
+     * 컨테이너 풀이 ready-min 개 이상 준비되면 준비 완료
+     */
+    @Override
+    public boolean isReady() {
+        return containerPool.isReady();
+    }
+
+    @Override
+    public int getWarmCount() {
+        return containerPool.getWarmCount();
+    }
+}
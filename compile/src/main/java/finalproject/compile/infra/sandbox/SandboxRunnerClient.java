@@ -0,0 +1,269 @@
+package finalproject.compile.infra.sandbox;
+
+import finalproject.compile.application.compile.worker.CaseResult;
+import finalproject.compile.application.compile.worker.OutputListener;
+import finalproject.compile.application.compile.worker.RunResult;
+import finalproject.compile.domain.compile.entity.ResourceUsage;
+import finalproject.compile.global.util.CmdUtils;
+import finalproject.compile.infra.docker.DockerClient;
+import finalproject.compile.infra.file.FileUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨테이너 내부 Warm 러너(SandboxRunner)와 통신하는 클라이언트
+ * - 컨테이너마다 러너 JVM 1개를 exec(detach) 로 기동 (CDS 아카이브가 준비되었으면 jar + 아카이브로 기동)
+ * - 컨테이너별로 마운트된 소켓 디렉토리의 /tmp/compiler/.sockets/{컨테이너명}/runner.sock 으로 클래스 바이트 전송
+ * - 작업마다 javac/java 프로세스를 새로 띄우지 않으므로 JVM 기동 비용 제거
+ * - 실행 중 출력(OUTPUT 프레임)은 수신 즉시 OutputListener 로 전달
+ * - 채점 실행(BATCH)의 케이스 결과(CASE 프레임)는 수신 즉시 CaseListener 로 전달
+ * - RESULT 프레임에 포함된 컨테이너 자원 사용량(CPU / 최대 메모리 / OOM)을 RunResult 로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SandboxRunnerClient {
+
+    private final FileUtil fileUtil;
+    private final DockerClient dockerClient;
+    private final RunnerArchive runnerArchive;
+
+    // 러너 소스 (classpath 리소스)
+    private static final String RUNNER_RESOURCE = "sandbox/SandboxRunner.java";
+    private static final String RUNNER_FILE = "SandboxRunner.java";
+
+    // 러너 JVM 옵션 (컨테이너 메모리 512m 안에서 사용자 코드 수용)
+    private static final List<String> RUNNER_JVM_OPTS = List.of("-XX:+UseSerialGC", "-Xmx256m", "-Dfile.encoding=UTF-8");
+
+    // 응답 프레임 종류 (SandboxRunner 와 동일)
+    private static final byte FRAME_OUTPUT = 'O';
+    private static final byte FRAME_RESULT = 'R';
+    private static final byte FRAME_CASE = 'C';
+
+    // 러너 기동 대기 시간
+    private static final long STARTUP_TIMEOUT_MILLIS = 20000;
+
+    // cgroup OOM kill 횟수 조회 (v2 memory.events, 없으면 v1 memory.oom_control)
+    private static final List<String> OOM_KILL_COMMAND = List.of("sh", "-c",
+            "grep -h '^oom_kill ' /sys/fs/cgroup/memory.events /sys/fs/cgroup/memory/memory.oom_control 2>/dev/null");
+    private static final long OOM_CHECK_TIMEOUT_MILLIS = 2000;
+
+    // 응답 대기 여유 시간 (러너 자체 타임아웃 이후 소켓 강제 종료까지)
+    private static final long RESPONSE_GRACE_MILLIS = 2000;
+
+    // 응답이 오지 않는 소켓을 강제로 닫는 감시 스레드
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sandbox-runner-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 컨테이너 내부에 러너를 기동하고 소켓이 응답할 때까지 대기
+     */
+    public void start(String containerName) {
+        // 첫 기동 시 이 컨테이너에서 CDS 아카이브 생성 (이후 기동은 아카이브 사용)
+        runnerArchive.prepare(containerName, RUNNER_JVM_OPTS);
+        dockerClient.execDetached(containerName,
+                runnerArchive.launchCommand(RUNNER_JVM_OPTS, FileUtil.CONTAINER_SOCKET_PATH + "/" + FileUtil.SOCKET_FILE));
+
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                send(containerName, 1000, out -> out.writeUTF("PING"), OutputListener.NONE, CaseListener.NONE);
+                log.info("Runner in [{}] is ready.", containerName);
+                return;
+            } catch (IOException e) {
+                sleepQuietly(200);
+            }
+        }
+        throw new IllegalStateException("Runner did not become ready: " + containerName);
+    }
+
+    /**
+     * 메모리 컴파일된 클래스 바이트를 러너로 전달하여 className.main 실행
+     *
+     * @param listener 실행 중 출력 조각 수신 (종료 전 실시간 전달)
+     */
+    public RunResult run(String containerName, String className, Map<String, byte[]> classes, long timeoutMillis,
+                            OutputListener listener) throws IOException {
+        return send(containerName, timeoutMillis, out -> {
+            out.writeUTF("RUN");
+            writeClasses(out, className, classes);
+            out.writeLong(timeoutMillis);
+        }, listener, CaseListener.NONE);
+    }
+
+    /**
+     * 같은 클래스 바이트로 입력 목록만큼 main 을 반복 실행 (채점용)
+     * - 케이스마다 표준 입력을 교체하고 caseTimeoutMillis 로 개별 타임아웃
+     * - 케이스 결과는 끝나는 순서대로 listener 로 전달
+     * - 타임아웃 등으로 러너가 종료되면(alive=false) 남은 케이스는 실행되지 않음
+     */
+    public RunResult batch(String containerName, String className, Map<String, byte[]> classes, List<String> inputs,
+                              long caseTimeoutMillis, CaseListener listener) throws IOException {
+        return send(containerName, caseTimeoutMillis * inputs.size(), out -> {
+            out.writeUTF("BATCH");
+            writeClasses(out, className, classes);
+            out.writeInt(inputs.size());
+            for (String input : inputs) {
+                byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeLong(caseTimeoutMillis);
+        }, OutputListener.NONE, listener);
+    }
+
+    /**
+     * 클래스 목록 전송 : className(UTF) + count(int) + [name(UTF) + length(int) + bytes] * count
+     */
+    private void writeClasses(DataOutputStream out, String className, Map<String, byte[]> classes) throws IOException {
+        out.writeUTF(className);
+        out.writeInt(classes.size());
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            out.write(entry.getValue());
+        }
+    }
+
+    /**
+     * 요청 1건 전송 후 응답 수신
+     * - 러너가 응답하지 못하면(timeout + 여유시간) 소켓을 닫아 블로킹 해제 → IOException
+     */
+    private RunResult send(String containerName, long timeoutMillis, RequestWriter writer, OutputListener listener,
+                              CaseListener caseListener) throws IOException {
+        Path socketPath = Path.of(fileUtil.getSocketPath(containerName), FileUtil.SOCKET_FILE);
+
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+
+            ScheduledFuture<?> guard = watchdog.schedule(() -> {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }, timeoutMillis + RESPONSE_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+
+            try {
+                DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+                writer.write(out);
+                out.flush();
+
+                DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+
+                // RESULT 프레임이 올 때까지 OUTPUT / CASE 프레임 전달
+                byte frame;
+                while ((frame = in.readByte()) != FRAME_RESULT) {
+                    if (frame == FRAME_OUTPUT) {
+                        byte[] chunk = in.readNBytes(in.readInt());
+                        listener.onOutput(new String(chunk, StandardCharsets.UTF_8));
+                    } else if (frame == FRAME_CASE) {
+                        int index = in.readInt();
+                        int code = in.readInt();
+                        long timeMillis = in.readLong();
+                        byte[] body = in.readNBytes(in.readInt());
+                        caseListener.onCase(new CaseResult(index, code, timeMillis, new String(body, StandardCharsets.UTF_8)));
+                    } else {
+                        throw new IOException("Unexpected runner frame: " + frame);
+                    }
+                }
+
+                int code = in.readInt();
+                boolean alive = in.readBoolean();
+                byte[] body = in.readNBytes(in.readInt());
+
+                long wallMillis = in.readLong();
+                long cpuMicros = in.readLong();
+                long peakMemory = in.readLong();
+                boolean oomKilled = in.readBoolean();
+                ResourceUsage usage = new ResourceUsage(wallMillis, cpuMicros < 0 ? -1 : cpuMicros / 1000, peakMemory, oomKilled);
+
+                return new RunResult(code, new String(body, StandardCharsets.UTF_8), alive, usage);
+            } finally {
+                guard.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 응답 없이 러너가 종료된 경우 원인이 메모리 제한 초과(cgroup OOM kill)인지 확인
+     * - OOM 이 발생한 컨테이너는 폐기되므로 누적 횟수가 0보다 크면 이번 실행에서 발생한 것
+     */
+    public boolean wasOomKilled(String containerName) {
+        try {
+            CmdUtils.ExecutionResult result = dockerClient.exec(containerName, OOM_KILL_COMMAND, OOM_CHECK_TIMEOUT_MILLIS);
+            for (String line : result.output().split("\n")) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length == 2 && Long.parseLong(parts[1]) > 0) {
+                    return true;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("OOM check failed on [{}]: {}", containerName, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 러너 소스를 바인드 마운트 경로에 기록 (컨테이너에서 /app/.runner 로 보임)
+     * - 풀 초기화 시 컨테이너 생성 전에 1회 호출 (병렬 생성 중에는 다시 기록하지 않음)
+     */
+    public void installRunnerSource() {
+        try (InputStream in = new ClassPathResource(RUNNER_RESOURCE).getInputStream()) {
+            fileUtil.writeRunnerFile(RUNNER_FILE, in.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException("Runner Install Failed", e);
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface RequestWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * 채점 케이스 결과 수신
+     */
+    @FunctionalInterface
+    public interface CaseListener {
+
+        CaseListener NONE = result -> { };
+
+        void onCase(CaseResult result);
+    }
+}
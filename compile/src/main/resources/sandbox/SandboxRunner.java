@@ -0,0 +1,725 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 실행 컨테이너 내부에서 상주하는 Warm JVM 러너
+ * - 컴파일 서버가 컨테이너 생성 직후 docker exec -d 로 1회 기동
+ * - Unix Domain Socket(/app/.socket/runner.sock, 컨테이너 전용 디렉토리)으로 작업 수신
+ * - RUN : 컴파일 서버가 메모리에서 컴파일한 클래스 바이트를 받아
+ *         작업마다 새 ClassLoader 로 main 실행, 표준 출력/에러 캡처
+ *         실행 중 출력은 일정 주기로 OUTPUT 프레임으로 먼저 전송 (실시간 출력)
+ * - BATCH : 같은 클래스 바이트를 입력 목록만큼 반복 실행 (채점용, 컴파일/JVM 기동 1회)
+ *         케이스마다 새 ClassLoader + 표준 입력 교체, 케이스별 타임아웃
+ *         케이스가 끝날 때마다 CASE 프레임으로 결과 전송
+ * - 타임아웃/출력 초과 시 응답 후 JVM 을 종료하여 컴파일 서버가 재기동하도록 함
+ * - main 이 끝나도 사용자 스레드 / 공용 ForkJoinPool 작업이 남아 있으면 다음 작업 출력에 섞이므로 응답 후 JVM 종료
+ * - 사용자 코드가 바꾼 JVM 전역 기본값(Locale / TimeZone / 시스템 프로퍼티 등)은 작업이 끝날 때마다 실행 전 상태로 복원
+ * - 요청마다 컨테이너 cgroup 기준 CPU 시간 / 최대 메모리 / OOM kill 여부를 측정하여 RESULT 프레임에 포함
+ * <p>
+ * 컨테이너 안의 JDK 만으로 실행되어야 하므로 외부 의존성 없이 단일 파일로 유지
+ * (CDS 아카이브가 있으면 jar + -XX:SharedArchiveFile 로, 없으면 java SandboxRunner.java 소스 파일 모드로 실행)
+ * - --train : CDS 아카이브 생성용 학습 실행 (학생 코드가 주로 쓰는 클래스를 로딩한 뒤 종료)
+ */
+public class SandboxRunner {
+
+    // 응답 코드
+    private static final int CODE_SUCCESS = 0;
+    private static final int CODE_FAILURE = 1;
+    private static final int CODE_TIMEOUT = 2;
+
+    // 응답 프레임 종류
+    private static final byte FRAME_OUTPUT = 'O';
+    private static final byte FRAME_RESULT = 'R';
+    private static final byte FRAME_CASE = 'C';
+
+    // 실행 중 출력 전송 주기
+    private static final long FLUSH_INTERVAL_MILLIS = 50;
+
+    // 출력 앞부분 / 뒷부분 보관 크기
+    private static final int HEAD_BYTES = 16 * 1024;
+    private static final int TAIL_BYTES = 16 * 1024;
+
+    // 출력 최대 바이트 수 (초과 시 실행 중단)
+    private static final long MAX_OUTPUT_BYTES = 1024 * 1024;
+
+    private static final String OMITTED_MESSAGE = "\n... (%d bytes 생략) ...\n";
+    private static final String TRUNCATED_MESSAGE = "\n... (출력 용량이 너무 커서 중단되었습니다) ...";
+    private static final String TIMEOUT_MESSAGE = "TIMEOUT: 실행 시간이 초과되었습니다. (%d초)";
+
+    // 러너 자체가 사용하는 원본 표준 스트림
+    private static final PrintStream ORIGINAL_OUT = System.out;
+    private static final PrintStream ORIGINAL_ERR = System.err;
+    private static final InputStream ORIGINAL_IN = System.in;
+
+    // 컨테이너 cgroup 경로 (v2 우선, 없으면 v1)
+    private static final Path CGROUP = Path.of("/sys/fs/cgroup");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--train")) {
+            train();
+            return;
+        }
+
+        Path socketPath = Path.of(args[0]);
+        Files.deleteIfExists(socketPath);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+
+            // 호스트의 컴파일 서버(다른 UID)도 접속할 수 있도록 권한 개방
+            Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rwxrwxrwx"));
+            ORIGINAL_OUT.println("[SandboxRunner] listening on " + socketPath);
+
+            // 컨테이너 하나당 워커 하나 → 요청은 순차 처리
+            while (true) {
+                try (SocketChannel channel = server.accept()) {
+                    handle(channel);
+                } catch (IOException e) {
+                    ORIGINAL_ERR.println("[SandboxRunner] connection error: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * CDS 아카이브 학습 실행 (-XX:ArchiveClassesAtExit 와 함께 실행)
+     * - 학생 코드에서 자주 쓰는 입력 / 컬렉션 / 문자열 포맷 / 수학 / 스트림 클래스와 러너 자체 클래스를 로딩
+     * - 종료 시 로딩된 클래스가 아카이브에 기록되어 이후 러너 기동과 첫 실행의 클래스 로딩 시간이 줄어듦
+     */
+    private static void train() throws IOException {
+        BoundedOutput capture = new BoundedOutput(HEAD_BYTES, TAIL_BYTES, MAX_OUTPUT_BYTES);
+        PrintStream out = new PrintStream(capture, true, StandardCharsets.UTF_8);
+
+        Scanner scanner = new Scanner(new ByteArrayInputStream("3 4\nhello world\n1.5\n".getBytes(StandardCharsets.UTF_8)));
+        int a = scanner.nextInt();
+        int b = scanner.nextInt();
+        scanner.nextLine();
+        String line = scanner.nextLine();
+        double d = scanner.nextDouble();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream("5 1 4 2 3\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+        StringTokenizer tokenizer = new StringTokenizer(reader.readLine());
+        List<Integer> numbers = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            numbers.add(Integer.parseInt(tokenizer.nextToken()));
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : line.split(" ")) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        TreeMap<Integer, String> sorted = new TreeMap<>(Comparator.reverseOrder());
+        numbers.forEach(n -> sorted.put(n, String.valueOf(n)));
+        LinkedHashMap<String, Integer> ordered = new LinkedHashMap<>(counts);
+        TreeSet<Integer> set = new TreeSet<>(new HashSet<>(numbers));
+        ArrayDeque<Integer> deque = new ArrayDeque<>(numbers);
+        LinkedList<Integer> linked = new LinkedList<>(numbers);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Collections.reverseOrder());
+        heap.addAll(numbers);
+
+        int[] array = numbers.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(array);
+        Collections.sort(numbers);
+        String joined = numbers.stream().map(String::valueOf).collect(Collectors.joining(", "));
+        int sum = IntStream.rangeClosed(1, 100).filter(n -> n % 2 == 0).sum();
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(a + b).append(' ').append(String.join("-", ordered.keySet())).reverse();
+        BigInteger factorial = BigInteger.ONE;
+        for (int i = 2; i <= 20; i++) {
+            factorial = factorial.multiply(BigInteger.valueOf(i));
+        }
+        BigDecimal ratio = BigDecimal.valueOf(d).setScale(2, RoundingMode.HALF_UP);
+
+        out.printf("%d %.2f %s %s%n", sum, Math.sqrt(Math.pow(a, 2) + Math.pow(b, 2)), joined, builder);
+        out.println(String.format("%5s|%-5s|%05d", set.first(), deque.peekLast(), linked.size()));
+        out.println(sorted.firstKey() + " " + heap.poll() + " " + factorial + " " + ratio + " " + new Random(1).nextInt(10));
+        System.err.print("");
+
+        // 실행 경로의 러너 클래스 (출력 버퍼, 클래스 로더, 남은 작업 확인, 자원 측정)
+        new MemoryClassLoader(Map.of());
+        hasLeftoverWork(Thread.getAllStackTraces().keySet());
+        UsageMeter meter = new UsageMeter();
+        meter.sample();
+        meter.write(new DataOutputStream(OutputStream.nullOutputStream()));
+        ORIGINAL_OUT.println("[SandboxRunner] training done (" + capture.asString().length() + " chars)");
+    }
+
+    /**
+     * 요청 1건 처리
+     * 요청 : op(UTF) + op 별 인자
+     * 응답 : OUTPUT / CASE 프레임 0개 이상 + RESULT 프레임 1개
+     *  - OUTPUT : 'O' + chunk(int 길이 + UTF-8 바이트)
+     *  - CASE   : 'C' + index(int) + code(int) + timeMillis(long) + output(int 길이 + UTF-8 바이트)
+     *  - RESULT : 'R' + code(int) + alive(boolean) + output(int 길이 + UTF-8 바이트)
+     *              + wallMillis(long) + cpuMicros(long) + peakMemoryBytes(long) + oomKilled(boolean)
+     *              (측정할 수 없는 값은 -1)
+     */
+    private static void handle(SocketChannel channel) throws IOException {
+        DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+        DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+
+        String op = in.readUTF();
+        Response response;
+
+        // 요청 데이터 수신 이후부터 응답 직전까지 측정
+        UsageMeter meter;
+        switch (op) {
+            case "RUN" -> {
+                String className = in.readUTF();
+                Map<String, byte[]> classes = readClasses(in);
+                long timeoutMillis = in.readLong();
+                meter = new UsageMeter();
+                response = run(className, classes, InputStream.nullInputStream(), timeoutMillis, out, meter);
+            }
+            case "BATCH" -> {
+                String className = in.readUTF();
+                Map<String, byte[]> classes = readClasses(in);
+                List<byte[]> inputs = readInputs(in);
+                long caseTimeoutMillis = in.readLong();
+                meter = new UsageMeter();
+                response = batch(className, classes, inputs, caseTimeoutMillis, out, meter);
+            }
+            case "PING" -> {
+                meter = new UsageMeter();
+                response = new Response(CODE_SUCCESS, "PONG", true);
+            }
+            default -> {
+                meter = new UsageMeter();
+                response = new Response(CODE_FAILURE, "Unknown op: " + op, true);
+            }
+        }
+        meter.sample();
+
+        byte[] body = response.output.getBytes(StandardCharsets.UTF_8);
+        out.writeByte(FRAME_RESULT);
+        out.writeInt(response.code);
+        out.writeBoolean(response.alive);
+        out.writeInt(body.length);
+        out.write(body);
+        meter.write(out);
+        out.flush();
+
+        // 사용자 스레드가 아직 살아있는 경우 JVM 재사용 불가 → 응답 후 종료
+        if (!response.alive) {
+            channel.close();
+            Runtime.getRuntime().halt(0);
+        }
+    }
+
+    /**
+     * 클래스 목록 수신 : count(int) + [name(UTF) + length(int) + bytes] * count
+     */
+    private static Map<String, byte[]> readClasses(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, byte[]> classes = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            classes.put(name, in.readNBytes(in.readInt()));
+        }
+        return classes;
+    }
+
+    /**
+     * 입력 목록 수신 : count(int) + [length(int) + UTF-8 바이트] * count
+     */
+    private static List<byte[]> readInputs(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<byte[]> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inputs.add(in.readNBytes(in.readInt()));
+        }
+        return inputs;
+    }
+
+    /**
+     * 입력마다 main 을 1회씩 실행하고 CASE 프레임으로 결과 전송
+     * - 케이스마다 새 ClassLoader 를 사용하므로 정적 상태는 케이스 간에 공유되지 않음
+     * - 사용자 스레드가 남은 케이스(타임아웃 등)가 나오면 이후 케이스는 실행하지 않고 JVM 종료
+     *   (컴파일 서버가 다른 컨테이너에서 다음 케이스부터 이어서 실행)
+     * - 케이스는 정상 종료했지만 남은 작업 때문에 종료하는 경우 RESULT 코드는 SUCCESS (타임아웃과 구분)
+     */
+    private static Response batch(String className, Map<String, byte[]> classes, List<byte[]> inputs,
+                                  long caseTimeoutMillis, DataOutputStream out, UsageMeter meter) throws IOException {
+        for (int i = 0; i < inputs.size(); i++) {
+            long start = System.nanoTime();
+            Response result = run(className, classes, new ByteArrayInputStream(inputs.get(i)), caseTimeoutMillis, null,
+                    meter);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            byte[] body = result.output.getBytes(StandardCharsets.UTF_8);
+            out.writeByte(FRAME_CASE);
+            out.writeInt(i);
+            out.writeInt(result.code);
+            out.writeLong(elapsedMillis);
+            out.writeInt(body.length);
+            out.write(body);
+            out.flush();
+
+            if (!result.alive) {
+                return new Response(result.leftover ? CODE_SUCCESS : CODE_TIMEOUT, "", false);
+            }
+        }
+        return new Response(CODE_SUCCESS, "", true);
+    }
+
+    /**
+     * 전달받은 클래스를 일회용 ClassLoader 로 로드하여 main 실행
+     * - 종료를 기다리는 동안 FLUSH_INTERVAL 마다 새로 쌓인 출력을 OUTPUT 프레임으로 전송
+     *   (out 이 null 이면 실시간 전송 없이 종료만 대기)
+     * - 대기 주기마다 컨테이너 메모리 사용량을 샘플링하여 최대값 기록
+     * - main 종료 후 남은 작업(hasLeftoverWork)이 있으면 결과는 그대로 두고 alive=false
+     * - 실행 후 JVM 전역 기본값을 실행 전 상태로 복원 (JvmDefaults)
+     */
+    private static Response run(String className, Map<String, byte[]> classes, InputStream stdin, long timeoutMillis,
+                                DataOutputStream out, UsageMeter meter) {
+        BoundedOutput capture = new BoundedOutput(HEAD_BYTES, TAIL_BYTES, MAX_OUTPUT_BYTES);
+        PrintStream userOut = new PrintStream(capture, true, StandardCharsets.UTF_8);
+        CountDownLatch finished = capture.latch;
+
+        int[] exitCode = {CODE_SUCCESS};
+        Thread userThread;
+        JvmDefaults defaults = JvmDefaults.capture();
+
+        try {
+            MemoryClassLoader loader = new MemoryClassLoader(classes);
+            Class<?> entry = Class.forName(className, false, loader);
+            Method main = entry.getMethod("main", String[].class);
+            if (!Modifier.isStatic(main.getModifiers())) {
+                return new Response(CODE_FAILURE, "main 메서드는 static 이어야 합니다.", true);
+            }
+
+            System.setOut(userOut);
+            System.setErr(userOut);
+            System.setIn(stdin);
+
+            userThread = new Thread(() -> {
+                try {
+                    main.invoke(null, (Object) new String[0]);
+                } catch (InvocationTargetException e) {
+                    exitCode[0] = CODE_FAILURE;
+                    userOut.print("Exception in thread \"main\" ");
+                    trimRunnerFrames(e.getCause()).printStackTrace(userOut);
+                } catch (Throwable t) {
+                    exitCode[0] = CODE_FAILURE;
+                    t.printStackTrace(userOut);
+                } finally {
+                    finished.countDown();
+                }
+            }, "main");
+            userThread.setContextClassLoader(loader);
+            Set<Thread> runnerThreads = Thread.getAllStackTraces().keySet();
+            userThread.start();
+
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            boolean completed = false;
+            while (!completed) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) break;
+
+                completed = finished.await(Math.min(remaining, FLUSH_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+                meter.sample();
+                if (out != null) {
+                    streamOutput(capture, out, completed);
+                }
+            }
+            userOut.flush();
+
+            if (!completed) {
+                return new Response(CODE_TIMEOUT, String.format(TIMEOUT_MESSAGE, timeoutMillis / 1000), false);
+            }
+            if (capture.truncated) {
+                return new Response(CODE_FAILURE, capture.asString() + TRUNCATED_MESSAGE,
+                        !userThread.isAlive() && !hasLeftoverWork(runnerThreads));
+            }
+
+            userThread.join(timeoutMillis);
+            if (hasLeftoverWork(runnerThreads)) {
+                return new Response(exitCode[0], capture.asString(), false, true);
+            }
+            return new Response(exitCode[0], capture.asString(), true);
+
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return new Response(CODE_FAILURE, "Error: Could not find or load main class " + className, true);
+        } catch (Exception e) {
+            return new Response(CODE_FAILURE, "Runner Error: " + e.getMessage(), true);
+        } finally {
+            System.setOut(ORIGINAL_OUT);
+            System.setErr(ORIGINAL_ERR);
+            System.setIn(ORIGINAL_IN);
+            defaults.restore();
+        }
+    }
+
+    /**
+     * main 종료 후에도 남아 있는 사용자 작업 여부
+     * - 실행 전에 없던 스레드가 살아 있음 (데몬 포함, 공용 ForkJoinPool 워커는 아래에서 따로 확인)
+     * - 공용 ForkJoinPool 에 실행 중 / 대기 중인 작업이 있음 (CompletableFuture.runAsync, parallel stream 등)
+     *
+     * @param runnerThreads 사용자 코드 실행 전에 살아 있던 스레드
+     */
+    private static boolean hasLeftoverWork(Set<Thread> runnerThreads) {
+        ForkJoinPool common = ForkJoinPool.commonPool();
+        if (!common.isQuiescent() || common.hasQueuedSubmissions() || common.getQueuedTaskCount() > 0) {
+            return true;
+        }
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (runnerThreads.contains(thread) || !thread.isAlive()) continue;
+            if (thread instanceof ForkJoinWorkerThread worker && worker.getPool() == common) continue;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 아직 전송하지 않은 출력을 OUTPUT 프레임으로 전송
+     * - 연결이 끊긴 경우 이후 전송만 중단 (실행 결과는 그대로 유지)
+     */
+    private static void streamOutput(BoundedOutput capture, DataOutputStream out, boolean all) {
+        byte[] chunk = capture.drain(all);
+        if (chunk.length == 0 || capture.streamFailed) return;
+
+        try {
+            out.writeByte(FRAME_OUTPUT);
+            out.writeInt(chunk.length);
+            out.write(chunk);
+            out.flush();
+        } catch (IOException e) {
+            capture.streamFailed = true;
+        }
+    }
+
+    /**
+     * 리플렉션 호출 이후의 러너 내부 프레임 제거 (java 명령 실행 시와 동일한 스택 트레이스)
+     */
+    private static Throwable trimRunnerFrames(Throwable t) {
+        StackTraceElement[] frames = t.getStackTrace();
+        int end = frames.length;
+        for (int i = 0; i < frames.length; i++) {
+            String className = frames[i].getClassName();
+            if (className.startsWith("jdk.internal.reflect.") || className.startsWith("java.lang.reflect.")) {
+                end = i;
+                break;
+            }
+        }
+        t.setStackTrace(Arrays.copyOf(frames, end));
+        return t;
+    }
+
+    /**
+     * 사용자 코드가 바꿀 수 있는 JVM 전역 기본값 (작업마다 실행 전 값을 저장했다가 복원)
+     * - Locale.setDefault / TimeZone.setDefault / System.setProperty(setProperties) / 기본 UncaughtExceptionHandler
+     * - 복원하지 않으면 이전 학생이 바꾼 값으로 다음 작업의 String.format, 날짜 출력 등이 달라짐
+     */
+    private record JvmDefaults(Locale locale, Locale displayLocale, Locale formatLocale, TimeZone timeZone,
+                               Properties properties, Thread.UncaughtExceptionHandler uncaughtHandler) {
+
+        private static JvmDefaults capture() {
+            return new JvmDefaults(
+                    Locale.getDefault(),
+                    Locale.getDefault(Locale.Category.DISPLAY),
+                    Locale.getDefault(Locale.Category.FORMAT),
+                    TimeZone.getDefault(),
+                    copyOf(System.getProperties()),
+                    Thread.getDefaultUncaughtExceptionHandler()
+            );
+        }
+
+        private void restore() {
+            Locale.setDefault(locale);
+            Locale.setDefault(Locale.Category.DISPLAY, displayLocale);
+            Locale.setDefault(Locale.Category.FORMAT, formatLocale);
+            TimeZone.setDefault(timeZone);
+            System.setProperties(copyOf(properties));
+            Thread.setDefaultUncaughtExceptionHandler(uncaughtHandler);
+        }
+
+        private static Properties copyOf(Properties source) {
+            Properties copy = new Properties();
+            copy.putAll(source);
+            return copy;
+        }
+    }
+
+    /**
+     * 작업 1건 전용 ClassLoader (작업이 끝나면 클래스/정적 상태와 함께 버려짐)
+     */
+    private static final class MemoryClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        private MemoryClassLoader(Map<String, byte[]> classes) {
+            super("job", ClassLoader.getPlatformClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * 고정 크기 출력 버퍼 (앞부분 head + 뒷부분 tail 링 버퍼, 바이트 기준)
+     * - head 를 다 채운 이후 출력은 tail 링 버퍼에 덮어쓰며 보관, 생략된 바이트 수를 정확히 기록
+     * - 누적 출력이 한도를 넘으면 이후 출력은 버리고 latch 를 내려 실행 대기를 즉시 종료
+     * - 실시간 전송은 head 구간만 drain() 으로 전송 (전체 결과는 RESULT / CASE 프레임의 asString())
+     */
+    private static final class BoundedOutput extends OutputStream {
+
+        private final byte[] head;
+        private final byte[] tail;
+        private final long limit;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile boolean truncated;
+        private volatile boolean streamFailed;
+        private int headSize;      // head 에 채워진 바이트 수
+        private long tailWritten;  // tail 링 버퍼에 기록된 누적 바이트 수
+        private long totalBytes;   // 전체 수신 바이트 수 (한도 이후는 미포함)
+        private int streamed;
+
+        private BoundedOutput(int headBytes, int tailBytes, long limit) {
+            this.head = new byte[headBytes];
+            this.tail = new byte[tailBytes];
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if (truncated) return;
+
+            int accepted = (int) Math.min(len, limit - totalBytes);
+            int toHead = Math.min(accepted, head.length - headSize);
+            System.arraycopy(b, off, head, headSize, toHead);
+            headSize += toHead;
+            writeTail(b, off + toHead, accepted - toHead);
+            totalBytes += accepted;
+
+            if (accepted < len) {
+                truncated = true;
+                latch.countDown();
+            }
+        }
+
+        private void writeTail(byte[] b, int off, int len) {
+            if (len > tail.length) {
+                tailWritten += len - tail.length;
+                off += len - tail.length;
+                len = tail.length;
+            }
+            while (len > 0) {
+                int position = (int) (tailWritten % tail.length);
+                int count = Math.min(len, tail.length - position);
+                System.arraycopy(b, off, tail, position, count);
+                tailWritten += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        /**
+         * head 중 전송하지 않은 구간 반환
+         * - UTF-8 문자가 잘리지 않도록 마지막 완성 문자까지만 반환 (all 이고 head 이후 출력이 없으면 끝까지)
+         */
+        private synchronized byte[] drain(boolean all) {
+            int end = all && tailWritten == 0 ? headSize : utf8BoundaryBefore(head, streamed, headSize);
+            byte[] chunk = Arrays.copyOfRange(head, streamed, end);
+            streamed = end;
+            return chunk;
+        }
+
+        /**
+         * 보관된 출력을 UTF-8 문자열로 반환
+         * - 생략 구간이 있으면 head 와 tail 사이에 생략 바이트 수 표시
+         */
+        private synchronized String asString() {
+            long omitted = Math.max(0, tailWritten - tail.length);
+            int tailSize = (int) Math.min(tailWritten, tail.length);
+
+            byte[] tailBytes = new byte[tailSize];
+            int start = (int) (omitted > 0 ? tailWritten % tail.length : 0);
+            System.arraycopy(tail, start, tailBytes, 0, tailSize - start);
+            System.arraycopy(tail, 0, tailBytes, tailSize - start, start);
+
+            if (omitted == 0) {
+                byte[] all = Arrays.copyOf(head, headSize + tailSize);
+                System.arraycopy(tailBytes, 0, all, headSize, tailSize);
+                return new String(all, StandardCharsets.UTF_8);
+            }
+
+            // 멀티바이트 문자가 잘리지 않도록 경계 보정 (잘린 바이트도 생략 수에 포함)
+            int headEnd = utf8BoundaryBefore(head, 0, headSize);
+            int tailStart = utf8BoundaryAfter(tailBytes);
+            int tailEnd = truncated ? utf8BoundaryBefore(tailBytes, tailStart, tailSize) : tailSize;
+            return new String(head, 0, headEnd, StandardCharsets.UTF_8)
+                    + String.format(OMITTED_MESSAGE, omitted + (headSize - headEnd) + tailStart)
+                    + new String(tailBytes, tailStart, tailEnd - tailStart, StandardCharsets.UTF_8);
+        }
+
+        /** start ~ end 구간에서 end 이전 마지막 완성 UTF-8 문자 끝 위치 */
+        private static int utf8BoundaryBefore(byte[] bytes, int start, int end) {
+            int i = end;
+            while (i > start && i > end - 4 && (bytes[i - 1] & 0xC0) == 0x80) i--;
+            if (i > start && (bytes[i - 1] & 0x80) != 0) {
+                int lead = bytes[i - 1] & 0xff;
+                int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+                if (end - (i - 1) < expected) return i - 1;
+            }
+            return end;
+        }
+
+        /** 처음 UTF-8 문자 시작 위치 (앞쪽의 이어지는 바이트 건너뜀) */
+        private static int utf8BoundaryAfter(byte[] bytes) {
+            int i = 0;
+            while (i < bytes.length && i < 3 && (bytes[i] & 0xC0) == 0x80) i++;
+            return i;
+        }
+    }
+
+    /**
+     * 요청 1건의 자원 사용량 측정
+     * - CPU    : cgroup 누적 CPU 시간 차이 (v2 cpu.stat usage_usec / v1 cpuacct.usage), 없으면 JVM 프로세스 CPU 시간
+     * - 메모리 : cgroup 현재 사용량(memory.current / memory.usage_in_bytes)을 샘플링한 최대값, 없으면 JVM 힙 사용량
+     *           러너 JVM 자체 사용량을 포함한 컨테이너 전체 값 (--memory 산정 기준)
+     * - OOM    : memory.events 의 oom_kill 증가 여부
+     */
+    private static final class UsageMeter {
+
+        private final long startNanos = System.nanoTime();
+        private final long startCpuMicros = cpuMicros();
+        private final long startOomKills = oomKills();
+        private long peakMemory = memoryBytes();
+
+        private void sample() {
+            peakMemory = Math.max(peakMemory, memoryBytes());
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            long cpu = cpuMicros();
+            long oomKills = oomKills();
+            out.writeLong((System.nanoTime() - startNanos) / 1_000_000);
+            out.writeLong(cpu < 0 || startCpuMicros < 0 ? -1 : cpu - startCpuMicros);
+            out.writeLong(peakMemory);
+            out.writeBoolean(oomKills > startOomKills);
+        }
+
+        private static long cpuMicros() {
+            long usage = readKey(CGROUP.resolve("cpu.stat"), "usage_usec");
+            if (usage >= 0) return usage;
+            usage = readLong(CGROUP.resolve("cpuacct/cpuacct.usage"));
+            if (usage >= 0) return usage / 1000;
+            return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                    ? os.getProcessCpuTime() / 1000 : -1;
+        }
+
+        private static long memoryBytes() {
+            long current = readLong(CGROUP.resolve("memory.current"));
+            if (current >= 0) return current;
+            current = readLong(CGROUP.resolve("memory/memory.usage_in_bytes"));
+            if (current >= 0) return current;
+            Runtime runtime = Runtime.getRuntime();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+
+        private static long oomKills() {
+            long kills = readKey(CGROUP.resolve("memory.events"), "oom_kill");
+            return kills >= 0 ? kills : readKey(CGROUP.resolve("memory/memory.oom_control"), "oom_kill");
+        }
+
+        private static long readLong(Path path) {
+            try {
+                return Long.parseLong(Files.readString(path).trim());
+            } catch (IOException | NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        /**
+         * "key value" 줄 형식 파일에서 값 조회
+         */
+        private static long readKey(Path path, String key) {
+            try {
+                for (String line : Files.readAllLines(path)) {
+                    if (line.startsWith(key + " ")) {
+                        return Long.parseLong(line.substring(key.length() + 1).trim());
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                return -1;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * @param leftover main 은 끝났지만 남은 작업 때문에 JVM 을 재사용할 수 없음 (alive=false)
+     */
+    private record Response(int code, String output, boolean alive, boolean leftover) {
+
+        private Response(int code, String output, boolean alive) {
+            this(code, output, alive, false);
+        }
+    }
+}
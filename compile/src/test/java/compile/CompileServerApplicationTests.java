@@ -1,13 +0,0 @@
-package compile;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-class CompileServerApplicationTests {
-
-	@Test
-	void contextLoads() {
-	}
-
-}
@@ -0,0 +1,32 @@
+package finalproject.compile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 전체 컨텍스트 기동 확인
+ * - Docker 없이 가짜 실행기로 기동, 시작 시 Redis 연결이 필요하므로 Redis(localhost:6380)가 떠 있을 때만 실행
+ */
+@SpringBootTest(properties = "compile.executor=fake")
+@EnabledIf("redisAvailable")
+class CompileServerApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+	static boolean redisAvailable() {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress("localhost", 6380), 200);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+}
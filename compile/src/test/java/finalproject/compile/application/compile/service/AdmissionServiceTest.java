@@ -0,0 +1,115 @@
+package finalproject.compile.application.compile.service;
+
+import finalproject.compile.infra.cluster.WorkerRegistry;
+import finalproject.compile.infra.queue.JobQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AdmissionService 예상 완료 시간 / 거절
+ * - eta = (순번 - 1) / 실행 슬롯 수 * 추정 처리 시간 + 추정 처리 시간
+ * - eta 가 max-wait 를 넘으면 거절 (강사 실행 제외), Retry-After 는 초과분 올림
+ */
+class AdmissionServiceTest {
+
+    private static final long QUEUE_CACHED = 60_000;
+
+    private final JobQueue jobQueue = mock(JobQueue.class);
+    private final WorkerRegistry workerRegistry = mock(WorkerRegistry.class);
+
+    @Test
+    void etaScalesWithQueuePositionAndSlots() {
+        when(jobQueue.size()).thenReturn(4L);
+        AdmissionService admission = admission(2, 1000, 15_000);
+
+        AdmissionService.Decision decision = admission.admit(false);
+
+        assertThat(decision.admitted()).isTrue();
+        assertThat(decision.position()).isEqualTo(5);
+        assertThat(decision.etaMillis()).isEqualTo(3000);
+        assertThat(decision.retryAfterSeconds()).isZero();
+    }
+
+    @Test
+    void rejectsWhenEtaExceedsMaxWait() {
+        when(jobQueue.size()).thenReturn(40L);
+        AdmissionService admission = admission(2, 1000, 15_000);
+
+        AdmissionService.Decision decision = admission.admit(false);
+
+        // 40 / 2 * 1000 + 1000 = 21000ms → 6초 초과
+        assertThat(decision.admitted()).isFalse();
+        assertThat(decision.position()).isEqualTo(41);
+        assertThat(decision.etaMillis()).isEqualTo(21_000);
+        assertThat(decision.retryAfterSeconds()).isEqualTo(6);
+
+        // 거절된 요청은 큐 길이 추정에 더하지 않음
+        assertThat(admission.admit(false).position()).isEqualTo(41);
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        when(jobQueue.size()).thenReturn(1L);
+        AdmissionService admission = admission(1, 1000, 1_999);
+
+        AdmissionService.Decision decision = admission.admit(false);
+
+        assertThat(decision.admitted()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void priorityIsAlwaysAdmitted() {
+        when(jobQueue.size()).thenReturn(1_000L);
+        AdmissionService admission = admission(1, 1000, 15_000);
+
+        AdmissionService.Decision decision = admission.admit(true);
+
+        assertThat(decision.admitted()).isTrue();
+        assertThat(decision.position()).isEqualTo(1_001);
+    }
+
+    @Test
+    void admittedJobsAdvancePositionUntilRefresh() {
+        when(jobQueue.size()).thenReturn(0L);
+        AdmissionService admission = admission(1, 1000, 15_000);
+
+        assertThat(admission.admit(false).position()).isEqualTo(1);
+        assertThat(admission.admit(false).position()).isEqualTo(2);
+        assertThat(admission.admit(true).position()).isEqualTo(3);
+        verify(jobQueue, times(1)).size();
+    }
+
+    @Test
+    void serviceTimeIsSmoothed() {
+        when(jobQueue.size()).thenReturn(0L);
+        AdmissionService admission = admission(1, 1000, 15_000);
+
+        admission.recordServiceTime(2000);
+        admission.recordServiceTime(0);
+        admission.recordServiceTime(-5);
+
+        // 0.2 * 2000 + 0.8 * 1000
+        assertThat(admission.admit(false).etaMillis()).isEqualTo(1200);
+    }
+
+    @Test
+    void clusterSlotsAreUsedWhenNotFixed() {
+        when(jobQueue.size()).thenReturn(8L);
+        when(workerRegistry.getClusterSlots()).thenReturn(4);
+        assertThat(admission(0, 1000, 15_000).admit(false).etaMillis()).isEqualTo(3000);
+
+        // 등록된 노드가 없으면 슬롯 1개로 계산
+        when(workerRegistry.getClusterSlots()).thenReturn(0);
+        assertThat(admission(0, 1000, 15_000).admit(false).etaMillis()).isEqualTo(9000);
+    }
+
+    private AdmissionService admission(int slots, long serviceMillis, long maxWaitMillis) {
+        return new AdmissionService(jobQueue, workerRegistry, slots, serviceMillis, maxWaitMillis, QUEUE_CACHED);
+    }
+}
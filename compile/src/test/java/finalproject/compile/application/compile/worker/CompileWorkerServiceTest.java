@@ -0,0 +1,42 @@
+package finalproject.compile.application.compile.worker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채점 기대 출력 비교 (CompileWorkerService.outputMatches)
+ * - 줄바꿈 종류 / 줄 끝 공백 / 마지막 빈 줄 차이는 통과
+ * - 그 외 공백 / 빈 줄 / 내용 차이는 실패
+ */
+class CompileWorkerServiceTest {
+
+    @Test
+    void lineEndingDifferencesMatch() {
+        assertThat(CompileWorkerService.outputMatches("1\n2\n3", "1\r\n2\r\n3")).isTrue();
+        assertThat(CompileWorkerService.outputMatches("1\n2", "1\r2")).isTrue();
+    }
+
+    @Test
+    void trailingWhitespaceAndFinalNewlinesMatch() {
+        assertThat(CompileWorkerService.outputMatches("1 2 3", "1 2 3 \n")).isTrue();
+        assertThat(CompileWorkerService.outputMatches("a\nb", "a\t\nb  \n\n\n")).isTrue();
+        assertThat(CompileWorkerService.outputMatches("a\n\n", "a")).isTrue();
+    }
+
+    @Test
+    void emptyAndNullOutputMatch() {
+        assertThat(CompileWorkerService.outputMatches(null, "")).isTrue();
+        assertThat(CompileWorkerService.outputMatches("", "\n \n")).isTrue();
+        assertThat(CompileWorkerService.outputMatches(null, "0")).isFalse();
+    }
+
+    @Test
+    void otherDifferencesFail() {
+        assertThat(CompileWorkerService.outputMatches("1 2", "1  2")).isFalse();
+        assertThat(CompileWorkerService.outputMatches("1", " 1")).isFalse();
+        assertThat(CompileWorkerService.outputMatches("a\nb", "a\n\nb")).isFalse();
+        assertThat(CompileWorkerService.outputMatches("Hello", "hello")).isFalse();
+        assertThat(CompileWorkerService.outputMatches("1\n2", "1")).isFalse();
+    }
+}
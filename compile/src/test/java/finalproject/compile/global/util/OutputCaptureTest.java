@@ -0,0 +1,93 @@
+package finalproject.compile.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutputCapture head / tail 보관과 생략 바이트 계산
+ * - 한도 도달 시 콜백 1회 + 이후 출력 무시
+ * - 멀티바이트 문자가 head / tail 경계에서 잘리지 않는지
+ */
+class OutputCaptureTest {
+
+    @Test
+    void shortOutputIsKeptAsIs() {
+        OutputCapture capture = new OutputCapture(4, 4, 1024, null);
+        write(capture, "012345");
+
+        assertThat(capture.getTotalBytes()).isEqualTo(6);
+        assertThat(capture.getOmittedBytes()).isZero();
+        assertThat(capture.toText()).isEqualTo("012345");
+    }
+
+    @Test
+    void middleIsOmittedWithExactCount() {
+        OutputCapture capture = new OutputCapture(4, 4, 1024, null);
+        write(capture, "0123456789AB");
+
+        assertThat(capture.getTotalBytes()).isEqualTo(12);
+        assertThat(capture.getOmittedBytes()).isEqualTo(4);
+        assertThat(capture.toText()).isEqualTo("0123\n... (4 bytes 생략) ...\n89AB");
+    }
+
+    @Test
+    void singleByteWritesMatchBulkWrites() {
+        OutputCapture bulk = new OutputCapture(3, 5, 1024, null);
+        OutputCapture single = new OutputCapture(3, 5, 1024, null);
+        String text = "The quick brown fox";
+
+        write(bulk, text);
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            single.write(b);
+        }
+
+        assertThat(single.toText()).isEqualTo(bulk.toText());
+        assertThat(single.getOmittedBytes()).isEqualTo(bulk.getOmittedBytes()).isEqualTo(11);
+    }
+
+    @Test
+    void hardLimitStopsCaptureAndFiresOnce() {
+        AtomicInteger fired = new AtomicInteger();
+        OutputCapture capture = new OutputCapture(4, 4, 10, fired::incrementAndGet);
+
+        write(capture, "0123456789ABCDE");
+        write(capture, "more");
+
+        assertThat(fired).hasValue(1);
+        assertThat(capture.isLimitReached()).isTrue();
+        assertThat(capture.getTotalBytes()).isEqualTo(10);
+        assertThat(capture.getOmittedBytes()).isEqualTo(2);
+        assertThat(capture.toText())
+                .startsWith("0123\n... (2 bytes 생략) ...\n6789")
+                .endsWith("(출력 용량이 너무 커서 중단되었습니다. 한도 10 bytes) ...");
+    }
+
+    @Test
+    void multiByteCharactersAreNotSplitAtBoundaries() {
+        // 가 나 다 라 마 : 각 3 bytes, head 는 '가' + '나' 첫 바이트, tail 은 '라' 마지막 바이트 + '마'
+        OutputCapture capture = new OutputCapture(4, 4, 1024, null);
+        write(capture, "가나다라마");
+
+        assertThat(capture.getOmittedBytes()).isEqualTo(7);
+        // 잘린 '나' 1 byte + '라' 1 byte 까지 생략 수에 포함 → 3 + 9 + 3 = 15
+        assertThat(capture.toText()).isEqualTo("가\n... (9 bytes 생략) ...\n마");
+    }
+
+    @Test
+    void truncatedTailAtHardLimitDropsPartialCharacter() {
+        // 한도 8 bytes 에서 '나' 가 2 bytes 만 들어온 상태로 중단 → tail 은 '가' 까지만
+        OutputCapture capture = new OutputCapture(2, 5, 8, null);
+        write(capture, "abc가나");
+
+        assertThat(capture.toText()).startsWith("ab\n... (1 bytes 생략) ...\n가\n... (출력 용량이");
+    }
+
+    private static void write(OutputCapture capture, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        capture.write(bytes, 0, bytes.length);
+    }
+}
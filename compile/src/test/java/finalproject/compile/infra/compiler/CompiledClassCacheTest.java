@@ -0,0 +1,52 @@
+package finalproject.compile.infra.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompiledClassCache.keyOf 정규화
+ * - 줄바꿈 종류 / 줄 끝 공백 / 마지막 빈 줄은 같은 키
+ * - 내용 / 들여쓰기 / 파일명이 다르면 다른 키
+ */
+class CompiledClassCacheTest {
+
+    private static final String CODE = "public class Main {\n    public static void main(String[] args) {\n        System.out.println(\"hi\");\n    }\n}";
+
+    private final CompiledClassCache cache = new CompiledClassCache(null, 16, 60);
+
+    @Test
+    void lineEndingsAreNormalized() {
+        String key = cache.keyOf("Main.java", CODE);
+
+        assertThat(cache.keyOf("Main.java", CODE.replace("\n", "\r\n"))).isEqualTo(key);
+        assertThat(cache.keyOf("Main.java", CODE.replace("\n", "\r"))).isEqualTo(key);
+    }
+
+    @Test
+    void trailingWhitespaceAndBlankLinesAreIgnored() {
+        String key = cache.keyOf("Main.java", CODE);
+
+        assertThat(cache.keyOf("Main.java", CODE.replace("\n", "  \t\n"))).isEqualTo(key);
+        assertThat(cache.keyOf("Main.java", CODE + "\n\n\n")).isEqualTo(key);
+        assertThat(cache.keyOf("Main.java", CODE + "\r\n  \r\n")).isEqualTo(key);
+    }
+
+    @Test
+    void meaningfulDifferencesChangeTheKey() {
+        String key = cache.keyOf("Main.java", CODE);
+
+        assertThat(cache.keyOf("Main.java", CODE.replace("hi", "hi "))).isNotEqualTo(key);
+        assertThat(cache.keyOf("Main.java", "  " + CODE)).isNotEqualTo(key);
+        assertThat(cache.keyOf("Main.java", CODE.replace("\n", "\n\n"))).isNotEqualTo(key);
+        assertThat(cache.keyOf("Other.java", CODE)).isNotEqualTo(key);
+    }
+
+    @Test
+    void keyIsStableSha256Hex() {
+        String key = cache.keyOf("Main.java", CODE);
+
+        assertThat(key).hasSize(64).matches("[0-9a-f]+");
+        assertThat(new CompiledClassCache(null, 1, 1).keyOf("Main.java", CODE)).isEqualTo(key);
+    }
+}
@@ -0,0 +1,132 @@
+package finalproject.compile.infra.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IncrementalCompiler 재컴파일 대상 판단
+ * - 바뀐 파일 + 그 파일의 타입을 (전이적으로) 참조하는 파일만 다시 컴파일
+ * - 삭제된 파일의 타입을 참조하는 파일은 다시 컴파일 (오류 노출)
+ * - 실패한 컴파일은 세션 상태를 바꾸지 않음
+ */
+class IncrementalCompilerTest {
+
+    private static final String BASE = "public class Base { public static int value() { return 1; } }";
+    private static final String MIDDLE = "public class Middle { public static int twice() { return Base.value() * 2; } }";
+    private static final String MAIN = "public class Main { public static void main(String[] a) { System.out.println(Middle.twice()); } }";
+    private static final String ALONE = "public class Alone { }";
+
+    private final RecordingCompiler compiler = new RecordingCompiler();
+    private final IncrementalCompiler incremental = new IncrementalCompiler(compiler, 10, 30);
+
+    @Test
+    void unchangedProjectSkipsCompilation() {
+        Map<String, String> sources = project();
+        assertThat(incremental.compile("s1", sources).isSuccess()).isTrue();
+
+        CompilationResult again = incremental.compile("s1", sources);
+
+        assertThat(again.isSuccess()).isTrue();
+        assertThat(again.getClasses()).containsOnlyKeys("Base", "Middle", "Main", "Alone");
+        assertThat(compiler.calls).hasSize(1);
+    }
+
+    @Test
+    void changedFileRecompilesTransitiveDependents() {
+        incremental.compile("s1", project());
+
+        Map<String, String> sources = project();
+        sources.put("Base.java", BASE.replace("return 1", "return 2"));
+        CompilationResult result = incremental.compile("s1", sources);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(compiler.lastCall()).containsExactlyInAnyOrder("Base.java", "Middle.java", "Main.java");
+        assertThat(result.getClasses()).containsOnlyKeys("Base", "Middle", "Main", "Alone");
+    }
+
+    @Test
+    void leafChangeRecompilesOnlyThatFile() {
+        incremental.compile("s1", project());
+
+        Map<String, String> sources = project();
+        sources.put("Alone.java", "public class Alone { int x; }");
+        CompilationResult result = incremental.compile("s1", sources);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(compiler.lastCall()).containsExactly("Alone.java");
+        assertThat(result.getClasses()).containsOnlyKeys("Base", "Middle", "Main", "Alone");
+    }
+
+    @Test
+    void removedFileInvalidatesReferencingFiles() {
+        incremental.compile("s1", project());
+
+        Map<String, String> sources = project();
+        sources.remove("Base.java");
+        CompilationResult result = incremental.compile("s1", sources);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(compiler.lastCall()).containsExactlyInAnyOrder("Middle.java", "Main.java");
+    }
+
+    @Test
+    void failedCompileKeepsLastSuccessfulState() {
+        incremental.compile("s1", project());
+
+        Map<String, String> broken = project();
+        broken.put("Base.java", "public class Base { oops }");
+        assertThat(incremental.compile("s1", broken).isSuccess()).isFalse();
+
+        // 마지막 성공 상태 기준 → 원래 소스로 돌아오면 변경 없음
+        assertThat(incremental.compile("s1", project()).isSuccess()).isTrue();
+        assertThat(compiler.calls).hasSize(2);
+    }
+
+    @Test
+    void sessionsAreIndependent() {
+        incremental.compile("s1", project());
+        incremental.compile("s2", project());
+        incremental.compile(null, project());
+
+        assertThat(compiler.calls).hasSize(3);
+        assertThat(compiler.calls).allSatisfy(call -> assertThat(call).hasSize(4));
+    }
+
+    private static Map<String, String> project() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("Base.java", BASE);
+        sources.put("Middle.java", MIDDLE);
+        sources.put("Main.java", MAIN);
+        sources.put("Alone.java", ALONE);
+        return sources;
+    }
+
+    /**
+     * 실제 javac 로 컴파일하면서 매 호출의 소스 경로를 기록
+     */
+    private static final class RecordingCompiler extends InMemoryJavaCompiler {
+
+        private final List<Set<String>> calls = new ArrayList<>();
+
+        private RecordingCompiler() {
+            super(30_000, 200_000, 4, 1);
+        }
+
+        @Override
+        public Compilation compile(Map<String, String> sources, Map<String, byte[]> classpath) {
+            calls.add(Set.copyOf(sources.keySet()));
+            return super.compile(sources, classpath);
+        }
+
+        private Set<String> lastCall() {
+            return calls.get(calls.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package finalproject.compile.infra.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SourceSymbols 수집
+ * - 선언 타입 (중첩 포함) / package 이름 / 참조 식별자
+ * - 주석 / 문자열 / 문자 / 텍스트 블록 안의 이름은 참조로 보지 않음
+ */
+class SourceSymbolsTest {
+
+    @Test
+    void collectsPackageAndDeclaredTypes() {
+        SourceSymbols symbols = SourceSymbols.of("""
+                package com.example.shop;
+
+                public class Order {
+                    interface Line {}
+                    enum Status { OPEN }
+                    record Item(String name) {}
+                }
+                """);
+
+        assertThat(symbols.packageName()).isEqualTo("com.example.shop");
+        assertThat(symbols.declared()).containsExactlyInAnyOrder("Order", "Line", "Status", "Item");
+    }
+
+    @Test
+    void defaultPackageIsEmpty() {
+        assertThat(SourceSymbols.of("class Main {}").packageName()).isEmpty();
+    }
+
+    @Test
+    void referencesIgnoreCommentsAndLiterals() {
+        SourceSymbols symbols = SourceSymbols.of("""
+                class Main {
+                    // Helper 는 나중에 사용
+                    /* Util.run(); */
+                    String a = "Printer";
+                    char b = 'x';
+                    String c = \"""
+                            Formatter
+                            \""";
+                    String d = "escaped \\" Escaped";
+                    Counter counter = new Counter();
+                }
+                """);
+
+        assertThat(symbols.references(Set.of("Counter"))).isTrue();
+        assertThat(symbols.references(Set.of("Helper", "Util", "Printer", "Formatter", "Escaped"))).isFalse();
+    }
+
+    @Test
+    void classLiteralIsNotADeclaration() {
+        SourceSymbols symbols = SourceSymbols.of("class Main { Object type = Other.class; }");
+
+        assertThat(symbols.declared()).containsExactly("Main");
+        assertThat(symbols.references(Set.of("Other"))).isTrue();
+    }
+}
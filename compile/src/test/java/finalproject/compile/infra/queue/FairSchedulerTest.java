@@ -0,0 +1,93 @@
+package finalproject.compile.infra.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FairScheduler 처리 순서
+ * - 클래스 간 DRR (quantum 만큼씩 번갈아), 클래스 내 사용자 라운드 로빈
+ * - 우선 처리 레인은 항상 먼저
+ */
+class FairSchedulerTest {
+
+    @Test
+    void classesAlternateWithQuantumOne() {
+        FairScheduler<String> scheduler = new FairScheduler<>(1);
+        offer(scheduler, "A", "u1", "a1", "a2", "a3");
+        offer(scheduler, "B", "u2", "b1", "b2");
+
+        assertThat(drain(scheduler)).containsExactly("a1", "b1", "a2", "b2", "a3");
+    }
+
+    @Test
+    void eachVisitServesUpToQuantum() {
+        FairScheduler<String> scheduler = new FairScheduler<>(2);
+        offer(scheduler, "A", "u1", "a1", "a2", "a3", "a4");
+        offer(scheduler, "B", "u2", "b1", "b2", "b3");
+
+        assertThat(drain(scheduler)).containsExactly("a1", "a2", "b1", "b2", "a3", "a4", "b3");
+    }
+
+    @Test
+    void usersWithinClassAreRoundRobin() {
+        FairScheduler<String> scheduler = new FairScheduler<>(1);
+        offer(scheduler, "A", "u1", "x1", "x2", "x3");
+        offer(scheduler, "A", "u2", "y1");
+
+        assertThat(drain(scheduler)).containsExactly("x1", "y1", "x2", "x3");
+    }
+
+    @Test
+    void emptiedClassRejoinsAtTailWithoutCredit() {
+        FairScheduler<String> scheduler = new FairScheduler<>(2);
+        offer(scheduler, "A", "u1", "a1");
+        offer(scheduler, "B", "u2", "b1", "b2", "b3");
+
+        assertThat(scheduler.poll()).isEqualTo("a1");
+        offer(scheduler, "A", "u1", "a2");
+
+        assertThat(drain(scheduler)).containsExactly("b1", "b2", "a2", "b3");
+    }
+
+    @Test
+    void priorityLaneGoesFirst() {
+        FairScheduler<String> scheduler = new FairScheduler<>(1);
+        offer(scheduler, "A", "u1", "a1", "a2");
+        scheduler.offer("B", "teacher", true, "p1");
+        scheduler.offer(null, "teacher", true, "p2");
+
+        assertThat(scheduler.size()).isEqualTo(4);
+        assertThat(drain(scheduler)).containsExactly("p1", "p2", "a1", "a2");
+        assertThat(scheduler.size()).isZero();
+        assertThat(scheduler.poll()).isNull();
+    }
+
+    @Test
+    void jobsWithoutClassShareDefaultQueue() {
+        FairScheduler<String> scheduler = new FairScheduler<>(1);
+        offer(scheduler, null, "u1", "n1", "n2");
+        offer(scheduler, "A", "u2", "a1");
+
+        assertThat(scheduler.snapshot()).containsExactlyInAnyOrder("n1", "n2", "a1");
+        assertThat(drain(scheduler)).containsExactly("n1", "a1", "n2");
+    }
+
+    private static void offer(FairScheduler<String> scheduler, String classId, String userId, String... items) {
+        for (String item : items) {
+            scheduler.offer(classId, userId, false, item);
+        }
+    }
+
+    private static List<String> drain(FairScheduler<String> scheduler) {
+        List<String> order = new ArrayList<>();
+        String item;
+        while ((item = scheduler.poll()) != null) {
+            order.add(item);
+        }
+        return order;
+    }
+}
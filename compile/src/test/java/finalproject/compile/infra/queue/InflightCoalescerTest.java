@@ -0,0 +1,237 @@
+package finalproject.compile.infra.queue;
+
+import finalproject.compile.domain.compile.entity.CompileJob;
+import finalproject.compile.domain.compile.entity.ProjectFile;
+import finalproject.compile.domain.compile.entity.TestCase;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InflightCoalescer 등록 / 해제 Lua 스크립트
+ * - 실제 스크립트를 Lua 인터프리터 + 메모리 Redis 명령(LuaRedis)으로 실행
+ * - leader 1건만 실행, 같은 입력은 대기자로 등록, leader 만 해제 가능
+ */
+class InflightCoalescerTest {
+
+    private static final long TTL = 60_000;
+
+    private final LuaRedis redis = new LuaRedis();
+    private final InflightCoalescer coalescer = new InflightCoalescer(redis.template(), true, TTL);
+
+    @Test
+    void firstJobClaimsAndIdenticalJobsWait() {
+        CompileJob leader = job("job-1", "class Main {}");
+        CompileJob waiter1 = job("job-2", "class Main {}");
+        CompileJob waiter2 = job("job-3", "class Main {}");
+
+        assertThat(coalescer.attachOrClaim(leader)).isFalse();
+        assertThat(leader.getCoalesceKey()).isEqualTo(InflightCoalescer.keyOf(leader));
+        assertThat(redis.strings).containsValue("job-1");
+
+        assertThat(coalescer.attachOrClaim(waiter1)).isTrue();
+        assertThat(coalescer.attach(waiter2)).isTrue();
+        assertThat(waiter1.getCoalesceKey()).isNull();
+        assertThat(redis.ttl).containsValue(TTL);
+
+        assertThat(coalescer.release(leader)).extracting(CompileJob::getJobId).containsExactly("job-2", "job-3");
+        assertThat(redis.strings).isEmpty();
+        assertThat(redis.lists).isEmpty();
+    }
+
+    @Test
+    void attachWithoutLeaderDoesNothing() {
+        assertThat(coalescer.attach(job("job-1", "class Main {}"))).isFalse();
+        assertThat(redis.strings).isEmpty();
+        assertThat(redis.lists).isEmpty();
+    }
+
+    @Test
+    void releaseAllowsNextJobToLead() {
+        CompileJob first = job("job-1", "class Main {}");
+        coalescer.attachOrClaim(first);
+        assertThat(coalescer.release(first)).isEmpty();
+
+        CompileJob next = job("job-2", "class Main {}");
+        assertThat(coalescer.attach(next)).isFalse();
+        assertThat(coalescer.attachOrClaim(next)).isFalse();
+        assertThat(redis.strings).containsValue("job-2");
+    }
+
+    @Test
+    void onlyCurrentLeaderCanRelease() {
+        CompileJob stale = job("job-1", "class Main {}");
+        coalescer.attachOrClaim(stale);
+
+        // TTL 만료 후 다른 작업이 leader 가 된 상황
+        redis.strings.replaceAll((key, value) -> "job-9");
+        coalescer.attach(job("job-2", "class Main {}"));
+
+        assertThat(coalescer.release(stale)).isEmpty();
+        assertThat(redis.strings).containsValue("job-9");
+        assertThat(redis.lists.values()).singleElement().asList().hasSize(1);
+    }
+
+    @Test
+    void differentInputsDoNotCoalesce() {
+        CompileJob run = job("job-1", "class Main {}");
+        CompileJob grade = job("job-2", "class Main {}");
+        grade.setTestCases(List.of(new TestCase("1", "1")));
+        CompileJob otherCase = job("job-3", "class Main {}");
+        otherCase.setTestCases(List.of(new TestCase("2", "2")));
+
+        assertThat(coalescer.attachOrClaim(run)).isFalse();
+        assertThat(coalescer.attachOrClaim(grade)).isFalse();
+        assertThat(coalescer.attachOrClaim(otherCase)).isFalse();
+        assertThat(redis.strings).hasSize(3);
+    }
+
+    @Test
+    void keyKeepsFieldBoundaries() {
+        CompileJob a = job("job-1", "");
+        a.setFiles(List.of(new ProjectFile("a", "bc")));
+        CompileJob b = job("job-2", "");
+        b.setFiles(List.of(new ProjectFile("ab", "c")));
+
+        assertThat(InflightCoalescer.keyOf(a)).isNotEqualTo(InflightCoalescer.keyOf(b));
+        assertThat(InflightCoalescer.keyOf(job("x", "class A {}")))
+                .isEqualTo(InflightCoalescer.keyOf(job("y", "class A {}")));
+    }
+
+    @Test
+    void disabledOrFailingRedisRunsNormally() {
+        InflightCoalescer disabled = new InflightCoalescer(redis.template(), false, TTL);
+        assertThat(disabled.attachOrClaim(job("job-1", "class Main {}"))).isFalse();
+        assertThat(redis.strings).isEmpty();
+
+        redis.failing = true;
+        CompileJob job = job("job-2", "class Main {}");
+        assertThat(coalescer.attachOrClaim(job)).isFalse();
+        assertThat(job.getCoalesceKey()).isNull();
+        assertThat(coalescer.attach(job)).isFalse();
+    }
+
+    private static CompileJob job(String jobId, String code) {
+        return new CompileJob(jobId, code, "http://localhost/callback");
+    }
+
+    /**
+     * 스크립트가 쓰는 Redis 명령만 구현한 메모리 Redis (Lua 변환 규칙은 Redis 와 동일)
+     * - 정수 응답 → number, 상태 응답 → {ok=...}, nil → false, 목록 → table
+     * - 작업 객체는 토큰 문자열로 저장했다가 결과에서 다시 객체로 변환
+     */
+    private static final class LuaRedis {
+
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<String, List<String>> lists = new HashMap<>();
+        private final Map<String, Long> ttl = new HashMap<>();
+        private final Map<String, CompileJob> jobs = new HashMap<>();
+        private boolean failing;
+
+        private RedisTemplate<String, Object> template() {
+            return new RedisTemplate<>() {
+                @Override
+                public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+                    if (failing) throw new IllegalStateException("redis down");
+                    return script.getResultType().cast(eval(script.getScriptAsString(), keys, args));
+                }
+            };
+        }
+
+        private Object eval(String script, List<String> keys, Object... args) {
+            Globals globals = JsePlatform.standardGlobals();
+            LuaTable redis = new LuaTable();
+            redis.set("call", new VarArgFunction() {
+                @Override
+                public Varargs invoke(Varargs call) {
+                    return command(call);
+                }
+            });
+            globals.set("redis", redis);
+            globals.set("KEYS", array(keys));
+
+            List<String> argv = new ArrayList<>();
+            for (Object arg : args) {
+                if (arg instanceof CompileJob job) {
+                    jobs.put("job:" + job.getJobId(), job);
+                    argv.add("job:" + job.getJobId());
+                } else {
+                    argv.add(String.valueOf(arg));
+                }
+            }
+            globals.set("ARGV", array(argv));
+
+            LuaValue result = globals.load(script).call();
+            if (result.isnumber()) return result.tolong();
+            if (result.istable()) {
+                List<Object> values = new ArrayList<>();
+                for (int i = 1; i <= result.length(); i++) {
+                    String value = result.get(i).tojstring();
+                    values.add(jobs.getOrDefault(value, null) != null ? jobs.get(value) : value);
+                }
+                return values;
+            }
+            return null;
+        }
+
+        private LuaValue command(Varargs call) {
+            String name = call.arg1().tojstring().toUpperCase();
+            String key = call.arg(2).tojstring();
+            return switch (name) {
+                case "EXISTS" -> LuaValue.valueOf(strings.containsKey(key) || lists.containsKey(key) ? 1 : 0);
+                case "GET" -> strings.containsKey(key) ? LuaValue.valueOf(strings.get(key)) : LuaValue.FALSE;
+                case "SET" -> {
+                    // SET key value NX PX ms
+                    if (strings.containsKey(key)) yield LuaValue.FALSE;
+                    strings.put(key, call.arg(3).tojstring());
+                    ttl.put(key, call.arg(6).tolong());
+                    LuaTable ok = new LuaTable();
+                    ok.set("ok", "OK");
+                    yield ok;
+                }
+                case "RPUSH" -> {
+                    List<String> list = lists.computeIfAbsent(key, k -> new ArrayList<>());
+                    list.add(call.arg(3).tojstring());
+                    yield LuaValue.valueOf(list.size());
+                }
+                case "PEXPIRE" -> {
+                    boolean exists = strings.containsKey(key) || lists.containsKey(key);
+                    if (exists) ttl.put(key, call.arg(3).tolong());
+                    yield LuaValue.valueOf(exists ? 1 : 0);
+                }
+                case "LRANGE" -> array(lists.getOrDefault(key, List.of()));
+                case "DEL" -> {
+                    int removed = 0;
+                    for (int i = 2; i <= call.narg(); i++) {
+                        String target = call.arg(i).tojstring();
+                        ttl.remove(target);
+                        if (strings.remove(target) != null | lists.remove(target) != null) removed++;
+                    }
+                    yield LuaValue.valueOf(removed);
+                }
+                default -> throw new IllegalArgumentException("Unsupported command: " + name);
+            };
+        }
+
+        private static LuaTable array(List<String> values) {
+            LuaTable table = new LuaTable();
+            for (int i = 0; i < values.size(); i++) {
+                table.set(i + 1, LuaValue.valueOf(values.get(i)));
+            }
+            return table;
+        }
+    }
+}